@@ -0,0 +1,19 @@
+package com.my.backend.config;
+
+import com.my.backend.service.AdminService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+// 관리자 대시보드 통계 초기 집계
+@Component
+@RequiredArgsConstructor
+public class AdminMetricsInitializer implements CommandLineRunner {
+
+    private final AdminService adminService;
+
+    @Override
+    public void run(String... args) {
+        adminService.reconcileMetrics();
+    }
+}
@@ -3,15 +3,25 @@ package com.my.backend.config;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Configuration
 public class AwsS3Config {
 
+    private static final long MB = 1024L * 1024L;
+
     @Value("${cloud.aws.credentials.access-key}")
     private String accessKey;
 
@@ -21,12 +31,57 @@ public class AwsS3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // S3 호환 로컬 서버 (MinIO, LocalStack 등) 주소 - 비우면 AWS S3 사용
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${cloud.aws.s3.transfer.threads:16}")
+    private int transferThreads;
+
+    @Value("${cloud.aws.s3.transfer.multipart-threshold-mb:8}")
+    private long multipartThresholdMb;
+
+    @Value("${cloud.aws.s3.transfer.part-size-mb:5}")
+    private long partSizeMb;
+
     @Bean
     public AmazonS3 amazonS3Client() {
         BasicAWSCredentials awsCreds = new BasicAWSCredentials(accessKey, secretKey);
-        return AmazonS3ClientBuilder.standard()
-                .withRegion(region)
-                .withCredentials(new AWSStaticCredentialsProvider(awsCreds))
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(awsCreds));
+
+        if (endpoint != null && !endpoint.isBlank()) {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                    .withPathStyleAccessEnabled(true);
+        } else {
+            builder.withRegion(region);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 멀티파트 업로드용 TransferManager
+     * - 임계값 이상 파일은 part 단위로 병렬 전송
+     * - 모든 요청이 하나의 고정 크기 스레드 풀을 공유 → 전체 동시 전송 수 제한
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public TransferManager transferManager(AmazonS3 amazonS3) {
+        return TransferManagerBuilder.standard()
+                .withS3Client(amazonS3)
+                .withMultipartUploadThreshold(multipartThresholdMb * MB)
+                .withMinimumUploadPartSize(partSizeMb * MB)
+                .withExecutorFactory(() -> newTransferExecutor(transferThreads))
+                .withShutDownThreadPools(true)
                 .build();
     }
+
+    private static ExecutorService newTransferExecutor(int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, "s3-transfer-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(threads, factory);
+    }
 }
@@ -0,0 +1,22 @@
+package com.my.backend.config;
+
+import com.my.backend.service.UserBanService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+// 활성 제재 메모리 레지스트리 초기 적재 (이후 BanExpiryScheduler 가 매분 동기화)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BanRegistryInitializer implements CommandLineRunner {
+
+    private final UserBanService userBanService;
+
+    @Override
+    public void run(String... args) {
+        int loaded = userBanService.syncBanRegistry();
+        log.info("활성 제재 적재 완료: {}건", loaded);
+    }
+}
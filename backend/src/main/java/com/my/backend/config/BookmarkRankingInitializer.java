@@ -0,0 +1,23 @@
+package com.my.backend.config;
+
+import com.my.backend.service.BookMarkService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 중복 찜 정리 + 유니크 키 확인 → 찜 수 컬럼 보정 + 찜 순위 초기 적재
+// 유니크 키 보정이 포함되어 있어 @Order 없는 적재 초기화보다 먼저 실행
+@Order(3)
+@Component
+@RequiredArgsConstructor
+public class BookmarkRankingInitializer implements CommandLineRunner {
+
+    private final BookMarkService bookMarkService;
+
+    @Override
+    public void run(String... args) {
+        bookMarkService.ensureUniqueKey();
+        bookMarkService.loadBookmarkRanking();
+    }
+}
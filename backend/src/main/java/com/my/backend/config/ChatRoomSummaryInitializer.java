@@ -0,0 +1,27 @@
+package com.my.backend.config;
+
+import com.my.backend.service.ChattingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 채팅방 요약 컬럼(lastMessage/lastMessageAt) 도입 이전 데이터 보정
+// 메모리 적재 초기화보다 먼저 실행 (@Order 없는 초기화는 가장 나중에 실행됨)
+@Slf4j
+@Order(1)
+@Component
+@RequiredArgsConstructor
+public class ChatRoomSummaryInitializer implements CommandLineRunner {
+
+    private final ChattingService chattingService;
+
+    @Override
+    public void run(String... args) {
+        int updated = chattingService.backfillChatRoomSummaries();
+        if (updated > 0) {
+            log.info("채팅방 요약 보정 완료: {}개", updated);
+        }
+    }
+}
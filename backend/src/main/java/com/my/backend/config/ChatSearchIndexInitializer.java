@@ -0,0 +1,22 @@
+package com.my.backend.config;
+
+import com.my.backend.service.ChattingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 관리자 채팅 검색용 FULLTEXT(ngram) 색인 확인/생성 (ddl-auto 로는 생성되지 않음)
+// 색인 DDL 은 채팅방 요약 보정 다음, 메모리 적재 전에 실행
+@Order(2)
+@Component
+@RequiredArgsConstructor
+public class ChatSearchIndexInitializer implements CommandLineRunner {
+
+    private final ChattingService chattingService;
+
+    @Override
+    public void run(String... args) {
+        chattingService.ensureSearchIndexes();
+    }
+}
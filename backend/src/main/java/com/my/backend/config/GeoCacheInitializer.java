@@ -0,0 +1,19 @@
+package com.my.backend.config;
+
+import com.my.backend.service.GeoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+// 주소 변환 캐시 파일 적재
+@Component
+@RequiredArgsConstructor
+public class GeoCacheInitializer implements CommandLineRunner {
+
+    private final GeoService geoService;
+
+    @Override
+    public void run(String... args) {
+        geoService.loadCache();
+    }
+}
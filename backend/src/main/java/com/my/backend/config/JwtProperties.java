@@ -6,6 +6,9 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @Setter
 @Component
@@ -14,4 +17,5 @@ public class JwtProperties {
     private String secret;
     private long accessTokenExpiration;   // maps from access-token-expiration
     private long refreshTokenExpiration;  // maps from refresh-token-expiration
+    private List<String> publicRoutes = new ArrayList<>(); // JWT 검사 제외 경로 (PublicRouteMatcher)
 }
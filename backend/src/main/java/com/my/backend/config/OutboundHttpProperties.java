@@ -0,0 +1,35 @@
+package com.my.backend.config;
+
+import com.my.backend.httpclient.OutboundTarget;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "outbound")
+public class OutboundHttpProperties {
+    private int maxConnections = 200;            // 공유 커넥션 풀 크기
+    private long pendingAcquireTimeoutMs = 2000; // 풀에서 커넥션 대기 최대 시간
+    private long maxIdleTimeMs = 30000;          // 유휴 커넥션 정리 기준
+    private Map<OutboundTarget, Target> targets = new EnumMap<>(OutboundTarget.class);
+
+    public Target target(OutboundTarget target) {
+        return targets.getOrDefault(target, new Target());
+    }
+
+    @Getter
+    @Setter
+    public static class Target {
+        private int connectTimeoutMs = 3000;
+        private long responseTimeoutMs = 10000;
+        private int maxConcurrent = 20;     // 동시 호출 한도 (bulkhead)
+        private int failureThreshold = 5;   // 서킷 오픈 기준 연속 실패 수
+        private long openDurationMs = 30000; // 서킷 오픈 유지 시간
+    }
+}
@@ -0,0 +1,19 @@
+package com.my.backend.config;
+
+import com.my.backend.service.ProductService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+// 판매중 상품 위치 색인 초기 적재
+@Component
+@RequiredArgsConstructor
+public class ProductLocationIndexInitializer implements CommandLineRunner {
+
+    private final ProductService productService;
+
+    @Override
+    public void run(String... args) {
+        productService.loadLocationIndex();
+    }
+}
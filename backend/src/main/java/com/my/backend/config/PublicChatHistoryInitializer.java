@@ -0,0 +1,19 @@
+package com.my.backend.config;
+
+import com.my.backend.service.ChattingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+// 공개 채팅 최근 메시지 버퍼 초기 적재
+@Component
+@RequiredArgsConstructor
+public class PublicChatHistoryInitializer implements CommandLineRunner {
+
+    private final ChattingService chattingService;
+
+    @Override
+    public void run(String... args) {
+        chattingService.loadPublicChatHistory();
+    }
+}
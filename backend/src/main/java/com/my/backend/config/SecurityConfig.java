@@ -4,6 +4,7 @@ import java.util.List;
 
 import com.my.backend.oauth2.CookieOAuth2AuthorizationRequestRepository;
 import com.my.backend.oauth2.OAuth2FailureHandler;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -24,8 +25,12 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.my.backend.myjwt.JWTFilter;
 import com.my.backend.myjwt.JWTUtil;
+import com.my.backend.myjwt.JwtFilterMetrics;
+import com.my.backend.myjwt.PublicRouteMatcher;
 import com.my.backend.myjwt.LoginFilter;
 import com.my.backend.oauth2.OAuth2SuccessHandler;
+import com.my.backend.ratelimit.RateLimitFilter;
+import com.my.backend.ratelimit.RateLimitService;
 import com.my.backend.service.CustomOAuth2UserService;
 
 @Configuration
@@ -34,6 +39,9 @@ public class SecurityConfig {
 
     private final AuthenticationConfiguration authenticationConfiguration;
     private final JWTUtil jwtUtil;
+    private final JwtFilterMetrics jwtFilterMetrics;
+    private final PublicRouteMatcher publicRouteMatcher;
+    private final RateLimitService rateLimitService;
     private final OAuth2FailureHandler oAuth2FailureHandler;
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
     private final CustomOAuth2UserService customOAuth2UserService;
@@ -43,6 +51,9 @@ public class SecurityConfig {
     public SecurityConfig(
             AuthenticationConfiguration authenticationConfiguration,
             JWTUtil jwtUtil,
+            JwtFilterMetrics jwtFilterMetrics,
+            PublicRouteMatcher publicRouteMatcher,
+            RateLimitService rateLimitService,
             OAuth2FailureHandler oAuth2FailureHandler,
             OAuth2SuccessHandler oAuth2SuccessHandler,
             CustomOAuth2UserService customOAuth2UserService,
@@ -50,6 +61,9 @@ public class SecurityConfig {
     ) {
         this.authenticationConfiguration = authenticationConfiguration;
         this.jwtUtil = jwtUtil;
+        this.jwtFilterMetrics = jwtFilterMetrics;
+        this.publicRouteMatcher = publicRouteMatcher;
+        this.rateLimitService = rateLimitService;
         this.oAuth2SuccessHandler = oAuth2SuccessHandler;
         this.customOAuth2UserService = customOAuth2UserService;
         this.oAuth2FailureHandler = oAuth2FailureHandler;
@@ -114,6 +128,8 @@ public class SecurityConfig {
 
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // 비동기 응답 재디스패치 (최초 요청에서 이미 인가됨)
+                        .requestMatchers(publicRouteMatcher).permitAll() // jwt.public-routes (JWTFilter 스킵 경로와 동일)
                         .requestMatchers("/api/articles/**").permitAll() // Moved to top
                         .requestMatchers("/ai/**").permitAll()
                         .requestMatchers("/oauth2/**", "/login/oauth2/**").permitAll()
@@ -159,7 +175,10 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 )
 
-                .addFilterBefore(new JWTFilter(jwtUtil),
+                // 요청 제한: 인증/DB 처리 이전에 차단 (같은 위치에 먼저 등록되어 JWTFilter/LoginFilter 보다 앞)
+                .addFilterBefore(new RateLimitFilter(rateLimitService),
+                        UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JWTFilter(jwtUtil, jwtFilterMetrics, publicRouteMatcher),
                         UsernamePasswordAuthenticationFilter.class)
                 .addFilterAt(loginFilter, UsernamePasswordAuthenticationFilter.class)
 
@@ -0,0 +1,22 @@
+package com.my.backend.config;
+
+import com.my.backend.service.ReviewService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+// 판매자 평점 집계 초기 적재
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SellerRatingIndexInitializer implements CommandLineRunner {
+
+    private final ReviewService reviewService;
+
+    @Override
+    public void run(String... args) {
+        int loaded = reviewService.loadRatingIndex();
+        log.info("판매자 평점 집계 적재 완료: {}명", loaded);
+    }
+}
@@ -1,20 +1,39 @@
 package com.my.backend.controller;
 
+import com.my.backend.dto.AdminChatRoomListDto;
 import com.my.backend.dto.BanRequestDto;
 import com.my.backend.dto.BanResponseDto;
 import com.my.backend.dto.BanStatusDto;
+import com.my.backend.dto.CursorPageDto;
+import com.my.backend.dto.DailyStatsDto;
+import com.my.backend.dto.PrivateChatDto;
+import com.my.backend.dto.PublicChatDto;
 import com.my.backend.dto.auth.CustomUserDetails;
+import com.my.backend.httpclient.OutboundHttpClient;
+import com.my.backend.myjwt.JWTUtil;
+import com.my.backend.myjwt.JwtFilterMetrics;
+import com.my.backend.myjwt.PublicRouteMatcher;
 import com.my.backend.service.AdminService;
+import com.my.backend.service.BoardPageCache;
+import com.my.backend.service.BookmarkRanking;
+import com.my.backend.service.ChattingService;
+import com.my.backend.service.CommentThreadCache;
+import com.my.backend.service.GeoService;
+import com.my.backend.service.ImageDerivativeService;
+import com.my.backend.service.PortOneWebhookProcessor;
+import com.my.backend.service.QRCodeService;
 import com.my.backend.service.UserService;
 import com.my.backend.service.UserBanService;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.security.access.AccessDeniedException;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -27,12 +46,120 @@ public class AdminController {
     private final AdminService adminService;
     private final UserService userService;
     private final UserBanService userBanService;
+    private final JwtFilterMetrics jwtFilterMetrics;
+    private final JWTUtil jwtUtil;
+    private final PublicRouteMatcher publicRouteMatcher;
+    private final OutboundHttpClient outboundHttpClient;
+    private final GeoService geoService;
+    private final ImageDerivativeService imageDerivativeService;
+    private final QRCodeService qrCodeService;
+    private final BookmarkRanking bookmarkRanking;
+    private final PortOneWebhookProcessor portOneWebhookProcessor;
+    private final BoardPageCache boardPageCache;
+    private final CommentThreadCache commentThreadCache;
+    private final ChattingService chattingService;
 
     @GetMapping("/admin/stats")
     public Map<String, Long> getStats() {
         return adminService.getStats();
     }
 
+    // 일별 통계 (차트용: 신규 유저/상품/신고, 결제 건수/GMV, 진행 중 경매, 미처리 신고)
+    @GetMapping("/admin/stats/daily")
+    public List<DailyStatsDto> getDailyStats(@RequestParam(defaultValue = "30") int days) {
+        return adminService.getDailyStats(days);
+    }
+
+    // JWT 필터 처리 통계 (요청 수, 평균 오버헤드, 클레임 캐시 적중률, 공개 경로별 스킵 수)
+    @GetMapping("/admin/metrics/jwt")
+    public Map<String, Object> getJwtMetrics() {
+        return jwtFilterMetrics.snapshot(jwtUtil, publicRouteMatcher);
+    }
+
+    // 외부 HTTP 호출 통계 (대상별 호출 수, 실패/거절, 서킷 상태, 지연 시간)
+    @GetMapping("/admin/metrics/outbound")
+    public Map<String, Object> getOutboundMetrics() {
+        return outboundHttpClient.snapshot();
+    }
+
+    // 주소 변환 캐시 통계 (적중률, 외부 호출 수, 대기열 거절 수)
+    @GetMapping("/admin/metrics/geo")
+    public Map<String, Object> getGeoMetrics() {
+        return geoService.cacheStats();
+    }
+
+    // 이미지 축소본 생성 통계 (처리/재사용/실패/대기열)
+    @GetMapping("/admin/metrics/images")
+    public Map<String, Object> getImageDerivativeMetrics() {
+        return imageDerivativeService.stats();
+    }
+
+    // QR 코드 PNG 캐시 통계
+    @GetMapping("/admin/metrics/qrcode")
+    public Map<String, Object> getQRCodeMetrics() {
+        return qrCodeService.cacheStats();
+    }
+
+    // 찜 수 카운터/순위 통계
+    @GetMapping("/admin/metrics/bookmarks")
+    public Map<String, Object> getBookmarkMetrics() {
+        return bookmarkRanking.stats();
+    }
+
+    // 웹훅 대기열 통계
+    @GetMapping("/admin/metrics/payments")
+    public Map<String, Object> getPaymentMetrics() {
+        return Map.of("webhook", portOneWebhookProcessor.stats());
+    }
+
+    // 게시판 첫 페이지 캐시 / 댓글 트리 캐시 통계
+    @GetMapping("/admin/metrics/boards")
+    public Map<String, Object> getBoardMetrics() {
+        return Map.of(
+                "firstPages", boardPageCache.stats(),
+                "commentThreads", commentThreadCache.stats()
+        );
+    }
+
+    // ----------------- 채팅 -----------------
+    // 채팅방 최근 활동순 커서 조회 (productId / userId / from~to 필터 선택)
+    @GetMapping("/admin/chats/rooms/page")
+    public CursorPageDto<AdminChatRoomListDto> getAdminChatRoomPage(
+            @RequestParam(required = false) Long productId,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "30") int size) {
+        return chattingService.getAdminChatRoomPage(productId, userId, from, to, cursorAt, cursorId, size);
+    }
+
+    // 채팅 최신순 커서 검색 (cursorId 미만)
+    @GetMapping("/admin/chats/search/public/page")
+    public CursorPageDto<PublicChatDto> searchPublicChatPage(@RequestParam String keyword,
+                                                             @RequestParam(required = false) Long cursorId,
+                                                             @RequestParam(defaultValue = "30") int size) {
+        return chattingService.searchPublicChatPage(keyword, cursorId, size);
+    }
+
+    @GetMapping("/admin/chats/search/private/page")
+    public CursorPageDto<PrivateChatDto> searchPrivateChatPage(@RequestParam String keyword,
+                                                               @RequestParam(required = false) Long cursorId,
+                                                               @RequestParam(defaultValue = "30") int size) {
+        return chattingService.searchPrivateChatPage(keyword, cursorId, size);
+    }
+
+    // 채팅방 메시지 최신순 커서 조회 ((createdAt, id) 커서)
+    @GetMapping("/admin/chats/messages/{chatRoomId}/page")
+    public CursorPageDto<PrivateChatDto> getPrivateChatPageByRoomId(
+            @PathVariable Long chatRoomId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "50") int size) {
+        return chattingService.getPrivateChatPageByRoomId(chatRoomId, cursorAt, cursorId, size);
+    }
+
     // ----------------- 밴 -----------------
     // 공개채팅 유저 밴
     @PostMapping("/ban/{userId}")
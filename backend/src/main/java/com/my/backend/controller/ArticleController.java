@@ -16,9 +16,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.my.backend.dto.ArticleDto;
+import com.my.backend.dto.CursorPageDto;
 import com.my.backend.enums.ArticleType;
 import com.my.backend.service.ArticleService;
 import com.my.backend.service.NotificationService;
@@ -49,6 +51,16 @@ public class ArticleController {
         return ResponseEntity.ok(articlePage);
     }
 
+    // 최신순 커서 조회 (cursorId 미만, articleType / userId 필터 선택)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDto<ArticleDto>> getArticleCursorPage(
+            @RequestParam(required = false) ArticleType articleType,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(articleService.getArticleCursorPage(articleType, userId, cursorId, size));
+    }
+
     // 단건 조회
     @GetMapping("/{id}")
     public ResponseEntity<ArticleDto> getArticle(@PathVariable Long id) {
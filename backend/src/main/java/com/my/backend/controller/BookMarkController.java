@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.*;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/bookmarks")
@@ -60,6 +61,22 @@ public class BookMarkController {
         return ResponseEntity.ok(bookmarked);
     }
 
+    /**
+     * 🔹 로그인 유저 기준 여러 상품 찜 여부 한 번에 확인 (최대 100개)
+     */
+    @GetMapping("/check/bulk")
+    public ResponseEntity<Map<Long, Boolean>> getBookMarkedStatus(
+            HttpServletRequest request,
+            @RequestParam List<Long> productIds
+    ) {
+        Long userId = getUserIdFromRequest(request);
+        if (userId == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        return ResponseEntity.ok(bookMarkService.getBookMarkedStatus(userId, productIds));
+    }
+
     /**
      * 🔹 로그인 유저 기준 찜한 상품 목록 조회 (마이페이지)
      */
@@ -2,12 +2,14 @@ package com.my.backend.controller;
 
 import com.my.backend.dto.RAGRequest;
 import com.my.backend.dto.RAGResponse;
+import com.my.backend.httpclient.OutboundHttpClient;
+import com.my.backend.httpclient.OutboundTarget;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @RestController
@@ -18,38 +20,34 @@ public class ChatController {
     @Value("${rag.api.url}")
     private String ragApiUrl;
 
-    private final RestTemplate restTemplate;
+    private final OutboundHttpClient outboundHttpClient;
 
+    // 비동기 응답: RAG 서버 응답 대기 중 요청 스레드를 점유하지 않음
     @PostMapping("/query")
-    public ResponseEntity<RAGResponse> query(@RequestBody RAGRequest request) {
-        try {
-            log.info("RAG 질의 요청: {}", request.getQuery());
-
-            String url = ragApiUrl + "/chat";
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            HttpEntity<RAGRequest> entity = new HttpEntity<>(request, headers);
-
-            RAGResponse response = restTemplate.postForObject(
-                    url,
-                    entity,
-                    RAGResponse.class
-            );
-
-            log.info("RAG 응답 성공");
-            return ResponseEntity.ok(response);
-
-        } catch (Exception e) {
-            log.error("RAG 질의 실패: {}", e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(null);
-        }
+    public Mono<ResponseEntity<RAGResponse>> query(@RequestBody RAGRequest request) {
+        log.info("RAG 질의 요청: {}", request.getQuery());
+
+        String url = ragApiUrl + "/chat";
+
+        return outboundHttpClient.call(OutboundTarget.AI, client -> client.post()
+                        .uri(url)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(request)
+                        .retrieve()
+                        .bodyToMono(RAGResponse.class))
+                .map(response -> {
+                    log.info("RAG 응답 성공");
+                    return ResponseEntity.ok(response);
+                })
+                .onErrorResume(e -> {
+                    log.error("RAG 질의 실패: {}", e.getMessage(), e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .<RAGResponse>body(null));
+                });
     }
 
     @GetMapping("/health")
     public ResponseEntity<String> health() {
         return ResponseEntity.ok("Chat service is running");
     }
-}
\ No newline at end of file
+}
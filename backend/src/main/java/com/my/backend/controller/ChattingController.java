@@ -1,12 +1,16 @@
 package com.my.backend.controller;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import com.my.backend.dto.*;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -22,9 +26,12 @@ public class ChattingController {
     private final ChattingService chatService;
 
     // ===================== 공개 채팅 조회 =====================
+    // 버퍼에 저장된 프레임을 그대로 반환 (재직렬화 없음)
     @GetMapping("/public/recent")
-    public ResponseEntity<List<PublicChatDto>> getRecentPublicChats() {
-        return ResponseEntity.ok(chatService.getRecentPublicChats());
+    public ResponseEntity<String> getRecentPublicChats() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(chatService.getRecentPublicChatsJson());
     }
     // 채팅할 유저 조회
     @GetMapping("/users")
@@ -37,9 +44,19 @@ public class ChattingController {
         }
     }
 
+    // 채팅할 유저 커서 조회 (nickName: 닉네임 접두사, cursorNickName: 이전 페이지 nextCursorKey)
+    @GetMapping("/users/page")
+    public ResponseEntity<CursorPageDto<SimpleUserDto>> getUserPage(
+            @RequestParam(required = false) String nickName,
+            @RequestParam(required = false) String cursorNickName,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "30") int size) {
+        return ResponseEntity.ok(chatService.getUserPage(nickName, cursorNickName, cursorId, size));
+    }
+
     @GetMapping("/public")
-    public List<PublicChatDto> getPublicChats() {
-        return chatService.getRecentPublicChats();
+    public ResponseEntity<String> getPublicChats() {
+        return getRecentPublicChats();
     }
 
     // [추가] 일반 유저가 참여 중인 채팅방 목록 조회 (판매자 또는 구매자 입장)
@@ -49,6 +66,12 @@ public class ChattingController {
         return ResponseEntity.ok(chatService.getMyChatRooms(userId));
     }
 
+    // 채팅방 읽음 처리 (해당 사용자의 안 읽음 수 초기화)
+    @PostMapping("/private/rooms/{chatRoomId}/read")
+    public ResponseEntity<Void> markChatRoomRead(@PathVariable Long chatRoomId, @RequestParam Long userId) {
+        chatService.markChatRoomRead(chatRoomId, userId);
+        return ResponseEntity.ok().build();
+    }
 
     @GetMapping("/private/room")
     public ResponseEntity<List<PrivateChatDto>> getPrivateChatsByRoom(
@@ -74,6 +97,21 @@ public class ChattingController {
         );
     }
 
+    // 커서 기반 개인 채팅 조회 (cursorAt/cursorId 이전 메시지)
+    @GetMapping("/private/messages/page")
+    public ResponseEntity<CursorPageDto<PrivateChatDto>> getMessagePage(
+            @RequestParam Long userId,
+            @RequestParam Long targetUserId,
+            @RequestParam Long productId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "30") int size) {
+
+        return ResponseEntity.ok(
+                chatService.getPrivateChatPage(userId, targetUserId, productId, cursorAt, cursorId, size)
+        );
+    }
+
     // ===================== Admin: 채팅 검색 =====================
     @GetMapping("/admin/search/public")
     public ResponseEntity<List<PublicChatDto>> searchPublicChats(@RequestParam String keyword) {
@@ -105,6 +143,7 @@ public class ChattingController {
         return ResponseEntity.ok(chatService.getAllAdminChatRooms());
     }
 
+
     // ===================== Admin: 특정 채팅방 메시지 조회 (ChatRoomId 기준) [⭐ 추가 ⭐] =====================
     @GetMapping("/admin/messages/{chatRoomId}")
     public ResponseEntity<List<PrivateChatDto>> getPrivateChatsByRoomId(@PathVariable Long chatRoomId) {
@@ -13,10 +13,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.my.backend.dto.CommentDto;
+import com.my.backend.dto.CursorPageDto;
 import com.my.backend.service.CommentService;
 
 import lombok.RequiredArgsConstructor;
@@ -46,6 +48,15 @@ public class CommentController {
         return ResponseEntity.ok(comments);
     }
 
+    // 댓글 트리 (최상위 댓글 단위 커서, 답글 포함)
+    @GetMapping("/articles/{articleId}/comments/tree")
+    public ResponseEntity<CursorPageDto<CommentDto>> getCommentThread(
+            @PathVariable Long articleId,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(commentService.getCommentThreadPage(articleId, cursorId, size));
+    }
+
     @GetMapping("/comments/user/{userId}")
     public ResponseEntity<List<CommentDto>> getCommentsByUserId(@PathVariable Long userId) {
         List<CommentDto> comments = commentService.findCommentsByUserId(userId);
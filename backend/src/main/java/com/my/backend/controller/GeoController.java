@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.my.backend.service.GeoService;
 
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/geo")
@@ -18,11 +19,11 @@ public class GeoController {
     private final GeoService geoService;
 
     @GetMapping("/reverse")
-    public ResponseEntity<String> reverseGeocode(
+    public Mono<ResponseEntity<String>> reverseGeocode(
             @RequestParam double latitude,
             @RequestParam double longitude
     ) {
-        String address = geoService.reverseGeocode(latitude, longitude);
-        return ResponseEntity.ok(address);
+        // 비동기 응답: 외부 호출 대기 중 요청 스레드를 점유하지 않음
+        return geoService.reverseGeocode(latitude, longitude).map(ResponseEntity::ok);
     }
 }
@@ -11,9 +11,12 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.my.backend.dto.CursorPageDto;
+import com.my.backend.dto.PaymentHistoryResponse;
 import com.my.backend.dto.auth.CustomUserDetails;
 import com.my.backend.dto.portone.PortOnePaymentResponse;
 import com.my.backend.entity.Product;
@@ -22,6 +25,7 @@ import com.my.backend.enums.ProductType;
 import com.my.backend.repository.ProductRepository;
 import com.my.backend.repository.UserRepository;
 import com.my.backend.service.PortOnePaymentService;
+import com.my.backend.service.PortOneWebhookProcessor;
 import com.my.backend.util.AuthUtil;
 
 import jakarta.validation.constraints.NotNull;
@@ -37,6 +41,7 @@ import lombok.extern.slf4j.Slf4j;
 public class PortOnePaymentController {
 
     private final PortOnePaymentService portonePaymentService;
+    private final PortOneWebhookProcessor portOneWebhookProcessor;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
     private final AuthUtil authUtil;
@@ -298,7 +303,9 @@ public class PortOnePaymentController {
     @PostMapping("/callback")
     public ResponseEntity<String> callback(@RequestBody Map<String, Object> payload) {
         log.info("[PortOne] 콜백 수신: {}", payload);
-        return portonePaymentService.handleCallback(payload);
+        // 수신 기록 저장 후 응답 (저장 실패 시 예외 → 5xx → PortOne 재전송), 처리는 PortOneWebhookScheduler
+        portOneWebhookProcessor.record(payload);
+        return ResponseEntity.ok("Callback received");
     }
 
     @PostMapping("/webhook")
@@ -331,6 +338,34 @@ public class PortOnePaymentController {
         return ResponseEntity.ok(portonePaymentService.getSellingHistory(userId));
     }
 
+    // 커서 기반 구매 내역 (최신순, cursorId 미만)
+    @GetMapping("/history/buy/page")
+    public ResponseEntity<CursorPageDto<PaymentHistoryResponse>> getBuyingHistoryPage(
+            Authentication authentication,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Long userId = resolveUserId(authentication);
+        if (userId == null) {
+            throw new IllegalStateException("로그인이 필요합니다.");
+        }
+        return ResponseEntity.ok(portonePaymentService.getBuyingHistoryPage(userId, cursorId, size));
+    }
+
+    // 커서 기반 판매 내역 (최신순, cursorId 미만)
+    @GetMapping("/history/sell/page")
+    public ResponseEntity<CursorPageDto<PaymentHistoryResponse>> getSellingHistoryPage(
+            Authentication authentication,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Long userId = resolveUserId(authentication);
+        if (userId == null) {
+            throw new IllegalStateException("로그인이 필요합니다.");
+        }
+        return ResponseEntity.ok(portonePaymentService.getSellingHistoryPage(userId, cursorId, size));
+    }
+
     // ============================
     //  배송 정보 입력
     // ============================
@@ -1,6 +1,9 @@
 package com.my.backend.controller;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import com.my.backend.entity.Product;
 import org.springframework.data.domain.Page;
@@ -8,6 +11,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -18,9 +22,14 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.my.backend.dto.BidDto;
+import com.my.backend.dto.ImageDto;
+import com.my.backend.dto.NearbyProductPageDto;
 import com.my.backend.dto.ProductDto;
 import com.my.backend.dto.auth.CustomUserDetails;
 import com.my.backend.entity.Users;
@@ -41,6 +50,8 @@ public class ProductController {
     private final ProductService productService;
     private final BookMarkService bookMarkService;
 
+    private static final Set<String> PRODUCT_IMAGE_DIRS = Set.of("product", "product_detail");
+
     // 전체 상품 조회 (로그인 불필요)
     @GetMapping
     public ResponseEntity<List<ProductDto>> getAllProducts() {
@@ -143,6 +154,25 @@ public class ProductController {
         return ResponseEntity.ok(updated);
     }
 
+    // 상품 이미지 세트 업로드 (동시 전송 후 입력 순서대로 이미지 등록), dir: product(기본) / product_detail
+    @PostMapping(value = "/{id}/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public CompletableFuture<ResponseEntity<List<ImageDto>>> uploadProductImages(
+            @PathVariable Long id,
+            @RequestPart("files") List<MultipartFile> files,
+            @RequestParam(value = "dir", defaultValue = "product") String dir,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) throws IOException {
+        if (userDetails == null) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(null));
+        }
+        if (!PRODUCT_IMAGE_DIRS.contains(dir)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 경로입니다: " + dir);
+        }
+
+        return productService.uploadProductImages(id, files, "uploads/" + dir, userDetails.getUser().getUserId())
+                .thenApply(images -> ResponseEntity.status(HttpStatus.CREATED).body(images));
+    }
+
     // 상품 삭제
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteProduct(@PathVariable Long id) {
@@ -198,6 +228,19 @@ public class ProductController {
         return ResponseEntity.ok(result);
     }
 
+    // 주변 판매중 상품 (거리 가까운 순, keyset 페이지)
+    @GetMapping("/nearby")
+    public ResponseEntity<NearbyProductPageDto> getNearbyProducts(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(defaultValue = "5") double radiusKm,
+            @RequestParam(required = false) Double cursorDistance,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(productService.getNearbyProducts(lat, lon, radiusKm, cursorDistance, cursorId, size));
+    }
+
     @GetMapping("/top-bookmarked")
     public ResponseEntity<List<ProductDto>> getTopBookmarkedProducts() {
         List<ProductDto> topProducts = bookMarkService.getTopBookmarkedProducts(10); // 1개 -> 10개로 늘려서 이미지 있는것 필터링 가능하게 변경
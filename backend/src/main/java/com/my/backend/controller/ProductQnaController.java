@@ -1,5 +1,6 @@
 package com.my.backend.controller;
 
+import com.my.backend.dto.CursorPageDto;
 import com.my.backend.dto.ProductQnaDto;
 import com.my.backend.enums.ProductType;
 import com.my.backend.service.ProductQnaService;
@@ -38,6 +39,17 @@ public class ProductQnaController {
         return ResponseEntity.ok(qnaPage);
     }
 
+    // 최신순 커서 조회 (cursorId 미만, refId / productType / userId 필터 선택)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDto<ProductQnaDto>> getProductQnaCursorPage(
+            @RequestParam(required = false) Long refId,
+            @RequestParam(required = false) ProductType productType,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(productQnaService.getProductQnaCursorPage(refId, productType, userId, cursorId, size));
+    }
+
     // 단건 조회
     @GetMapping("/{id}")
     public ResponseEntity<ProductQnaDto> getProductQna(@PathVariable Long id) {
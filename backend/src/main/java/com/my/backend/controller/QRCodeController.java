@@ -2,6 +2,7 @@ package com.my.backend.controller;
 
 import com.google.zxing.WriterException;
 import com.my.backend.service.QRCodeService;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -9,6 +10,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
+import java.time.Duration;
 
 @RestController
 @RequestMapping("/api/qrcode")
@@ -21,24 +23,58 @@ public class QRCodeController {
         this.qrCodeService = qrCodeService;
     }
 
-    // QR 코드 이미지 생성 및 반환
+    // 허용 크기: 100~1000px, 50px 단위 (캐시 키 종류 제한)
+    private static final int MIN_SIZE = 100;
+    private static final int MAX_SIZE = 1000;
+    private static final int SIZE_STEP = 50;
+
+    // 같은 상품/크기의 QR 은 변하지 않으므로 장기 캐시
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(30)).cachePublic();
+
+    // QR 코드 이미지 생성 및 반환 (ETag 일치 시 304)
     @GetMapping(value = "/{productId}", produces = MediaType.IMAGE_PNG_VALUE)
-    public ResponseEntity<byte[]> getQRCode(@PathVariable Long productId) {
+    public ResponseEntity<byte[]> getQRCode(
+            @PathVariable Long productId,
+            @RequestParam(defaultValue = "300") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
-            // 300x300 크기의 QR 코드 생성
-            byte[] qrCode = qrCodeService.generateQRCodeBytes(productId, 300, 300);
+            int normalized = normalizeSize(size);
+            QRCodeService.QrImage qrCode = qrCodeService.getQRCode(productId, normalized, normalized);
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.IMAGE_PNG);
-            headers.setCacheControl("no-cache"); // 캐시 방지
+            if (matchesEtag(ifNoneMatch, qrCode.etag())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(qrCode.etag())
+                        .cacheControl(CACHE_CONTROL)
+                        .build();
+            }
 
-            return new ResponseEntity<>(qrCode, headers, HttpStatus.OK);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.IMAGE_PNG)
+                    .eTag(qrCode.etag())
+                    .cacheControl(CACHE_CONTROL)
+                    .body(qrCode.png());
 
         } catch (WriterException | IOException e) {
             e.printStackTrace();
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    private int normalizeSize(int size) {
+        int clamped = Math.max(MIN_SIZE, Math.min(MAX_SIZE, size));
+        return Math.round(clamped / (float) SIZE_STEP) * SIZE_STEP;
+    }
+
+    // If-None-Match: "*" 또는 쉼표로 구분된 ETag 목록 (약한 비교)
+    private boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals("*") || tag.equals(etag)) return true;
+        }
+        return false;
+    }
 }
 
 /*
@@ -46,6 +82,7 @@ public class QRCodeController {
 브라우저에서 테스트:
 http://localhost:8080/api/qrcode/1
 http://localhost:8080/api/qrcode/123
+http://localhost:8080/api/qrcode/123?size=500
 
 → QR 코드 이미지가 바로 표시됨
 
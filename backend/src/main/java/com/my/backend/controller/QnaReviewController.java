@@ -1,5 +1,6 @@
 package com.my.backend.controller;
 
+import com.my.backend.dto.CursorPageDto;
 import com.my.backend.dto.QnaReviewDto;
 import com.my.backend.service.QnaReviewService;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,16 @@ public class QnaReviewController {
         return ResponseEntity.ok(reviews);
     }
 
+    // 최신순 커서 조회 (cursorId 미만, productQnaId / userId 필터 선택)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDto<QnaReviewDto>> getQnaReviewCursorPage(
+            @RequestParam(required = false) Long productQnaId,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(qnaReviewService.getQnaReviewCursorPage(productQnaId, userId, cursorId, size));
+    }
+
     // 단건 조회
     @GetMapping("/{id}")
     public ResponseEntity<QnaReviewDto> getQnaReview(@PathVariable Long id) {
@@ -1,5 +1,6 @@
 package com.my.backend.controller;
 
+import com.my.backend.dto.CursorPageDto;
 import com.my.backend.dto.ReportDto;
 import com.my.backend.enums.ReportType;
 import com.my.backend.myjwt.JWTUtil;
@@ -119,4 +120,15 @@ public class ReportController {
         List<ReportDto> reports = reportService.getAllReports();
         return ResponseEntity.ok(reports);
     }
+
+    // 관리자용 최신순 커서 조회 (cursorId 미만, status / reportType / refId 필터 선택)
+    @GetMapping("/admin/page")
+    public ResponseEntity<CursorPageDto<ReportDto>> getReportPage(
+            @RequestParam(required = false) Boolean status,
+            @RequestParam(required = false) ReportType reportType,
+            @RequestParam(required = false) Long refId,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "30") int size) {
+        return ResponseEntity.ok(reportService.getReportCursorPage(status, reportType, refId, cursorId, size));
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.my.backend.controller;
 
+import com.my.backend.dto.RatingSummaryDto;
 import com.my.backend.dto.ReviewDto;
 import com.my.backend.service.ReviewService;
 import jakarta.validation.Valid;
@@ -37,4 +38,10 @@ public class ReviewController {
         double avg = reviewService.getAverageRating(userId);
         return ResponseEntity.ok(Map.of("averageRating", avg));
     }
+
+    // 특정 유저 평점 요약 (리뷰 수, 평균, 평점별 개수)
+    @GetMapping("/user/{userId}/summary")
+    public ResponseEntity<RatingSummaryDto> getRatingSummary(@PathVariable Long userId) {
+        return ResponseEntity.ok(reviewService.getRatingSummary(userId));
+    }
 }
@@ -11,8 +11,10 @@ import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @RestController
@@ -22,29 +24,58 @@ public class S3FileController {
 
     private final S3Uploader s3Uploader;
 
+    // 비동기 응답: S3 전송 중 요청 스레드를 점유하지 않음
     @PostMapping("/s3-upload")
-    public ResponseEntity<Map<String, String>> uploadToS3(
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> uploadToS3(
             @RequestPart("file") MultipartFile file,
             @RequestParam(value = "dir", required = false) String dir,
             @RequestParam(value = "fileName", required = false) String fileName
-    ) throws IOException {
+    ) {
+        String dirName = resolveDir(dir);
         try {
-            // 기본값은 "uploads"
-            // dir 파라미터가 있으면 "uploads/{dir}" 형태로 구성 (S3 정책이 uploads/* 이므로)
-            String dirName = "uploads";
-            if (dir != null && !dir.isBlank() && !dir.equals("uploads")) {
-                dirName = "uploads/" + dir;
-            }
-
-            String url = s3Uploader.upload(file, dirName, fileName);
-            log.info("S3 업로드 성공 (경로: {}): {}", dirName, url);
+            return s3Uploader.uploadAsync(file, dirName, fileName)
+                    .thenApply(url -> {
+                        log.info("S3 업로드 성공 (경로: {}): {}", dirName, url);
+                        return ResponseEntity.ok(Map.<String, Object>of("url", url));  // ✅ JSON 형식으로 반환
+                    })
+                    .exceptionally(this::uploadFailed);
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(uploadFailed(e));
+        }
+    }
 
-            return ResponseEntity.ok(Map.of("url", url));  // ✅ JSON 형식으로 반환
+    // 여러 파일 동시 업로드 (상품 이미지 세트), 입력 순서대로 URL 반환
+    @PostMapping("/s3-upload/batch")
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> uploadAllToS3(
+            @RequestPart("files") List<MultipartFile> files,
+            @RequestParam(value = "dir", required = false) String dir
+    ) {
+        String dirName = resolveDir(dir);
+        try {
+            return s3Uploader.uploadAllAsync(files, dirName)
+                    .thenApply(urls -> {
+                        log.info("S3 일괄 업로드 성공 (경로: {}): {}건", dirName, urls.size());
+                        return ResponseEntity.ok(Map.<String, Object>of("urls", urls));
+                    })
+                    .exceptionally(this::uploadFailed);
         } catch (Exception e) {
-            log.error("S3 업로드 실패", e);
-            return ResponseEntity.status(500)
-                    .body(Map.of("error", "S3 업로드 실패: " + e.getMessage()));
+            return CompletableFuture.completedFuture(uploadFailed(e));
         }
     }
-}
 
+    // 기본값은 "uploads"
+    // dir 파라미터가 있으면 "uploads/{dir}" 형태로 구성 (S3 정책이 uploads/* 이므로)
+    private String resolveDir(String dir) {
+        if (dir != null && !dir.isBlank() && !dir.equals("uploads")) {
+            return "uploads/" + dir;
+        }
+        return "uploads";
+    }
+
+    private ResponseEntity<Map<String, Object>> uploadFailed(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        log.error("S3 업로드 실패", cause);
+        return ResponseEntity.status(500)
+                .body(Map.of("error", "S3 업로드 실패: " + cause.getMessage()));
+    }
+}
@@ -1,5 +1,6 @@
 package com.my.backend.controller;
 
+import com.my.backend.dto.CursorPageDto;
 import com.my.backend.dto.UsersDto;
 import com.my.backend.entity.Users;
 import com.my.backend.myjwt.JWTUtil;
@@ -33,6 +34,17 @@ public class UserController {
         return userService.getAllUsers();
     }
 
+    // 유저 목록 커서 조회 (관리자용, nickName: 닉네임 접두사, cursorNickName: 이전 페이지 nextCursorKey)
+    @GetMapping("/page")
+    public CursorPageDto<UsersDto> getUserPage(@RequestParam(required = false) String nickName,
+                                               @RequestParam(required = false) String cursorNickName,
+                                               @RequestParam(required = false) Long cursorId,
+                                               @RequestParam(defaultValue = "30") int size,
+                                               @RequestHeader("Authorization") String authHeader) {
+        checkAdminRole(authHeader);
+        return userService.getUserPage(nickName, cursorNickName, cursorId, size);
+    }
+
     // 단일 유저 조회 (관리자용)
     @GetMapping("/{id}")
     public UsersDto getUser(@PathVariable Long id, @RequestHeader("Authorization") String authHeader) {
@@ -25,5 +25,5 @@ public class ChatRoomListDto {
     // 마지막 메시지 정보
     private String lastMessage;
     private LocalDateTime lastMessageTime;
-    private int unreadCount; // 미구현
+    private int unreadCount; // 로그인 사용자 기준 안 읽은 메시지 수
 }
\ No newline at end of file
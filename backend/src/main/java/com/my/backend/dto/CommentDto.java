@@ -6,6 +6,8 @@ import com.my.backend.entity.Users;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Getter
 @Setter
@@ -21,6 +23,27 @@ public class CommentDto {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private String articleTitle; // 게시글 제목 추가
+    private Long parentId;        // 답글 대상 댓글 ID (최상위 댓글은 null)
+
+    // 댓글 트리 조회용
+    private int replyCount;       // 하위 답글 전체 개수
+    @Builder.Default
+    private List<CommentDto> replies = new ArrayList<>();
+
+    // JPQL 생성자 프로젝션용 (작성자/게시글 조인)
+    public CommentDto(Long commentId, Long articleId, Long userId, String nickName, String content,
+                      LocalDateTime createdAt, LocalDateTime updatedAt, String articleTitle, Long parentId) {
+        this.commentId = commentId;
+        this.articleId = articleId;
+        this.userId = userId;
+        this.nickName = nickName;
+        this.content = content;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.articleTitle = articleTitle;
+        this.parentId = parentId;
+        this.replies = new ArrayList<>();
+    }
 
     // Entity → DTO
     public static CommentDto fromEntity(Comment comment) {
@@ -35,6 +58,7 @@ public class CommentDto {
                 .createdAt(comment.getCreatedAt())
                 .updatedAt(comment.getUpdatedAt())
                 .articleTitle(comment.getArticle() != null ? comment.getArticle().getTitle() : null)
+                .parentId(comment.getParent() != null ? comment.getParent().getCommentId() : null)
                 .build();
     }
 
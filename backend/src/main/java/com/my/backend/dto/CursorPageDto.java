@@ -0,0 +1,27 @@
+package com.my.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 커서(keyset) 기반 페이지 응답
+// - 다음 페이지 요청 시 nextCursorAt / nextCursorKey / nextCursorId 를 그대로 전달
+// - nextCursorKey: 문자열 정렬 키 커서 (예: 닉네임 접두사 검색의 마지막 닉네임)
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageDto<T> {
+
+    private List<T> content;
+    private boolean hasNext;
+    private LocalDateTime nextCursorAt;
+    private String nextCursorKey;
+    private Long nextCursorId;
+}
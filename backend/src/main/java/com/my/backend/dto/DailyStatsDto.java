@@ -0,0 +1,28 @@
+package com.my.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+// 관리자 대시보드 일별 통계 (차트용)
+// - activeAuctions / openReports: 그날 마지막으로 관측한 값 (오늘은 현재 값)
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DailyStatsDto {
+
+    private LocalDate date;
+    private long newUsers;
+    private long newProducts;
+    private long newReports;
+    private long paidPayments;
+    private long gmv;
+    private long activeAuctions;
+    private long openReports;
+}
@@ -18,6 +18,8 @@ public class ImageDto {
     private ProductType productType;  // PRODUCT 이미지일 경우만 값 존재
     private ImageType imageType;      // USER, PRODUCT, REVIEW
     private String imagePath;         // S3 URL
+    private String thumbnailPath;     // 목록용 축소본 (생성 전이면 원본 URL)
+    private String mediumPath;        // 상세용 중간 크기 (생성 전이면 원본 URL)
     private Long refId;               // 실제 참조 대상 ID (상품ID, 유저ID, 리뷰ID)
     private LocalDateTime createdAt;
 
@@ -30,6 +32,8 @@ public class ImageDto {
                 .productType(image.getProductType())
                 .imageType(image.getImageType())
                 .imagePath(image.getImagePath())
+                .thumbnailPath(image.getThumbnailPath() != null ? image.getThumbnailPath() : image.getImagePath())
+                .mediumPath(image.getMediumPath() != null ? image.getMediumPath() : image.getImagePath())
                 .refId(image.getRefId())      // refId 포함
                 .createdAt(image.getCreatedAt())
                 .build();
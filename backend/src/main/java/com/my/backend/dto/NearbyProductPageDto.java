@@ -0,0 +1,24 @@
+package com.my.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// 주변 상품 keyset 페이지 응답 (거리 → productId 순)
+// - 다음 페이지 요청 시 nextCursorDistance / nextCursorId 를 그대로 전달
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NearbyProductPageDto {
+
+    private List<ProductDto> content;
+    private boolean hasNext;
+    private Double nextCursorDistance;
+    private Long nextCursorId;
+}
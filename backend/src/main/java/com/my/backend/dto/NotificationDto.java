@@ -27,13 +27,15 @@ public class NotificationDto {
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime createdAt;
 
+    // 직렬화용 ObjectMapper 재사용 (thread-safe)
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
     // ✅ WebSocket 전송용 JSON 변환
     public String toJson() {
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.registerModule(new JavaTimeModule());  // ✅ 추가
-            mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);  // ✅ 추가
-            return mapper.writeValueAsString(this);
+            return MAPPER.writeValueAsString(this);
         } catch (JsonProcessingException e) {
             e.printStackTrace();
             return "{}";
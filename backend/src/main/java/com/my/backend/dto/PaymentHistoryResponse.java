@@ -2,6 +2,10 @@ package com.my.backend.dto;
 
 import java.time.LocalDateTime;
 
+import com.my.backend.enums.CourierType;
+import com.my.backend.enums.PaymentStatus;
+import com.my.backend.enums.ProductType;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -31,6 +35,32 @@ public class PaymentHistoryResponse {
     private Long sellerId;
     private String productType;
 
+    /**
+     * 구매/판매 내역 조회 쿼리(JPQL 생성자 표현식) 전용
+     * 상품 이미지는 별도 일괄 조회 후 setProductImage 로 채웁니다.
+     */
+    public PaymentHistoryResponse(Long paymentId, Long productId, String productTitle, Long price,
+                                  PaymentStatus status, LocalDateTime paidAt, CourierType courier, String trackingNumber,
+                                  String buyerName, String buyerNickName, String buyerPhone,
+                                  String address, String detailAddress,
+                                  String sellerNickName, Long sellerId, ProductType productType) {
+        this.paymentId = paymentId;
+        this.productId = productId;
+        this.productTitle = productTitle;
+        this.price = price;
+        this.status = status != null ? status.name() : null;
+        this.paidAt = paidAt;
+        this.courier = courier != null ? courier.name() : null;
+        this.trackingNumber = trackingNumber;
+        this.buyerName = buyerName;
+        this.buyerNickName = buyerNickName;
+        this.buyerPhone = buyerPhone;
+        this.buyerAddress = address != null ? address + " " + detailAddress : "";
+        this.sellerNickName = sellerNickName;
+        this.sellerId = sellerId;
+        this.productType = productType != null ? productType.name() : null;
+    }
+
     /**
      * Payment 엔티티와 조회된 이미지 URL을 기반으로 DTO를 생성합니다.
      */
@@ -83,6 +83,9 @@ public class ProductDto {
     @Builder.Default
     private List<ImageDto> images = new ArrayList<>();
 
+    // 대표 이미지 축소본 (목록용)
+    private String thumbnailUrl;
+
     // ✅ 입찰 목록 (경매 상품용)
     @Builder.Default
     private List<BidDto> bids = new ArrayList<>();
@@ -94,6 +97,9 @@ public class ProductDto {
     private Integer bidCount;
     private Long highestBidPrice;
 
+    // 주변 상품 조회 시 기준 좌표로부터 거리 (km)
+    private Double distanceKm;
+
     // ========================================
     // Entity → DTO
     // ========================================
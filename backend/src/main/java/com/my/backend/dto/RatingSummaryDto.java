@@ -0,0 +1,23 @@
+package com.my.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+// 유저 평점 요약 (리뷰 수, 평균, 평점별 개수: 5 → 1 순)
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RatingSummaryDto {
+
+    private Long userId;
+    private long reviewCount;
+    private double averageRating;
+    private Map<Integer, Long> histogram;
+}
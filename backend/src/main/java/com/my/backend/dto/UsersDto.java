@@ -40,6 +40,28 @@ public class UsersDto {
     @Builder.Default
     private List<ImageDto> images = new ArrayList<>();
 
+    // JPQL 생성자 프로젝션용 (관리자 유저 목록: 비밀번호/인증 정보 제외)
+    public UsersDto(Long userId, String userName, String nickName, String phone, String email,
+                    LocalDateTime createdAt, LocalDateTime updatedAt, Role role,
+                    LocalDate birthday, String businessNumber, String provider,
+                    Long addressId, String address, String zipCode, String detailAddress) {
+        this.userId = userId;
+        this.userName = userName;
+        this.nickName = nickName;
+        this.phone = phone;
+        this.email = email;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.role = role;
+        this.birthday = birthday;
+        this.businessNumber = businessNumber;
+        this.provider = provider;
+        this.addressId = addressId;
+        this.address = address;
+        this.zipCode = zipCode;
+        this.detailAddress = detailAddress;
+        this.images = new ArrayList<>();
+    }
 
     // Entity → DTO
     public static UsersDto fromEntity(Users user) {
@@ -0,0 +1,122 @@
+package com.my.backend.entity;
+
+import com.my.backend.enums.PaymentStatus;
+import com.my.backend.enums.ProductStatus;
+import com.my.backend.enums.ProductType;
+import com.my.backend.service.AdminMetrics;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+import static com.my.backend.util.TransactionHooks.afterCommit;
+
+/**
+ * 유저/상품/신고/결제 저장·삭제 시 관리자 대시보드 통계 갱신 (커밋 이후)
+ * 결제는 조회 시점 상태와 비교해 결제 완료 ↔ 취소 전환을 결제일 통계에 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class AdminMetricsListener {
+
+    private final AdminMetrics adminMetrics;
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        if (entity instanceof Users user) {
+            LocalDateTime createdAt = user.getCreatedAt();
+            afterCommit(() -> adminMetrics.userCreated(createdAt));
+        } else if (entity instanceof Product product) {
+            LocalDateTime createdAt = product.getCreatedAt();
+            Long productId = product.getProductId();
+            boolean activeAuction = isActiveAuction(product);
+            afterCommit(() -> {
+                adminMetrics.productCreated(createdAt);
+                adminMetrics.productStatusChanged(productId, activeAuction);
+            });
+        } else if (entity instanceof Report report) {
+            LocalDateTime createdAt = report.getCreatedAt();
+            Long reportId = report.getReportId();
+            boolean open = !report.isStatus();
+            afterCommit(() -> {
+                adminMetrics.reportCreated(createdAt);
+                adminMetrics.reportStatusChanged(reportId, open);
+            });
+        } else if (entity instanceof Payment payment) {
+            payment.setRecordedPaymentStatus(payment.getPaymentStatus());
+            if (isPaid(payment.getPaymentStatus())) {
+                LocalDateTime createdAt = payment.getCreatedAt();
+                long amount = amountOf(payment);
+                afterCommit(() -> adminMetrics.paymentPaid(createdAt, amount));
+            }
+        }
+    }
+
+    @PostLoad
+    public void onLoad(Object entity) {
+        if (entity instanceof Payment payment) {
+            payment.setRecordedPaymentStatus(payment.getPaymentStatus());
+        }
+    }
+
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        if (entity instanceof Product product) {
+            Long productId = product.getProductId();
+            boolean activeAuction = isActiveAuction(product);
+            afterCommit(() -> adminMetrics.productStatusChanged(productId, activeAuction));
+        } else if (entity instanceof Report report) {
+            Long reportId = report.getReportId();
+            boolean open = !report.isStatus();
+            afterCommit(() -> adminMetrics.reportStatusChanged(reportId, open));
+        } else if (entity instanceof Payment payment) {
+            boolean wasPaid = isPaid(payment.getRecordedPaymentStatus());
+            boolean paid = isPaid(payment.getPaymentStatus());
+            payment.setRecordedPaymentStatus(payment.getPaymentStatus());
+            if (wasPaid == paid) return;
+
+            // 결제 완료 → 취소(또는 그 반대): 결제일 기준 건수/GMV 증감
+            LocalDateTime createdAt = payment.getCreatedAt();
+            long amount = amountOf(payment);
+            afterCommit(() -> {
+                if (paid) adminMetrics.paymentPaid(createdAt, amount);
+                else adminMetrics.paymentCancelled(createdAt, amount);
+            });
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof Users) {
+            afterCommit(adminMetrics::userRemoved);
+        } else if (entity instanceof Product product) {
+            Long productId = product.getProductId();
+            afterCommit(() -> adminMetrics.productRemoved(productId));
+        } else if (entity instanceof Report report) {
+            Long reportId = report.getReportId();
+            afterCommit(() -> adminMetrics.reportRemoved(reportId));
+        } else if (entity instanceof Payment payment && isPaid(payment.getRecordedPaymentStatus())) {
+            LocalDateTime createdAt = payment.getCreatedAt();
+            long amount = amountOf(payment);
+            afterCommit(() -> adminMetrics.paymentCancelled(createdAt, amount));
+        }
+    }
+
+    // 재집계(sumPaidPerDay)와 같은 기준: 결제 완료 + 구매 확정
+    private boolean isPaid(PaymentStatus status) {
+        return status == PaymentStatus.PAID || status == PaymentStatus.CONFIRMED;
+    }
+
+    private long amountOf(Payment payment) {
+        return payment.getTotalPrice() != null ? payment.getTotalPrice() : 0L;
+    }
+
+    private boolean isActiveAuction(Product product) {
+        return product.getProductType() == ProductType.AUCTION
+                && product.getProductStatus() == ProductStatus.ACTIVE;
+    }
+}
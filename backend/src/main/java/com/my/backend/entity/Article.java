@@ -11,7 +11,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "article")
+@Table(name = "article", indexes = {
+        // 타입별 목록 (PK가 붙어 articleId 커서 정렬까지 인덱스로 처리)
+        @Index(name = "idx_article_type", columnList = "article_type")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
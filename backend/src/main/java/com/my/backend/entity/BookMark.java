@@ -9,7 +9,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bookmark")
+// 유니크 키는 기동 시 BookMarkService.ensureUniqueKey 가 중복 정리 후 확인/생성 (기존 중복이 있으면 ddl-auto 로는 생성 실패)
+@Table(name = "bookmark", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_bookmark_user_product", columnNames = {"user_id", "product_id"})
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
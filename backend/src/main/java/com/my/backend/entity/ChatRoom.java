@@ -13,6 +13,12 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "chat_room", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"seller_id", "sender_id", "product_id"})
+}, indexes = {
+        // 관리자 채팅방 목록 (최근 활동순 + 상품/참여자 필터)
+        @Index(name = "idx_chat_room_last_message", columnList = "last_message_at, id"),
+        @Index(name = "idx_chat_room_product_last_message", columnList = "product_id, last_message_at"),
+        @Index(name = "idx_chat_room_seller_last_message", columnList = "seller_id, last_message_at"),
+        @Index(name = "idx_chat_room_sender_last_message", columnList = "sender_id, last_message_at")
 })
 @NoArgsConstructor
 @AllArgsConstructor
@@ -42,5 +48,20 @@ public class ChatRoom {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // ===================== 목록용 요약 (메시지 저장 시 갱신) =====================
+    @Column(length = 500)
+    private String lastMessage;
+
+    // 메시지가 없으면 채팅방 생성 시각 (최근 활동순 정렬 기준)
+    private LocalDateTime lastMessageAt;
+
+    // 참여자별 안 읽은 메시지 수
+    @Builder.Default
+    @Column(nullable = false)
+    private int sellerUnreadCount = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int senderUnreadCount = 0;
 
 }
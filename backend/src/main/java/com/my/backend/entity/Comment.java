@@ -3,6 +3,8 @@ package com.my.backend.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -10,7 +12,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comment")
+@Table(name = "comment", indexes = {
+        // 게시글별 최상위 댓글 / 답글 조회
+        @Index(name = "idx_comment_article_parent", columnList = "article_id, parent_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -40,4 +45,10 @@ public class Comment {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private Users user;
+
+    // 답글 대상 댓글 (최상위 댓글은 null, 부모 삭제 시 답글도 함께 삭제)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Comment parent;
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.my.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 애플리케이션이 직접 발급하는 id 의 다음 값 (인스턴스 간 공유, 블록 단위 예약)
+@Entity
+@Table(name = "id_sequence")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdSequence {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(nullable = false)
+    private long nextVal;
+}
@@ -17,7 +17,7 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, ImageDerivativeListener.class})
 public class Image {
 
     @Id
@@ -28,6 +28,16 @@ public class Image {
     @Column(nullable = false)
     private String imagePath; // S3 URL
 
+    private String thumbnailPath; // 목록용 축소본 URL (ImageDerivativeService 가 생성)
+
+    private String mediumPath; // 상세용 중간 크기 URL
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int derivativeAttempts = 0; // 축소본 생성 실패 횟수 (한도 초과 시 원본 URL 로 확정)
+
+    private LocalDateTime derivativeRetryAt; // 다음 재시도 가능 시각 (실패 후 백오프)
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,30 @@
+package com.my.backend.entity;
+
+import com.my.backend.service.ImageDerivativeService;
+import jakarta.persistence.PostPersist;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import static com.my.backend.util.TransactionHooks.afterCommit;
+
+/**
+ * 이미지 저장 커밋 후 축소본 생성 등록
+ *
+ * 리스너는 EntityManagerFactory 생성 중에 만들어지므로 서비스(→ 레포지토리)는 사용 시점에 조회합니다.
+ */
+@Component
+public class ImageDerivativeListener {
+
+    private final ObjectProvider<ImageDerivativeService> imageDerivativeService;
+
+    public ImageDerivativeListener(ObjectProvider<ImageDerivativeService> imageDerivativeService) {
+        this.imageDerivativeService = imageDerivativeService;
+    }
+
+    @PostPersist
+    public void onSave(Image image) {
+        if (image.getThumbnailPath() != null) return;
+        Long imageId = image.getImageId();
+        afterCommit(() -> imageDerivativeService.getObject().enqueue(imageId));
+    }
+}
@@ -0,0 +1,60 @@
+package com.my.backend.entity;
+
+import com.my.backend.enums.NotificationStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+// 알림 발송 대기열 (Transactional Outbox)
+// - 비즈니스 트랜잭션 안에서는 이 행만 기록하고, 실제 Notification 저장/WebSocket 전송은 디스패처가 배치로 처리
+// - 디스패처는 처리 전에 claimToken 으로 행을 선점 → 여러 인스턴스가 같은 알림을 중복 전송하지 않음
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_notification_outbox_due", columnList = "attempts, next_attempt_at")
+})
+@EntityListeners(AuditingEntityListener.class)
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long outboxId;
+
+    // FK 없이 id만 보관 (발송 시점에 사용자 존재 여부 확인)
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationStatus notificationStatus;
+
+    @Column(nullable = false)
+    private String content;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    // 처리 중인 디스패처의 선점 토큰 (처리 완료/재시도 예약 시 해제, 오래된 선점은 다시 가져갈 수 있음)
+    @Column(length = 36)
+    private String claimToken;
+
+    private LocalDateTime claimedAt;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
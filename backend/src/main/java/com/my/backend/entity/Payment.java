@@ -19,7 +19,7 @@ import java.time.LocalDateTime;
 @Builder
 @Getter
 @Setter
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, AdminMetricsListener.class})
 public class Payment {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -59,4 +59,8 @@ public class Payment {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private Users user;
+
+    // 조회/저장 시점의 결제 상태 (AdminMetricsListener 가 상태 변화 판단에 사용)
+    @Transient
+    private PaymentStatus recordedPaymentStatus;
 }
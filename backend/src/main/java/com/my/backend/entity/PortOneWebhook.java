@@ -0,0 +1,63 @@
+package com.my.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+// PortOne 웹훅/콜백 수신 기록 (처리 대기열)
+// - 수신 즉시 이 행만 저장하고 200 응답 → PortOne 조회/결제 반영은 PortOneWebhookScheduler 가 처리
+// - (imp_uid, status) 유니크 → 같은 알림 재전송은 한 번만 기록
+// - 처리 성공 시 삭제, 실패 시 백오프 후 재시도 (한도 초과 시 attempts = 한도로 남겨 확인 대상)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "portone_webhook",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_portone_webhook_imp_status", columnNames = {"imp_uid", "status"})
+        },
+        indexes = {
+                @Index(name = "idx_portone_webhook_due", columnList = "attempts, next_attempt_at")
+        })
+@EntityListeners(AuditingEntityListener.class)
+public class PortOneWebhook {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long webhookId;
+
+    @Column(nullable = false, length = 100)
+    private String impUid;
+
+    @Column(nullable = false, length = 100)
+    private String merchantUid;
+
+    // 알림 상태 (없으면 빈 문자열)
+    @Column(nullable = false, length = 30)
+    private String status;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    // 처리 중인 인스턴스의 선점 토큰 (오래된 선점은 다시 가져갈 수 있음)
+    @Column(length = 36)
+    private String claimToken;
+
+    private LocalDateTime claimedAt;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
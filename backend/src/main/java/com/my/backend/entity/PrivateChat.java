@@ -12,6 +12,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -22,7 +23,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "private_chat")
+@Table(name = "private_chat", indexes = {
+        // 채팅방별 시간순 커서 조회용
+        @Index(name = "idx_private_chat_room_created", columnList = "chat_room_id, created_at, private_chat_id")
+})
 @Getter
 @Setter
 @Builder
@@ -29,7 +29,7 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, ProductIndexListener.class, AdminMetricsListener.class})
 public class Product {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -59,6 +59,11 @@ public class Product {
     @Builder.Default
     private Long viewCount = 0L;
 
+    // 찜 수 (BookmarkRanking 증감분을 스케줄러가 일괄 UPDATE 로 반영, 엔티티 저장 시에는 덮어쓰지 않음)
+    @Builder.Default
+    @Column(updatable = false)
+    private Long bookmarkCount = 0L;
+
     private Long deliveryPrice;
 
     private Long deliveryAddPrice;
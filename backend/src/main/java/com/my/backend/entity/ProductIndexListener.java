@@ -0,0 +1,48 @@
+package com.my.backend.entity;
+
+import com.my.backend.enums.ProductStatus;
+import com.my.backend.service.BookmarkRanking;
+import com.my.backend.service.ProductLocationIndex;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import static com.my.backend.util.TransactionHooks.afterCommit;
+
+/**
+ * 상품 저장/수정/삭제 시 메모리 색인(위치 색인, 찜 순위) 갱신
+ *
+ * 상태 변경(경매 종료, 결제 완료 등)이 여러 서비스에 흩어져 있어 엔티티 이벤트로 한 곳에서 처리합니다.
+ * 롤백된 변경이 반영되지 않도록 커밋 이후에 적용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductIndexListener {
+
+    private final ProductLocationIndex productLocationIndex;
+    private final BookmarkRanking bookmarkRanking;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Product product) {
+        Long productId = product.getProductId();
+        Double latitude = product.getLatitude();
+        Double longitude = product.getLongitude();
+        boolean active = product.getProductStatus() == ProductStatus.ACTIVE;
+        afterCommit(() -> {
+            productLocationIndex.put(productId, latitude, longitude, active);
+            bookmarkRanking.setActive(productId, active);
+        });
+    }
+
+    @PostRemove
+    public void onRemove(Product product) {
+        Long productId = product.getProductId();
+        afterCommit(() -> {
+            productLocationIndex.remove(productId);
+            bookmarkRanking.remove(productId);
+        });
+    }
+}
@@ -17,6 +17,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -28,7 +29,11 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "product_qna")
+@Table(name = "product_qna", indexes = {
+        // 상품별/타입별 문의 목록 (PK가 붙어 productQnaId 커서 정렬까지 인덱스로 처리)
+        @Index(name = "idx_product_qna_ref_type", columnList = "ref_id, product_type"),
+        @Index(name = "idx_product_qna_type", columnList = "product_type")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -2,19 +2,19 @@ package com.my.backend.entity;
 
 import java.time.LocalDateTime;
 
-import org.hibernate.annotations.CreationTimestamp;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import org.springframework.data.domain.Persistable;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -28,17 +28,16 @@ import lombok.Setter;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
-public class PublicChat {
+public class PublicChat implements Persistable<Long> {
 
+    // 발행 시점에 PublicChatIdAllocator 가 부여 (배치 저장 전 브로드캐스트에 포함)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long publicChatId;
 
     @Column(nullable = false)
     private String content;
 
-    @CreationTimestamp
+    // 발행 시각 유지 (비어 있을 때만 저장 시각으로 채움)
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -49,4 +48,30 @@ public class PublicChat {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private Users user;
+
+    // id 를 직접 부여하므로 신규 여부를 별도로 관리 (save 시 merge 대신 persist)
+    @Transient
+    @Builder.Default
+    private boolean isNew = true;
+
+    @Override
+    public Long getId() {
+        return publicChatId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PrePersist
+    void onCreate() {
+        if (createdAt == null) createdAt = LocalDateTime.now();
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        isNew = false;
+    }
 }
@@ -11,13 +11,18 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "report")
+@Table(name = "report", indexes = {
+        // 관리자 신고 목록 필터 (PK가 붙어 reportId 커서 정렬까지 인덱스로 처리)
+        @Index(name = "idx_report_status", columnList = "status"),
+        @Index(name = "idx_report_type", columnList = "report_type"),
+        @Index(name = "idx_report_ref", columnList = "ref_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, AdminMetricsListener.class})
 public class Report {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
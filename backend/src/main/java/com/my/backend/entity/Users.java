@@ -26,7 +26,7 @@ import lombok.Setter;
 @Builder
 @Getter
 @Setter
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, AdminMetricsListener.class})
 public class Users {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,62 @@
+package com.my.backend.httpclient;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 연속 실패 횟수 기반 서킷 브레이커
+ *
+ * CLOSED → (연속 실패 failureThreshold 회) → OPEN → (openMillis 경과) → HALF_OPEN (시험 호출 1건)
+ * 시험 호출 성공 시 CLOSED, 실패 시 다시 OPEN
+ */
+class CircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+
+    CircuitBreaker(int failureThreshold, long openMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    // 호출 허용 여부 (OPEN 이 끝났으면 한 건만 HALF_OPEN 시험 호출로 통과)
+    boolean tryAcquire() {
+        State current = state.get();
+        if (current == State.CLOSED) return true;
+        if (current == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis) {
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return false;
+    }
+
+    void onSuccess() {
+        consecutiveFailures.set(0);
+        state.set(State.CLOSED);
+    }
+
+    void onFailure() {
+        if (state.get() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            open();
+        }
+    }
+
+    // 시험 호출이 결과 없이 취소된 경우: 다음 호출이 다시 시험할 수 있도록 OPEN 으로 되돌림
+    void onCancel() {
+        state.compareAndSet(State.HALF_OPEN, State.OPEN);
+    }
+
+    State getState() {
+        return state.get();
+    }
+
+    private void open() {
+        openedAt = System.currentTimeMillis();
+        state.set(State.OPEN);
+    }
+}
@@ -0,0 +1,171 @@
+package com.my.backend.httpclient;
+
+import com.my.backend.config.OutboundHttpProperties;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 외부 HTTP 호출 공용 클라이언트
+ *
+ * - 하나의 커넥션 풀(reactor-netty)을 모든 대상이 공유
+ * - 대상별 연결/응답 타임아웃, 동시 호출 한도(bulkhead), 서킷 브레이커
+ * - 대상별 호출 수 / 실패 / 거절 / 지연 시간 통계
+ *
+ * 느린 외부 서비스가 Tomcat 스레드를 모두 점유하지 못하도록 한도를 넘는 호출은 즉시 거절합니다.
+ */
+@Slf4j
+@Component
+public class OutboundHttpClient {
+
+    private final ConnectionProvider connectionProvider;
+    private final Map<OutboundTarget, Dependency> dependencies = new EnumMap<>(OutboundTarget.class);
+
+    public OutboundHttpClient(OutboundHttpProperties properties, WebClient.Builder webClientBuilder) {
+        this.connectionProvider = ConnectionProvider.builder("outbound")
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireTimeout(Duration.ofMillis(properties.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(properties.getMaxIdleTimeMs()))
+                .evictInBackground(Duration.ofMillis(properties.getMaxIdleTimeMs()))
+                .build();
+
+        for (OutboundTarget target : OutboundTarget.values()) {
+            OutboundHttpProperties.Target config = properties.target(target);
+            HttpClient httpClient = HttpClient.create(connectionProvider)
+                    .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, config.getConnectTimeoutMs())
+                    .responseTimeout(Duration.ofMillis(config.getResponseTimeoutMs()));
+            WebClient webClient = webClientBuilder.clone()
+                    .clientConnector(new ReactorClientHttpConnector(httpClient))
+                    .build();
+            dependencies.put(target, new Dependency(target, webClient, config));
+        }
+    }
+
+    /**
+     * 대상에 대한 호출을 bulkhead / 서킷 브레이커 / 전체 타임아웃 / 통계로 감쌉니다.
+     * 구독 시점에 한도를 확인하며, 거절되면 OutboundUnavailableException 으로 끝납니다.
+     */
+    public <T> Mono<T> call(OutboundTarget target, Function<WebClient, Mono<T>> request) {
+        Dependency dependency = dependencies.get(target);
+        return Mono.defer(() -> dependency.execute(request));
+    }
+
+    // 대상별 통계 (관리자 지표 조회용)
+    public Map<String, Object> snapshot() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        dependencies.forEach((target, dependency) -> result.put(target.name().toLowerCase(), dependency.snapshot()));
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connectionProvider.disposeLater().block(Duration.ofSeconds(5));
+    }
+
+    private static class Dependency {
+
+        private final OutboundTarget target;
+        private final WebClient webClient;
+        private final int maxConcurrent;
+        private final Duration overallTimeout;
+        private final Semaphore bulkhead;
+        private final CircuitBreaker circuitBreaker;
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder shortCircuited = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+        Dependency(OutboundTarget target, WebClient webClient, OutboundHttpProperties.Target config) {
+            this.target = target;
+            this.webClient = webClient;
+            this.maxConcurrent = config.getMaxConcurrent();
+            // 커넥션 대기 + 연결 + 응답 전체 상한
+            this.overallTimeout = Duration.ofMillis(config.getConnectTimeoutMs() + config.getResponseTimeoutMs());
+            this.bulkhead = new Semaphore(config.getMaxConcurrent());
+            this.circuitBreaker = new CircuitBreaker(config.getFailureThreshold(), config.getOpenDurationMs());
+        }
+
+        <T> Mono<T> execute(Function<WebClient, Mono<T>> request) {
+            if (!bulkhead.tryAcquire()) {
+                rejected.increment();
+                return Mono.error(new OutboundUnavailableException(target, "동시 호출 한도 초과"));
+            }
+            if (!circuitBreaker.tryAcquire()) {
+                bulkhead.release();
+                shortCircuited.increment();
+                return Mono.error(new OutboundUnavailableException(target, "서킷 열림"));
+            }
+
+            long start = System.nanoTime();
+            AtomicBoolean completed = new AtomicBoolean();
+            return request.apply(webClient)
+                    .timeout(overallTimeout)
+                    .doOnSuccess(value -> {
+                        completed.set(true);
+                        circuitBreaker.onSuccess();
+                    })
+                    .doOnError(e -> {
+                        completed.set(true);
+                        failures.increment();
+                        if (isDependencyFailure(e)) {
+                            circuitBreaker.onFailure();
+                        } else {
+                            circuitBreaker.onSuccess();
+                        }
+                        log.warn("외부 호출 실패 [{}]: {}", target, e.toString());
+                    })
+                    .doFinally(signal -> {
+                        long elapsed = System.nanoTime() - start;
+                        calls.increment();
+                        totalNanos.add(elapsed);
+                        maxNanos.accumulate(elapsed);
+                        if (signal == SignalType.CANCEL && !completed.get()) {
+                            circuitBreaker.onCancel();
+                        }
+                        bulkhead.release();
+                    });
+        }
+
+        // 4xx 응답은 상대 서버가 정상 동작 중인 것이므로 서킷 실패로 세지 않음
+        private boolean isDependencyFailure(Throwable e) {
+            return !(e instanceof WebClientResponseException responseException)
+                    || responseException.getStatusCode().is5xxServerError();
+        }
+
+        Map<String, Object> snapshot() {
+            long count = calls.sum();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("calls", count);
+            stats.put("failures", failures.sum());
+            stats.put("rejected", rejected.sum());
+            stats.put("shortCircuited", shortCircuited.sum());
+            stats.put("inFlight", maxConcurrent - bulkhead.availablePermits());
+            stats.put("maxConcurrent", maxConcurrent);
+            stats.put("circuit", circuitBreaker.getState().name());
+            stats.put("avgMillis", count == 0 ? 0.0 : totalNanos.sum() / 1_000_000.0 / count);
+            stats.put("maxMillis", maxNanos.get() / 1_000_000.0);
+            return stats;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.my.backend.httpclient;
+
+/**
+ * 외부 호출 대상 (대상별로 타임아웃/동시 호출 수/서킷 브레이커를 따로 관리)
+ */
+public enum OutboundTarget {
+    SMS,    // SOLAPI 문자 발송
+    NTS,    // 국세청 사업자 상태 조회
+    GEO,    // Nominatim 역지오코딩
+    AI      // RAG / AI 설명 생성 서버
+}
@@ -0,0 +1,17 @@
+package com.my.backend.httpclient;
+
+import lombok.Getter;
+
+/**
+ * 외부 호출을 시도하지 않고 즉시 거절한 경우 (동시 호출 한도 초과 / 서킷 열림)
+ */
+@Getter
+public class OutboundUnavailableException extends RuntimeException {
+
+    private final OutboundTarget target;
+
+    public OutboundUnavailableException(OutboundTarget target, String reason) {
+        super(target + " 호출 불가: " + reason);
+        this.target = target;
+    }
+}
@@ -0,0 +1,100 @@
+package com.my.backend.myjwt;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검증된 JWT 클레임용 크기 제한 LRU 캐시 (항목별 유효기간)
+ *
+ * - 키 해시로 나눈 stripe 마다 접근 순서 LinkedHashMap + stripe 단위 lock → 전역 lock 경합 없음
+ * - stripe 가 가득 차면 가장 오래 사용하지 않은 항목을 내보내고 새 항목을 저장 (로그인 폭주 후에도 새 세션 캐시)
+ * - 만료 항목은 조회 시 제거, 나머지는 evictExpired 로 주기 정리
+ */
+class ClaimsLruCache<K, V> {
+
+    private record Entry<V>(V value, long validUntilMillis) {
+    }
+
+    private final Stripe<K, V>[] stripes;
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    ClaimsLruCache(int maxSize, int stripeCount) {
+        int count = Math.max(1, Math.min(stripeCount, Math.max(1, maxSize)));
+        int perStripe = Math.max(1, (maxSize + count - 1) / count);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe<>(perStripe, evictions);
+        }
+    }
+
+    V get(K key, long now) {
+        Stripe<K, V> stripe = stripeOf(key);
+        synchronized (stripe) {
+            Entry<V> entry = stripe.get(key);
+            if (entry == null) return null;
+            if (now < entry.validUntilMillis()) return entry.value();
+            stripe.remove(key);
+            return null;
+        }
+    }
+
+    void put(K key, V value, long validUntilMillis) {
+        Stripe<K, V> stripe = stripeOf(key);
+        synchronized (stripe) {
+            stripe.put(key, new Entry<>(value, validUntilMillis));
+        }
+    }
+
+    int evictExpired(long now) {
+        int removed = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                int before = stripe.size();
+                stripe.values().removeIf(entry -> now >= entry.validUntilMillis());
+                removed += before - stripe.size();
+            }
+        }
+        return removed;
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    // 용량 초과로 내보낸 항목 수
+    long evictions() {
+        return evictions.sum();
+    }
+
+    private Stripe<K, V> stripeOf(K key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return stripes[(h & 0x7FFFFFFF) % stripes.length];
+    }
+
+    private static final class Stripe<K, V> extends LinkedHashMap<K, Entry<V>> {
+        private final int capacity;
+        private final LongAdder evictions;
+
+        Stripe(int capacity, LongAdder evictions) {
+            super(Math.min(capacity, 1024) * 2, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            boolean evict = size() > capacity;
+            if (evict) evictions.increment();
+            return evict;
+        }
+    }
+}
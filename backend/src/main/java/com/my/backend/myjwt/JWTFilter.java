@@ -14,6 +14,7 @@ import com.my.backend.dto.auth.CustomUserDetails;
 import com.my.backend.entity.Users;
 import com.my.backend.enums.Role;
 
+import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,84 +22,72 @@ import jakarta.servlet.http.HttpServletResponse;
 
 public class JWTFilter extends OncePerRequestFilter {
     private final JWTUtil jwtUtil;
+    private final JwtFilterMetrics metrics;
+    private final PublicRouteMatcher publicRouteMatcher;
 
-    public JWTFilter(JWTUtil jwtUtil) {
+    public JWTFilter(JWTUtil jwtUtil, JwtFilterMetrics metrics, PublicRouteMatcher publicRouteMatcher) {
         this.jwtUtil = jwtUtil;
+        this.metrics = metrics;
+        this.publicRouteMatcher = publicRouteMatcher;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
-        String path = request.getRequestURI();
-
-        // 1. JWT 검사 제외 경로 (필요 시 수정)
-        // 여기에 "/api/qna/" 등을 굳이 넣지 않아도 아래 로직이 안전하면 괜찮습니다.
-        if (path.startsWith("/api/auth/login") ||
-                path.equals("/api/auth/signup") ||
-                path.startsWith("/oauth2/") ||
-                path.startsWith("/login/oauth2/") ||
-                "OPTIONS".equalsIgnoreCase(request.getMethod()) ||
-                path.startsWith("/uploads/") ||
-                path.startsWith("/api/qrcode/") ||
-                path.startsWith("/api/autocomplete") ||
-                path.startsWith("/api/search/log") ||
-                path.startsWith("/ai/") ||
-                path.startsWith("/api/autocomplete?") ||
-                path.equals("/api/auth/verify-email") ||
-                path.startsWith("/api/articles/") ||
-                path.equals("/api/auth/register")
-
-        ){
-            System.out.println("✅ JWT 필터 스킵: " + path);
+        // 1. JWT 검사 제외 경로 (jwt.public-routes, SecurityConfig permitAll 과 공유)
+        if ("OPTIONS".equalsIgnoreCase(request.getMethod())
+                || publicRouteMatcher.matchAndCount(request.getRequestURI())) {
             filterChain.doFilter(request, response);
             return;
         }
 
+        long started = System.nanoTime();
+
         // 2. Get Authorization header
         String authorization = request.getHeader("Authorization");
 
         // 3. 헤더가 없으면 통과 (비로그인 요청 허용)
         if (authorization == null || !authorization.startsWith("Bearer ")) {
+            metrics.recordAnonymous(System.nanoTime() - started);
             filterChain.doFilter(request, response);
             return;
         }
 
-        // 3. 토큰 검증 (전체를 try-catch로 감싸서 안전하게 처리)
+        // 3. 토큰 검증 (서명 검증 + 클레임 추출 1회, 동일 토큰은 캐시 사용)
         try {
             String token = authorization.substring(7);
+            JwtClaims claims = jwtUtil.parseClaims(token);
 
-            // 토큰 만료 여부 확인
-            if (jwtUtil.isExpired(token)) {
-                System.out.println("⚠️ 토큰 만료됨");
-                // 만료된 경우 명시적 401 응답
-                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.setContentType("application/json;charset=UTF-8");
-                response.getWriter().write("{\"error\": \"Token Expired\", \"message\": \"Access token has expired.\"}");
+            // 토큰 만료 여부 확인 (캐시 유효기간은 exp 를 넘지 않지만 한 번 더 확인)
+            if (claims.isExpired(System.currentTimeMillis())) {
+                metrics.recordRejected(System.nanoTime() - started);
+                writeExpired(response);
                 return;
             }
 
-            Long userId = jwtUtil.getUserId(token);
-            String userEmail = jwtUtil.getEmail(token);
-            String role = jwtUtil.getRole(token);
-
-            System.out.println("✅ JWT 토큰 검증 성공: [" + request.getMethod() + " " + request.getRequestURI() + "] userId=" + userId);
             Users user = new Users();
-            user.setUserId(userId);
-            user.setEmail(userEmail);
-            user.setRole(Role.valueOf(role));
+            user.setUserId(claims.getUserId());
+            user.setEmail(claims.getEmail());
+            user.setRole(Role.valueOf(claims.getRole()));
 
             CustomUserDetails customUserDetails = new CustomUserDetails(user);
 
-            List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
+            List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + claims.getRole()));
             Authentication authToken = new UsernamePasswordAuthenticationToken(customUserDetails, null, authorities);
 
             // 인증 정보 저장
             SecurityContextHolder.getContext().setAuthentication(authToken);
+            metrics.recordAuthenticated(System.nanoTime() - started);
 
+        } catch (ExpiredJwtException e) {
+            // 만료된 경우 명시적 401 응답
+            metrics.recordRejected(System.nanoTime() - started);
+            writeExpired(response);
+            return;
         } catch (Exception e) {
             // 🚨 토큰 파싱 에러 시 401 응답에 메시지 포함
-            System.out.println("❌ JWT 검증 실패: " + e.getMessage());
+            metrics.recordRejected(System.nanoTime() - started);
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             response.setContentType("application/json;charset=UTF-8");
             response.getWriter().write("{\"error\": \"JWT Error\", \"message\": \"" + e.getMessage() + "\"}");
@@ -108,4 +97,10 @@ public class JWTFilter extends OncePerRequestFilter {
         // 4. 다음 필터로 진행
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    private void writeExpired(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write("{\"error\": \"Token Expired\", \"message\": \"Access token has expired.\"}");
+    }
+}
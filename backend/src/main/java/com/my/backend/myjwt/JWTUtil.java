@@ -1,9 +1,12 @@
 package com.my.backend.myjwt;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
@@ -13,36 +16,84 @@ import org.springframework.stereotype.Component;
 
 import com.my.backend.enums.Role;
 
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 
 @Component
 public class JWTUtil {
     private final SecretKey secretKey;
+    // JwtParser 는 불변/thread-safe 이므로 한 번만 생성
+    private final JwtParser jwtParser;
+
+    // ===================== 검증된 클레임 캐시 (토큰 해시 → 클레임) =====================
+    // stripe 단위 LRU (가득 차면 가장 오래 쓰지 않은 토큰을 내보냄), 만료는 조회 시 확인 + 주기적 정리
+    private static final int CACHE_STRIPES = 16;
+    private final int cacheMaxSize;
+    private final long cacheTtlMillis;
+    private final ClaimsLruCache<TokenKey, JwtClaims> claimsCache;
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
+    private record TokenKey(long high, long low) {
+    }
 
-    public JWTUtil(@Value("${jwt.secret}")String secret) {
+    public JWTUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.claims-cache.max-size:10000}") int cacheMaxSize,
+                   @Value("${jwt.claims-cache.ttl-seconds:300}") long cacheTtlSeconds) {
         this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8),
                 Jwts.SIG.HS256.key().build().getAlgorithm());
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
+        this.cacheMaxSize = cacheMaxSize;
+        this.cacheTtlMillis = cacheTtlSeconds * 1000;
+        this.claimsCache = new ClaimsLruCache<>(Math.max(cacheMaxSize, 1), CACHE_STRIPES);
+    }
+
+    /**
+     * 서명 검증 + 클레임 추출을 한 번에 수행합니다.
+     * 같은 토큰은 캐시에서 바로 반환하며, 캐시 유효기간은 토큰 만료(exp)를 넘지 않습니다.
+     * 만료된 토큰은 ExpiredJwtException, 위조/형식 오류는 JwtException 을 던집니다.
+     */
+    public JwtClaims parseClaims(String token) {
+        long now = System.currentTimeMillis();
+        TokenKey key = cacheMaxSize > 0 ? keyOf(token) : null;
+
+        if (key != null) {
+            JwtClaims cached = claimsCache.get(key, now);
+            if (cached != null) {
+                cacheHits.increment();
+                return cached;
+            }
+        }
+
+        cacheMisses.increment();
+        JwtClaims claims = JwtClaims.from(jwtParser.parseSignedClaims(token).getPayload());
+        if (key != null) {
+            long validUntil = Math.min(claims.getExpiresAtMillis(), now + cacheTtlMillis);
+            claimsCache.put(key, claims, validUntil);
+        }
+        return claims;
     }
 
     public Long getUserId(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().
-            parseSignedClaims(token).getPayload().get("userId", Number.class).longValue();
+        return parseClaims(token).getUserId();
     }
 
     public String getEmail(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().
-                parseSignedClaims(token).getPayload().get("email", String.class);
+        return parseClaims(token).getEmail();
     }
 
     public String getRole(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().
-                parseSignedClaims(token).getPayload().get("role", String.class);
+        return parseClaims(token).getRole();
     }
 
     public Boolean isExpired(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().
-                parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+        try {
+            return parseClaims(token).isExpired(System.currentTimeMillis());
+        } catch (ExpiredJwtException e) {
+            return true;
+        }
     }
 
     public String createJwt(Long userId, String email, Role role, String nickName, String businessNumber, Long expiredMs) {
@@ -71,19 +122,55 @@ public class JWTUtil {
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+            parseClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
-            System.out.println("Invalid JWT token: " + e.getMessage());
             return false;
         }
     }
 
     // 추가: 토큰에서 businessNumber 클레임을 추출하는 메서드
     public String getBusinessNumber(String token) {
-        // 사업자 번호가 없을 경우 null을 반환하도록 처리합니다.
-        // String.class로 추출 시 null 클레임은 null로 반환될 수 있습니다.
-        return Jwts.parser().verifyWith(secretKey).build()
-                .parseSignedClaims(token).getPayload().get("businessNumber", String.class);
+        // 사업자 번호가 없을 경우 null을 반환합니다.
+        return parseClaims(token).getBusinessNumber();
+    }
+
+    // ===================== 캐시 통계 =====================
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    public int getCacheSize() {
+        return claimsCache.size();
+    }
+
+    public long getCacheEvictions() {
+        return claimsCache.evictions();
+    }
+
+    // 만료된 캐시 항목 정리 (JwtClaimsCacheScheduler 에서 주기 호출)
+    public int evictExpiredClaims() {
+        return claimsCache.evictExpired(System.currentTimeMillis());
+    }
+
+    // 토큰 원문 대신 SHA-256 앞 128bit 를 키로 사용 (메모리에 토큰을 보관하지 않음)
+    private static TokenKey keyOf(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            long high = 0;
+            long low = 0;
+            for (int i = 0; i < 8; i++) {
+                high = (high << 8) | (digest[i] & 0xFF);
+                low = (low << 8) | (digest[i + 8] & 0xFF);
+            }
+            return new TokenKey(high, low);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
@@ -0,0 +1,34 @@
+package com.my.backend.myjwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 서명 검증이 끝난 토큰 클레임 (한 번 파싱 후 재사용)
+@Getter
+@AllArgsConstructor
+public class JwtClaims {
+
+    private final Long userId;
+    private final String email;
+    private final String role;
+    private final String nickName;
+    private final String businessNumber;
+    private final long expiresAtMillis;
+
+    public static JwtClaims from(Claims claims) {
+        Number userId = claims.get("userId", Number.class);
+        return new JwtClaims(
+                userId != null ? userId.longValue() : null,
+                claims.get("email", String.class),
+                claims.get("role", String.class),
+                claims.get("nickName", String.class),
+                claims.get("businessNumber", String.class),
+                claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE
+        );
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
@@ -0,0 +1,56 @@
+package com.my.backend.myjwt;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// JWTFilter 처리 통계 (요청당 필터 오버헤드 측정용)
+@Component
+public class JwtFilterMetrics {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder authenticated = new LongAdder();
+    private final LongAdder anonymous = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder filterNanos = new LongAdder();
+
+    public void recordAuthenticated(long elapsedNanos) {
+        record(authenticated, elapsedNanos);
+    }
+
+    public void recordAnonymous(long elapsedNanos) {
+        record(anonymous, elapsedNanos);
+    }
+
+    public void recordRejected(long elapsedNanos) {
+        record(rejected, elapsedNanos);
+    }
+
+    private void record(LongAdder outcome, long elapsedNanos) {
+        requests.increment();
+        outcome.increment();
+        filterNanos.add(elapsedNanos);
+    }
+
+    public Map<String, Object> snapshot(JWTUtil jwtUtil, PublicRouteMatcher publicRouteMatcher) {
+        long total = requests.sum();
+        long hits = jwtUtil.getCacheHits();
+        long misses = jwtUtil.getCacheMisses();
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("requests", total);
+        map.put("authenticated", authenticated.sum());
+        map.put("anonymous", anonymous.sum());
+        map.put("rejected", rejected.sum());
+        map.put("avgFilterMicros", total == 0 ? 0.0 : filterNanos.sum() / 1000.0 / total);
+        map.put("claimsCacheHits", hits);
+        map.put("claimsCacheMisses", misses);
+        map.put("claimsCacheHitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        map.put("claimsCacheSize", jwtUtil.getCacheSize());
+        map.put("claimsCacheEvictions", jwtUtil.getCacheEvictions());
+        map.put("skippedByRoute", publicRouteMatcher.skipCounts());
+        return map;
+    }
+}
@@ -0,0 +1,126 @@
+package com.my.backend.myjwt;
+
+import com.my.backend.config.JwtProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JWT 검사 제외(공개) 경로 매처
+ *
+ * jwt.public-routes 설정으로 기동 시 한 번 문자 단위 trie 를 만들고,
+ * 요청 경로 길이만큼만 따라가며 할당 없이 판정합니다.
+ *
+ * 패턴 규칙:
+ * - "/api/articles/**" → "/api/articles/" 로 시작하는 경로
+ * - "/api/autocomplete**" → "/api/autocomplete" 로 시작하는 경로
+ * - "/api/auth/signup" → 정확히 일치하는 경로
+ *
+ * SecurityConfig 의 permitAll 과 JWTFilter 의 스킵 판정이 같은 규칙을 사용합니다.
+ */
+@Component
+public class PublicRouteMatcher implements RequestMatcher {
+
+    private static final int NO_MATCH = -1;
+
+    private static final class Node {
+        char[] keys = new char[0];
+        Node[] children = new Node[0];
+        int prefixRule = NO_MATCH; // 여기까지 일치하면 이후 경로와 무관하게 매칭
+        int exactRule = NO_MATCH;  // 경로가 여기서 끝나면 매칭
+
+        Node child(char c) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == c) return children[i];
+            }
+            return null;
+        }
+
+        Node getOrAddChild(char c) {
+            Node existing = child(c);
+            if (existing != null) return existing;
+            keys = Arrays.copyOf(keys, keys.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            keys[keys.length - 1] = c;
+            children[children.length - 1] = new Node();
+            return children[children.length - 1];
+        }
+    }
+
+    private final Node root = new Node();
+    private final List<String> patterns = new ArrayList<>();
+    private final LongAdder[] skipCounts;
+
+    public PublicRouteMatcher(JwtProperties jwtProperties) {
+        List<String> configured = jwtProperties.getPublicRoutes();
+        for (String pattern : configured) {
+            if (pattern == null || pattern.isBlank()) continue;
+            add(pattern.trim(), patterns.size());
+            patterns.add(pattern.trim());
+        }
+        skipCounts = new LongAdder[patterns.size()];
+        for (int i = 0; i < skipCounts.length; i++) {
+            skipCounts[i] = new LongAdder();
+        }
+    }
+
+    private void add(String pattern, int ruleIndex) {
+        boolean prefix = pattern.endsWith("**");
+        String literal = prefix ? pattern.substring(0, pattern.length() - 2) : pattern;
+
+        Node node = root;
+        for (int i = 0; i < literal.length(); i++) {
+            node = node.getOrAddChild(literal.charAt(i));
+        }
+        if (prefix) {
+            if (node.prefixRule == NO_MATCH) node.prefixRule = ruleIndex;
+        } else {
+            if (node.exactRule == NO_MATCH) node.exactRule = ruleIndex;
+        }
+    }
+
+    /**
+     * 일치하는 규칙 번호 (없으면 -1). 가장 짧은 prefix 규칙이 우선합니다.
+     */
+    public int match(String path) {
+        if (path == null) return NO_MATCH;
+
+        Node node = root;
+        for (int i = 0; i < path.length(); i++) {
+            if (node.prefixRule != NO_MATCH) return node.prefixRule;
+            node = node.child(path.charAt(i));
+            if (node == null) return NO_MATCH;
+        }
+        if (node.prefixRule != NO_MATCH) return node.prefixRule;
+        return node.exactRule;
+    }
+
+    // SecurityConfig permitAll 용
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return match(request.getRequestURI()) != NO_MATCH;
+    }
+
+    // JWTFilter 스킵 판정 + 규칙별 스킵 횟수 집계
+    public boolean matchAndCount(String path) {
+        int rule = match(path);
+        if (rule == NO_MATCH) return false;
+        skipCounts[rule].increment();
+        return true;
+    }
+
+    public Map<String, Long> skipCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int i = 0; i < patterns.size(); i++) {
+            counts.put(patterns.get(i), skipCounts[i].sum());
+        }
+        return counts;
+    }
+}
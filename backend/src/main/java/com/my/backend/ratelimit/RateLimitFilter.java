@@ -0,0 +1,103 @@
+package com.my.backend.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 남용 가능성이 큰 엔드포인트 요청 제한 (인증/DB 처리 이전에 차단)
+ *
+ * SecurityConfig 에서 JWTFilter / LoginFilter 앞에 등록합니다.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private record Rule(String bucket, String method, List<PathPattern> patterns, int limit, Duration window,
+                        Function<HttpServletRequest, String> keyResolver) {
+    }
+
+    private static final PathPatternParser PARSER = new PathPatternParser();
+
+    private final RateLimitService rateLimitService;
+    private final List<Rule> rules;
+
+    public RateLimitFilter(RateLimitService rateLimitService) {
+        this.rateLimitService = rateLimitService;
+        this.rules = List.of(
+                // SMS 인증번호 발송
+                new Rule("sms-send", "POST",
+                        patterns("/api/sms/send", "/api/sms/reset/send", "/api/sms/resend"),
+                        10, Duration.ofMinutes(10), RateLimitFilter::clientIp),
+                // SMS 인증번호 확인 (무차별 대입 방지)
+                new Rule("sms-verify", "POST", patterns("/api/sms/verify"),
+                        20, Duration.ofMinutes(10), RateLimitFilter::clientIp),
+                // 이메일 인증 코드 발송
+                new Rule("email-send", "POST",
+                        patterns("/api/auth/send-code", "/api/auth/password-reset/send-code"),
+                        10, Duration.ofMinutes(10), RateLimitFilter::clientIp),
+                // 이메일 인증 코드 확인 (이메일 단위)
+                new Rule("email-verify", "POST", patterns("/api/auth/verify-email"),
+                        10, Duration.ofMinutes(10), request -> {
+                            String email = request.getParameter("email");
+                            return email != null ? email.toLowerCase() : clientIp(request);
+                        }),
+                // 로그인
+                new Rule("login", "POST", patterns("/api/auth/login", "/api/auth/login/phone"),
+                        20, Duration.ofMinutes(1), RateLimitFilter::clientIp),
+                // 입찰 (IP + 상품 단위)
+                new Rule("bid", "POST", patterns("/api/bid/{productId}/bid"),
+                        10, Duration.ofSeconds(10), request -> clientIp(request) + ":" + request.getRequestURI())
+        );
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Rule rule = findRule(request);
+        if (rule != null && !rateLimitService.tryAcquire(rule.bucket(), rule.keyResolver().apply(request),
+                rule.limit(), rule.window())) {
+            response.setStatus(429);
+            response.setHeader("Retry-After", String.valueOf(rule.window().toSeconds()));
+            response.setContentType("application/json;charset=UTF-8");
+            response.getWriter().write("{\"error\": \"Too Many Requests\", \"message\": \"요청이 너무 많습니다. 잠시 후 다시 시도해주세요.\"}");
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Rule findRule(HttpServletRequest request) {
+        if (HttpMethod.OPTIONS.matches(request.getMethod())) return null;
+
+        PathContainer path = null;
+        for (Rule rule : rules) {
+            if (!rule.method().equalsIgnoreCase(request.getMethod())) continue;
+            if (path == null) path = PathContainer.parsePath(request.getRequestURI());
+            for (PathPattern pattern : rule.patterns()) {
+                if (pattern.matches(path)) return rule;
+            }
+        }
+        return null;
+    }
+
+    private static List<PathPattern> patterns(String... paths) {
+        return Arrays.stream(paths).map(PARSER::parse).toList();
+    }
+
+    // 클라이언트 IP: X-Forwarded-For 는 직접 해석하지 않음 (맨 앞 값은 클라이언트가 임의로 보낼 수 있음)
+    // server.forward-headers-strategy=native → Tomcat RemoteIpValve 가 신뢰 프록시(internal-proxies)만
+    // 오른쪽부터 건너뛰고 남은 주소를 remoteAddr 로 설정
+    private static String clientIp(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,110 @@
+package com.my.backend.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 슬라이딩 윈도우(sliding log) 요청 제한
+ *
+ * - 기본: Redis ZSET + Lua 로 여러 인스턴스가 같은 카운트를 공유
+ * - Redis 장애 시: 잠시 Redis 호출을 건너뛰고 인스턴스 로컬 로그로 대체
+ */
+@Slf4j
+@Component
+public class RateLimitService {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+    private static final long REDIS_RETRY_AFTER_MS = 30_000;
+
+    // 윈도우 밖 기록 삭제 → 현재 개수 확인 → 허용 시 기록 추가
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>("""
+            local key = KEYS[1]
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            local limit = tonumber(ARGV[3])
+            redis.call('ZREMRANGEBYSCORE', key, 0, now - window)
+            if redis.call('ZCARD', key) >= limit then
+              return 0
+            end
+            redis.call('ZADD', key, now, ARGV[4])
+            redis.call('PEXPIRE', key, window)
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    // Redis 사용 불가 시 로컬 대체 저장소 (key → 요청 시각 로그)
+    private final Map<String, Deque<Long>> localLogs = new ConcurrentHashMap<>();
+    private final Map<String, Long> localWindows = new ConcurrentHashMap<>();
+    private volatile long redisDisabledUntil = 0;
+
+    public RateLimitService(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * window 동안 limit 회까지 허용합니다. 허용되면 이번 요청을 기록하고 true 를 반환합니다.
+     */
+    public boolean tryAcquire(String bucket, String key, int limit, Duration window) {
+        String fullKey = KEY_PREFIX + bucket + ":" + key;
+        long now = System.currentTimeMillis();
+        long windowMs = window.toMillis();
+
+        if (now >= redisDisabledUntil) {
+            try {
+                Long allowed = redisTemplate.execute(SLIDING_WINDOW_SCRIPT, List.of(fullKey),
+                        String.valueOf(now), String.valueOf(windowMs), String.valueOf(limit),
+                        now + "-" + ThreadLocalRandom.current().nextLong());
+                return allowed != null && allowed == 1L;
+            } catch (Exception e) {
+                redisDisabledUntil = now + REDIS_RETRY_AFTER_MS;
+                log.warn("Redis 요청 제한 사용 불가, {}초간 로컬 제한으로 대체: {}",
+                        REDIS_RETRY_AFTER_MS / 1000, e.getMessage());
+            }
+        }
+        return tryAcquireLocal(fullKey, limit, windowMs, now);
+    }
+
+    private boolean tryAcquireLocal(String key, int limit, long windowMs, long now) {
+        localWindows.put(key, windowMs);
+        Deque<Long> timestamps = localLogs.computeIfAbsent(key, k -> new ArrayDeque<>());
+        synchronized (timestamps) {
+            while (!timestamps.isEmpty() && timestamps.peekFirst() <= now - windowMs) {
+                timestamps.pollFirst();
+            }
+            if (timestamps.size() >= limit) {
+                return false;
+            }
+            timestamps.addLast(now);
+            return true;
+        }
+    }
+
+    // 윈도우가 지난 로컬 기록 정리 (메모리 누수 방지)
+    @Scheduled(fixedRate = 60000)
+    public void evictLocal() {
+        long now = System.currentTimeMillis();
+        localLogs.entrySet().removeIf(entry -> {
+            long windowMs = localWindows.getOrDefault(entry.getKey(), 0L);
+            Deque<Long> timestamps = entry.getValue();
+            synchronized (timestamps) {
+                Long last = timestamps.peekLast();
+                boolean expired = last == null || last <= now - windowMs;
+                if (expired) localWindows.remove(entry.getKey());
+                return expired;
+            }
+        });
+    }
+}
@@ -1,8 +1,12 @@
 package com.my.backend.repository;
 
+import com.my.backend.dto.ArticleDto;
 import com.my.backend.entity.Article;
 import com.my.backend.enums.ArticleType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,9 +14,20 @@ import java.util.List;
 @Repository
 public interface ArticleRepository extends JpaRepository<Article, Long> {
 
-    // 유저 ID로 글 조회
-    List<Article> findByUserUserId(Long userId);
-
-    List<Article> findByArticleType(ArticleType articleType);
-
+    // 목록 프로젝션 (작성자 닉네임 조인, articleId 내림차순 keyset), null 파라미터는 조건 제외
+    @Query("""
+    select new com.my.backend.dto.ArticleDto(
+        a.articleId, u.userId, u.nickName, a.title, a.content,
+        a.createdAt, a.updatedAt, a.articleType, a.isSecret)
+    from Article a
+    join a.user u
+    where (:articleType is null or a.articleType = :articleType)
+      and (:userId is null or u.userId = :userId)
+      and (:cursorId is null or a.articleId < :cursorId)
+    order by a.articleId desc
+""")
+    List<ArticleDto> findArticleRows(@Param("articleType") ArticleType articleType,
+                                     @Param("userId") Long userId,
+                                     @Param("cursorId") Long cursorId,
+                                     Pageable pageable);
 }
@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,5 +43,8 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
 """)
     List<Bid> findByUserWithProductOrderByCreatedAtDesc(@Param("user") Users user);
 
+    // 입찰이 있는 상품 ID (경매 종료 일괄 처리용)
+    @Query("select distinct b.product.productId from Bid b where b.product.productId in :productIds")
+    List<Long> findProductIdsWithBids(@Param("productIds") Collection<Long> productIds);
 
 }
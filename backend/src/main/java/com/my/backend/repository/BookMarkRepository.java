@@ -1,11 +1,15 @@
 package com.my.backend.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.my.backend.entity.BookMark;
 import com.my.backend.entity.Product;
@@ -14,15 +18,66 @@ import com.my.backend.entity.Users;
 public interface BookMarkRepository extends JpaRepository<BookMark, Long> {
     Optional<BookMark> findByUserAndProduct(Users user, Product product);
     List<BookMark> findAllByUser(Users user);
-    Long countByProduct(Product product);
 
     boolean existsByUserUserIdAndProductProductId(Long userId, Long productId);
 
-    // 북마크 수 기준으로 인기 상품 조회 (상위 N개), 판매중 상품만
-    @Query("SELECT b.product " +
-            "FROM BookMark b " +
-            "WHERE b.product.productStatus = 'ACTIVE' " +  // 추가
-            "GROUP BY b.product " +
-            "ORDER BY COUNT(b) DESC")
-    List<Product> findTopBookmarkedProducts(Pageable pageable);
+    // 여러 상품 중 유저가 찜한 상품 ID (한 번에 조회)
+    @Query("""
+    select b.product.productId
+    from BookMark b
+    where b.user.userId = :userId
+      and b.product.productId in :productIds
+""")
+    List<Long> findBookmarkedProductIds(@Param("userId") Long userId,
+                                        @Param("productIds") Collection<Long> productIds);
+
+    // 찜 해제 (삭제된 행 수: 0 또는 1)
+    @Transactional
+    @Modifying
+    @Query("delete from BookMark b where b.user.userId = :userId and b.product.productId = :productId")
+    int deleteByIds(@Param("userId") Long userId, @Param("productId") Long productId);
+
+    // 찜 추가 (삽입된 행 수: 0 또는 1)
+    // 이미 찜한 경우(유니크 제약 중복) 또는 유저/상품이 없는 경우 0
+    @Transactional
+    @Modifying
+    @Query(value = """
+    insert ignore into bookmark (user_id, product_id, created_at, updated_at)
+    select u.user_id, p.product_id, :now, :now
+    from users u, product p
+    where u.user_id = :userId
+      and p.product_id = :productId
+""", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId,
+                       @Param("productId") Long productId,
+                       @Param("now") LocalDateTime now);
+
+    // 유니크 제약 도입 이전 중복 찜 정리 (가장 먼저 찜한 행만 유지)
+    @Transactional
+    @Modifying
+    @Query(value = """
+    delete b1 from bookmark b1
+    join bookmark b2
+      on b1.user_id = b2.user_id
+     and b1.product_id = b2.product_id
+     and b1.bookmark_id > b2.bookmark_id
+""", nativeQuery = true)
+    int deleteDuplicates();
+
+    // (user_id, product_id) 순서 그대로인 유니크 인덱스 수 (이름과 무관하게 확인)
+    @Query(value = """
+    select count(*) from (
+        select index_name
+        from information_schema.statistics
+        where table_schema = database() and table_name = 'bookmark' and non_unique = 0
+        group by index_name
+        having group_concat(column_name order by seq_in_index) = 'user_id,product_id'
+    ) t
+""", nativeQuery = true)
+    long countUserProductUniqueKeys();
+
+    @Transactional
+    @Modifying
+    @Query(value = "alter table bookmark add constraint uk_bookmark_user_product unique (user_id, product_id)", nativeQuery = true)
+    void addUserProductUniqueKey();
 }
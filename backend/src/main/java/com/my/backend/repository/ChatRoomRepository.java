@@ -1,10 +1,17 @@
 package com.my.backend.repository;
 
 import com.my.backend.entity.ChatRoom;
+import com.my.backend.dto.AdminChatRoomListDto;
+import com.my.backend.dto.ChatRoomListDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import java.util.List;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -19,5 +26,125 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
     // userId가 Sender(구매자) 이거나 Seller(판매자)인 모든 방을 최신 업데이트순으로 정렬하여 조회
     List<ChatRoom> findBySenderUserIdOrSellerUserIdOrderByCreatedAtDesc(Long senderUserId, Long sellerUserId);
-}
 
+    // 두 사용자 간 특정 상품 대화의 채팅방 id (양방향)
+    @Query("""
+    select r.id
+    from ChatRoom r
+    where r.product.productId = :productId
+      and ((r.seller.userId = :userId and r.sender.userId = :targetUserId)
+        or (r.seller.userId = :targetUserId and r.sender.userId = :userId))
+""")
+    List<Long> findRoomIdsBetween(@Param("userId") Long userId,
+                                  @Param("targetUserId") Long targetUserId,
+                                  @Param("productId") Long productId);
+
+    // ===================== 채팅방 요약 =====================
+
+    // 판매자가 보낸 메시지: 요약 갱신 + 구매자(sender) 안 읽음 +1
+    @Modifying
+    @Query("""
+    update ChatRoom r
+    set r.lastMessage = :content, r.lastMessageAt = :at, r.senderUnreadCount = r.senderUnreadCount + 1
+    where r.id = :roomId
+""")
+    int recordMessageFromSeller(@Param("roomId") Long roomId,
+                                @Param("content") String content,
+                                @Param("at") LocalDateTime at);
+
+    // 구매자가 보낸 메시지: 요약 갱신 + 판매자 안 읽음 +1
+    @Modifying
+    @Query("""
+    update ChatRoom r
+    set r.lastMessage = :content, r.lastMessageAt = :at, r.sellerUnreadCount = r.sellerUnreadCount + 1
+    where r.id = :roomId
+""")
+    int recordMessageFromSender(@Param("roomId") Long roomId,
+                                @Param("content") String content,
+                                @Param("at") LocalDateTime at);
+
+    // 읽음 처리 (해당 참여자 쪽 카운트만 초기화)
+    @Modifying
+    @Query("""
+    update ChatRoom r
+    set r.sellerUnreadCount = case when r.seller.userId = :userId then 0 else r.sellerUnreadCount end,
+        r.senderUnreadCount = case when r.sender.userId = :userId then 0 else r.senderUnreadCount end
+    where r.id = :roomId
+""")
+    int markRead(@Param("roomId") Long roomId, @Param("userId") Long userId);
+
+    // 내 채팅방 목록 (상대방/상품/요약을 한 쿼리로)
+    @Query("""
+    select new com.my.backend.dto.ChatRoomListDto(
+        r.id,
+        p.productId,
+        p.title,
+        case when s.userId = :userId then sl.userId else s.userId end,
+        case when s.userId = :userId then sl.nickName else s.nickName end,
+        coalesce(r.lastMessage, ''),
+        coalesce(r.lastMessageAt, r.createdAt),
+        case when s.userId = :userId then r.senderUnreadCount else r.sellerUnreadCount end
+    )
+    from ChatRoom r
+    join r.sender s
+    join r.seller sl
+    join r.product p
+    where s.userId = :userId or sl.userId = :userId
+    order by coalesce(r.lastMessageAt, r.createdAt) desc
+""")
+    List<ChatRoomListDto> findRoomSummaries(@Param("userId") Long userId);
+
+    // 요약 컬럼 도입 이전 채팅방 보정 (마지막 메시지 기준)
+    @Modifying
+    @Query("""
+    update ChatRoom r
+    set r.lastMessageAt = (select max(c.createdAt) from PrivateChat c where c.chatRoom.id = r.id),
+        r.lastMessage = (select c.content from PrivateChat c
+                         where c.privateChatId = (select max(c2.privateChatId) from PrivateChat c2 where c2.chatRoom.id = r.id))
+    where r.lastMessageAt is null
+      and exists (select 1 from PrivateChat c3 where c3.chatRoom.id = r.id)
+""")
+    int backfillSummaries();
+
+    // 메시지 없는 채팅방의 활동 시각을 생성 시각으로 보정 (최근 활동순 정렬/인덱스용)
+    @Modifying
+    @Query("update ChatRoom r set r.lastMessageAt = r.createdAt where r.lastMessageAt is null")
+    int backfillEmptyRoomActivity();
+
+    // ===================== 관리자 채팅방 목록 =====================
+
+    // 최근 활동순 ((lastMessageAt, id) keyset), null 파라미터는 조건 제외
+    // - 상품: (product_id, last_message_at), 유저: (seller_id / sender_id, last_message_at) 인덱스
+    @Query("""
+    select new com.my.backend.dto.AdminChatRoomListDto(
+        r.id,
+        p.productId,
+        p.title,
+        sl.userId,
+        sl.nickName,
+        s.userId,
+        s.nickName,
+        coalesce(r.lastMessage, ''),
+        coalesce(r.lastMessageAt, r.createdAt)
+    )
+    from ChatRoom r
+    join r.seller sl
+    join r.sender s
+    join r.product p
+    where (:productId is null or p.productId = :productId)
+      and (:userId is null or sl.userId = :userId or s.userId = :userId)
+      and (:from is null or r.lastMessageAt >= :from)
+      and (:to is null or r.lastMessageAt < :to)
+      and (:cursorAt is null
+           or r.lastMessageAt < :cursorAt
+           or (r.lastMessageAt = :cursorAt and r.id < :cursorId))
+    order by r.lastMessageAt desc, r.id desc
+""")
+    List<AdminChatRoomListDto> findAdminRoomPage(@Param("productId") Long productId,
+                                                 @Param("userId") Long userId,
+                                                 @Param("from") LocalDateTime from,
+                                                 @Param("to") LocalDateTime to,
+                                                 @Param("cursorAt") LocalDateTime cursorAt,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Pageable pageable);
+}
@@ -1,20 +1,42 @@
 package com.my.backend.repository;
 
-import com.my.backend.entity.Article;
+import com.my.backend.dto.CommentDto;
 import com.my.backend.entity.Comment;
-import com.my.backend.entity.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    // 특정 Article의 댓글 리스트 조회
-    List<Comment> findByArticle(Article article);
-    List<Comment> findByArticleArticleId(Long articleId);
 
-    // User별 댓글 조회
-    List<Comment> findByUser(Users user);
+    // 특정 Article의 댓글 전체 (작성자/게시글/부모 ID를 한 쿼리로, 등록순)
+    @Query("""
+    select new com.my.backend.dto.CommentDto(
+        c.commentId, a.articleId, u.userId, u.nickName, c.content,
+        c.createdAt, c.updatedAt, a.title, p.commentId)
+    from Comment c
+    join c.article a
+    left join c.user u
+    left join c.parent p
+    where a.articleId = :articleId
+    order by c.commentId asc
+""")
+    List<CommentDto> findRowsByArticleId(@Param("articleId") Long articleId);
 
+    // User별 댓글 (작성자/게시글/부모 ID를 한 쿼리로, 등록순)
+    @Query("""
+    select new com.my.backend.dto.CommentDto(
+        c.commentId, a.articleId, u.userId, u.nickName, c.content,
+        c.createdAt, c.updatedAt, a.title, p.commentId)
+    from Comment c
+    join c.user u
+    left join c.article a
+    left join c.parent p
+    where u.userId = :userId
+    order by c.commentId asc
+""")
+    List<CommentDto> findRowsByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,30 @@
+package com.my.backend.repository;
+
+import com.my.backend.entity.IdSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface IdSequenceRepository extends JpaRepository<IdSequence, String> {
+
+    // 다음 값을 최소 nextVal 이상으로 맞춤 (없으면 생성)
+    @Modifying
+    @Query(value = """
+    insert into id_sequence (name, next_val) values (:name, :nextVal)
+    on duplicate key update next_val = greatest(next_val, :nextVal)
+""", nativeQuery = true)
+    void seed(@Param("name") String name, @Param("nextVal") long nextVal);
+
+    // 행 잠금으로 인스턴스 간 예약 직렬화
+    @Modifying
+    @Query("update IdSequence s set s.nextVal = s.nextVal + :size where s.name = :name")
+    int advance(@Param("name") String name, @Param("size") int size);
+
+    @Query("select s.nextVal from IdSequence s where s.name = :name")
+    Optional<Long> findNextVal(@Param("name") String name);
+}
@@ -2,8 +2,15 @@ package com.my.backend.repository;
 
 import com.my.backend.entity.Image;
 import com.my.backend.enums.ImageType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +22,47 @@ public interface ImageRepository extends JpaRepository<Image, Long> {
     // refId + imageType으로 조회 (선택)
     List<Image> findByRefIdAndImageType(Long refId, ImageType imageType);
 
+    // 여러 refId 이미지 일괄 조회 (목록 화면 N+1 방지)
+    List<Image> findByImageTypeAndRefIdIn(ImageType imageType, Collection<Long> refIds);
+
     Optional<Image> findTopByRefIdAndImageTypeOrderByCreatedAtAsc(Long refId, ImageType imageType);
 
+    // 여러 상품의 이미지 경로 일괄 조회 (refId → 등록 순, 목록 대표 이미지용: 축소본 우선)
+    @Query("""
+    select i.refId, coalesce(i.thumbnailPath, i.imagePath)
+    from Image i
+    where i.imageType = :imageType
+      and i.refId in :refIds
+    order by i.refId asc, i.createdAt asc, i.imageId asc
+""")
+    List<Object[]> findImagePathRows(@Param("imageType") ImageType imageType,
+                                     @Param("refIds") Collection<Long> refIds);
+
+    // 축소본 미생성 + 재시도 시각이 된 이미지 id (백그라운드 재처리용, 실패 백오프 중인 이미지는 제외)
+    @Query("""
+    select i.imageId
+    from Image i
+    where i.thumbnailPath is null
+      and (i.derivativeRetryAt is null or i.derivativeRetryAt <= :now)
+    order by i.imageId asc
+""")
+    List<Long> findDerivativeTargetIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 같은 원본으로 이미 만든 축소본 재사용 (상품 수정 시 이미지 행 재생성 대응)
+    Optional<Image> findFirstByImagePathAndThumbnailPathIsNotNull(String imagePath);
+
+    @Transactional
+    @Modifying
+    @Query("update Image i set i.thumbnailPath = :thumbnailPath, i.mediumPath = :mediumPath where i.imageId = :imageId")
+    int updateDerivatives(@Param("imageId") Long imageId,
+                          @Param("thumbnailPath") String thumbnailPath,
+                          @Param("mediumPath") String mediumPath);
+
+    @Transactional
+    @Modifying
+    @Query("update Image i set i.derivativeAttempts = :attempts, i.derivativeRetryAt = :retryAt where i.imageId = :imageId")
+    int recordDerivativeFailure(@Param("imageId") Long imageId,
+                                @Param("attempts") int attempts,
+                                @Param("retryAt") LocalDateTime retryAt);
+
 }
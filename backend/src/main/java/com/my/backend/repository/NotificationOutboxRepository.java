@@ -0,0 +1,46 @@
+package com.my.backend.repository;
+
+import com.my.backend.entity.NotificationOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 발송 시각이 도래했고 재시도 한도를 넘지 않은, 선점되지 않은(또는 선점이 만료된) 이벤트 (오래된 순)
+    @Query("""
+    select o.outboxId
+    from NotificationOutbox o
+    where o.attempts < :maxAttempts
+      and o.nextAttemptAt <= :now
+      and (o.claimToken is null or o.claimedAt < :staleBefore)
+    order by o.outboxId asc
+""")
+    List<Long> findDueIds(@Param("maxAttempts") int maxAttempts,
+                          @Param("now") LocalDateTime now,
+                          @Param("staleBefore") LocalDateTime staleBefore,
+                          Pageable pageable);
+
+    // 선점 (조건을 다시 확인하므로 다른 인스턴스가 먼저 선점한 행은 제외됨)
+    @Modifying
+    @Query("""
+    update NotificationOutbox o
+    set o.claimToken = :token, o.claimedAt = :now
+    where o.outboxId in :ids
+      and (o.claimToken is null or o.claimedAt < :staleBefore)
+""")
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("token") String token,
+              @Param("now") LocalDateTime now,
+              @Param("staleBefore") LocalDateTime staleBefore);
+
+    List<NotificationOutbox> findByClaimTokenOrderByOutboxIdAsc(String claimToken);
+}
@@ -1,7 +1,13 @@
 package com.my.backend.repository;
 
+import com.my.backend.dto.PaymentHistoryResponse;
 import com.my.backend.entity.Payment;
+import com.my.backend.enums.PaymentStatus;
+import com.my.backend.enums.ProductType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -13,4 +19,62 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     java.util.List<Payment> findByProduct_Seller_UserId(Long sellerId);
 
     java.util.Optional<Payment> findByProduct_ProductId(Long productId);
+
+    // 일별 결제 건수 / 금액 합계 (관리자 통계 재집계용)
+    @Query("""
+    select cast(pay.createdAt as LocalDate), count(pay), coalesce(sum(pay.totalPrice), 0)
+    from Payment pay
+    where pay.createdAt >= :from
+      and pay.paymentStatus in :statuses
+    group by cast(pay.createdAt as LocalDate)
+""")
+    java.util.List<Object[]> sumPaidPerDay(@Param("from") java.time.LocalDateTime from,
+                                           @Param("statuses") java.util.Collection<PaymentStatus> statuses);
+
+    // 상품들의 결제 상태 일괄 조회 (productId, 결제 상태)
+    @Query("select pay.product.productId, pay.paymentStatus from Payment pay where pay.productType = :productType and pay.product.productId in :productIds")
+    java.util.List<Object[]> findPaymentStatuses(@Param("productType") ProductType productType,
+                                                 @Param("productIds") java.util.Collection<Long> productIds);
+
+    // 구매 내역 (응답 컬럼만 조회, paymentId 내림차순 keyset: cursorId 미만)
+    @Query("""
+    select new com.my.backend.dto.PaymentHistoryResponse(
+        pay.paymentId, p.productId, p.title, pay.totalPrice,
+        pay.paymentStatus, pay.createdAt, pay.courierName, pay.trackingNumber,
+        u.userName, u.nickName, u.phone, a.address, a.detailAddress,
+        s.nickName, s.userId, p.productType
+    )
+    from Payment pay
+    join pay.product p
+    join pay.user u
+    left join u.address a
+    left join p.seller s
+    where u.userId = :userId
+      and pay.paymentId < :cursorId
+    order by pay.paymentId desc
+""")
+    java.util.List<PaymentHistoryResponse> findBuyingHistory(@Param("userId") Long userId,
+                                                             @Param("cursorId") Long cursorId,
+                                                             Pageable pageable);
+
+    // 판매 내역 (응답 컬럼만 조회, paymentId 내림차순 keyset: cursorId 미만)
+    @Query("""
+    select new com.my.backend.dto.PaymentHistoryResponse(
+        pay.paymentId, p.productId, p.title, pay.totalPrice,
+        pay.paymentStatus, pay.createdAt, pay.courierName, pay.trackingNumber,
+        u.userName, u.nickName, u.phone, a.address, a.detailAddress,
+        s.nickName, s.userId, p.productType
+    )
+    from Payment pay
+    join pay.product p
+    join p.seller s
+    left join pay.user u
+    left join u.address a
+    where s.userId = :sellerId
+      and pay.paymentId < :cursorId
+    order by pay.paymentId desc
+""")
+    java.util.List<PaymentHistoryResponse> findSellingHistory(@Param("sellerId") Long sellerId,
+                                                              @Param("cursorId") Long cursorId,
+                                                              Pageable pageable);
 }
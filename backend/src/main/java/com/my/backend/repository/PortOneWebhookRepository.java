@@ -0,0 +1,72 @@
+package com.my.backend.repository;
+
+import com.my.backend.entity.PortOneWebhook;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PortOneWebhookRepository extends JpaRepository<PortOneWebhook, Long> {
+
+    // 수신 기록 (같은 (imp_uid, status) 가 이미 대기 중이면 0)
+    @Modifying
+    @Query(value = """
+    insert ignore into portone_webhook (imp_uid, merchant_uid, status, attempts, next_attempt_at, created_at)
+    values (:impUid, :merchantUid, :status, 0, :now, :now)
+""", nativeQuery = true)
+    int insertIfAbsent(@Param("impUid") String impUid,
+                       @Param("merchantUid") String merchantUid,
+                       @Param("status") String status,
+                       @Param("now") LocalDateTime now);
+
+    // 처리 시각이 도래했고 재시도 한도를 넘지 않은, 선점되지 않은(또는 선점이 만료된) 웹훅 (수신 순)
+    @Query("""
+    select w.webhookId
+    from PortOneWebhook w
+    where w.attempts < :maxAttempts
+      and w.nextAttemptAt <= :now
+      and (w.claimToken is null or w.claimedAt < :staleBefore)
+    order by w.webhookId asc
+""")
+    List<Long> findDueIds(@Param("maxAttempts") int maxAttempts,
+                          @Param("now") LocalDateTime now,
+                          @Param("staleBefore") LocalDateTime staleBefore,
+                          Pageable pageable);
+
+    // 선점 (조건을 다시 확인하므로 다른 인스턴스가 먼저 선점한 행은 제외됨)
+    @Modifying
+    @Query("""
+    update PortOneWebhook w
+    set w.claimToken = :token, w.claimedAt = :now
+    where w.webhookId in :ids
+      and (w.claimToken is null or w.claimedAt < :staleBefore)
+""")
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("token") String token,
+              @Param("now") LocalDateTime now,
+              @Param("staleBefore") LocalDateTime staleBefore);
+
+    List<PortOneWebhook> findByClaimTokenOrderByWebhookIdAsc(String claimToken);
+
+    // 재시도 예약 (선점 해제)
+    @Modifying
+    @Query("""
+    update PortOneWebhook w
+    set w.attempts = :attempts, w.nextAttemptAt = :nextAttemptAt, w.lastError = :error,
+        w.claimToken = null, w.claimedAt = null
+    where w.webhookId = :webhookId
+""")
+    int reschedule(@Param("webhookId") Long webhookId,
+                   @Param("attempts") int attempts,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error);
+
+    long countByAttemptsGreaterThanEqual(int attempts);
+}
@@ -1,9 +1,15 @@
 package com.my.backend.repository;
 
 import com.my.backend.entity.PrivateChat;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +20,96 @@ public interface PrivateChatRepository extends JpaRepository<PrivateChat, Long>
 
     // 특정 채팅방(chatRoomId)의 가장 최근 메시지 1개 조회 (내림차순 정렬 후 최상위 1개)
     Optional<PrivateChat> findTopByChatRoomIdOrderByCreatedAtDesc(Long chatRoomId);
+
+    // 여러 채팅방 메시지를 작성자/채팅방과 함께 한 번에 조회 (시간순)
+    @Query("""
+    select c
+    from PrivateChat c
+    join fetch c.chatRoom r
+    left join fetch c.user u
+    where r.id in :roomIds
+    order by c.createdAt asc, c.privateChatId asc
+""")
+    List<PrivateChat> findAllWithUserByRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+    // 커서 이전 메시지 (최신순, 첫 페이지)
+    @Query("""
+    select c
+    from PrivateChat c
+    join fetch c.chatRoom r
+    left join fetch c.user u
+    where r.id in :roomIds
+    order by c.createdAt desc, c.privateChatId desc
+""")
+    List<PrivateChat> findLatestByRoomIds(@Param("roomIds") Collection<Long> roomIds, Pageable pageable);
+
+    // 커서 이전 메시지 (최신순, (createdAt, id) keyset)
+    @Query("""
+    select c
+    from PrivateChat c
+    join fetch c.chatRoom r
+    left join fetch c.user u
+    where r.id in :roomIds
+      and (c.createdAt < :cursorAt
+           or (c.createdAt = :cursorAt and c.privateChatId < :cursorId))
+    order by c.createdAt desc, c.privateChatId desc
+""")
+    List<PrivateChat> findBeforeCursorByRoomIds(@Param("roomIds") Collection<Long> roomIds,
+                                                @Param("cursorAt") LocalDateTime cursorAt,
+                                                @Param("cursorId") Long cursorId,
+                                                Pageable pageable);
+
+    // ===================== 검색 (FULLTEXT ngram) =====================
+
+    // 본문 FULLTEXT(ngram) 일치 또는 작성자 닉네임 부분 일치 후보 id (cursorId 미만, 최신순)
+    @Query(value = """
+    (select c.private_chat_id from private_chat c
+     where c.is_deleted = false and c.private_chat_id < :cursorId
+       and match(c.content) against (:query in boolean mode)
+     order by c.private_chat_id desc limit :limit)
+    union
+    (select c.private_chat_id from private_chat c
+     join users u on u.user_id = c.user_id
+     where c.is_deleted = false and c.private_chat_id < :cursorId
+       and u.nick_name like :pattern escape '!'
+     order by c.private_chat_id desc limit :limit)
+    order by private_chat_id desc limit :limit
+""", nativeQuery = true)
+    List<Long> findSearchCandidateIds(@Param("query") String query,
+                                      @Param("pattern") String pattern,
+                                      @Param("cursorId") Long cursorId,
+                                      @Param("limit") int limit);
+
+    // ngram 토큰보다 짧은 검색어용 (본문/닉네임 LIKE, 최신순)
+    @Query(value = """
+    select c.private_chat_id from private_chat c
+    left join users u on u.user_id = c.user_id
+    where c.is_deleted = false and c.private_chat_id < :cursorId
+      and (c.content like :pattern escape '!' or u.nick_name like :pattern escape '!')
+    order by c.private_chat_id desc limit :limit
+""", nativeQuery = true)
+    List<Long> findSearchCandidateIdsByLike(@Param("pattern") String pattern,
+                                            @Param("cursorId") Long cursorId,
+                                            @Param("limit") int limit);
+
+    @Query(value = """
+    select count(*) from information_schema.statistics
+    where table_schema = database() and table_name = 'private_chat' and index_name = 'ft_private_chat_content'
+""", nativeQuery = true)
+    long countContentFulltextIndex();
+
+    // ddl-auto 로는 만들 수 없는 ngram FULLTEXT 색인 (기동 시 없을 때만 생성)
+    @Modifying
+    @Query(value = "alter table private_chat add fulltext index ft_private_chat_content (content) with parser ngram", nativeQuery = true)
+    void createContentFulltextIndex();
+
+    // 검색 후보 메시지를 작성자/채팅방과 함께 일괄 조회
+    @Query("""
+    select c
+    from PrivateChat c
+    left join fetch c.chatRoom r
+    left join fetch c.user u
+    where c.privateChatId in :ids
+""")
+    List<PrivateChat> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
 }
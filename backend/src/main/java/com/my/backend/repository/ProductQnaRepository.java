@@ -1,8 +1,12 @@
 package com.my.backend.repository;
 
+import com.my.backend.dto.ProductQnaDto;
 import com.my.backend.entity.ProductQna;
 import com.my.backend.enums.ProductType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,18 +14,25 @@ import java.util.List;
 @Repository
 public interface ProductQnaRepository extends JpaRepository<ProductQna, Long> {
 
-    // 사용자별 문의 조회
-    List<ProductQna> findByUserUserId(Long userId);
-
-    // 상품 타입별 문의 조회
-    List<ProductQna> findByProductType(ProductType productType);
-
-    // refId로 문의 조회 (특정 상품에 대한 문의들)
-    List<ProductQna> findByRefId(Long refId);
-
-    // refId + ProductType으로 문의 조회
-    List<ProductQna> findByRefIdAndProductType(Long refId, ProductType productType);
-
     //  1:1 문의 조회 메서드
     List<ProductQna> findByUserUserIdAndRefId(Long userId, Long refId);
-}
\ No newline at end of file
+
+    // 목록 프로젝션 (작성자 닉네임 조인, productQnaId 내림차순 keyset), null 파라미터는 조건 제외
+    @Query("""
+    select new com.my.backend.dto.ProductQnaDto(
+        q.productQnaId, u.userId, coalesce(u.nickName, '익명'), q.title, q.content,
+        q.createdAt, q.updatedAt, q.refId, q.productType, q.isSecret, q.isSecretComment)
+    from ProductQna q
+    left join q.user u
+    where (:refId is null or q.refId = :refId)
+      and (:productType is null or q.productType = :productType)
+      and (:userId is null or u.userId = :userId)
+      and (:cursorId is null or q.productQnaId < :cursorId)
+    order by q.productQnaId desc
+""")
+    List<ProductQnaDto> findQnaRows(@Param("refId") Long refId,
+                                    @Param("productType") ProductType productType,
+                                    @Param("userId") Long userId,
+                                    @Param("cursorId") Long cursorId,
+                                    Pageable pageable);
+}
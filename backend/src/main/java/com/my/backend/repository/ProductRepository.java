@@ -1,6 +1,7 @@
 package com.my.backend.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import com.my.backend.enums.ProductType;
@@ -37,6 +38,18 @@ public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpec
     // 판매자 기준 조회
     List<Product> findBySeller(Users seller);
 
+    // 타입 + 상태별 상품 ID (관리자 통계 재집계용)
+    @Query("select p.productId from Product p where p.productType = :productType and p.productStatus = :status")
+    List<Long> findIdsByTypeAndStatus(@Param("productType") ProductType productType,
+                                      @Param("status") ProductStatus status);
+
+    // 일별 신규 상품 수 (관리자 통계 재집계용)
+    @Query("select cast(p.createdAt as LocalDate), count(p) from Product p where p.createdAt >= :from group by cast(p.createdAt as LocalDate)")
+    List<Object[]> countCreatedPerDay(@Param("from") LocalDateTime from);
+
+    // 여러 판매자의 상태별 상품 (평점 높은 판매자 상품 조회용)
+    List<Product> findBySellerUserIdInAndProductStatus(Collection<Long> sellerIds, ProductStatus productStatus);
+
     // 기본 검색
     List<Product> findByTitleContaining(String keyword);
     List<Product> findByProductStatus(ProductStatus productStatus);
@@ -187,6 +200,51 @@ public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpec
     // ★ 상품 ID 리스트로 product 조회
     List<Product> findByProductIdIn(List<Long> productIds);
 
+    // 위치 색인 적재용 (상태 + 좌표 있는 상품, productId 순 keyset)
+    @Query("""
+    select p.productId, p.latitude, p.longitude
+    from Product p
+    where p.productStatus = :status
+      and p.latitude is not null and p.longitude is not null
+      and p.productId > :afterId
+    order by p.productId asc
+""")
+    List<Object[]> findLocationRowsAfter(@Param("status") ProductStatus status,
+                                         @Param("afterId") Long afterId,
+                                         Pageable pageable);
+
+    // 찜 순위 적재용 (찜이 있거나 판매중인 상품, productId 순 keyset)
+    @Query("""
+    select p.productId, p.bookmarkCount, p.productStatus
+    from Product p
+    where (p.bookmarkCount > 0 or p.productStatus = :status)
+      and p.productId > :afterId
+    order by p.productId asc
+""")
+    List<Object[]> findBookmarkRowsAfter(@Param("status") ProductStatus status,
+                                         @Param("afterId") Long afterId,
+                                         Pageable pageable);
+
+    // 찜이 변경된 상품의 찜 수 재계산 (bookmark 테이블 기준, 여러 인스턴스가 반영해도 같은 결과)
+    @Modifying
+    @Query("""
+    update Product p
+    set p.bookmarkCount = (select count(b) from BookMark b where b.product.productId = p.productId)
+    where p.productId in :productIds
+""")
+    int recountBookmarkCounts(@Param("productIds") Collection<Long> productIds);
+
+    // 찜 수 전체 보정 (GROUP BY 한 번으로 집계, 값이 다른 상품만 갱신)
+    @Modifying
+    @Query(value = """
+    update product p
+    left join (select product_id, count(*) as cnt from bookmark group by product_id) b
+      on b.product_id = p.product_id
+    set p.bookmark_count = coalesce(b.cnt, 0)
+    where p.bookmark_count is null or p.bookmark_count <> coalesce(b.cnt, 0)
+""", nativeQuery = true)
+    int reconcileBookmarkCounts();
+
     //  ACTIVE
     // └─(auctionEndTime 도달)
     //      ├─ 입찰 없음 → CLOSED
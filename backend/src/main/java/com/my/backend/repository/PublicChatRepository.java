@@ -1,14 +1,81 @@
 package com.my.backend.repository;
 
 import com.my.backend.entity.PublicChat;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface PublicChatRepository extends JpaRepository<PublicChat, Long> {
 
-    // 최근 공개 채팅 가져오기
-    List<PublicChat> findTop50ByOrderByCreatedAtAsc();
+    // 최근 공개 채팅 가져오기 (최신순, 작성자 포함)
+    @Query("""
+    select c
+    from PublicChat c
+    left join fetch c.user u
+    order by c.publicChatId desc
+""")
+    List<PublicChat> findRecentWithUser(Pageable pageable);
+
+    @Query("select coalesce(max(c.publicChatId), 0) from PublicChat c")
+    long findMaxId();
+
+    // ===================== 검색 (FULLTEXT ngram) =====================
+
+    // 본문 FULLTEXT(ngram) 일치 또는 작성자 닉네임 부분 일치 후보 id (cursorId 미만, 최신순)
+    @Query(value = """
+    (select c.public_chat_id from public_chat c
+     where c.is_deleted = false and c.public_chat_id < :cursorId
+       and match(c.content) against (:query in boolean mode)
+     order by c.public_chat_id desc limit :limit)
+    union
+    (select c.public_chat_id from public_chat c
+     join users u on u.user_id = c.user_id
+     where c.is_deleted = false and c.public_chat_id < :cursorId
+       and u.nick_name like :pattern escape '!'
+     order by c.public_chat_id desc limit :limit)
+    order by public_chat_id desc limit :limit
+""", nativeQuery = true)
+    List<Long> findSearchCandidateIds(@Param("query") String query,
+                                      @Param("pattern") String pattern,
+                                      @Param("cursorId") Long cursorId,
+                                      @Param("limit") int limit);
+
+    // ngram 토큰보다 짧은 검색어용 (본문/닉네임 LIKE, 최신순)
+    @Query(value = """
+    select c.public_chat_id from public_chat c
+    left join users u on u.user_id = c.user_id
+    where c.is_deleted = false and c.public_chat_id < :cursorId
+      and (c.content like :pattern escape '!' or u.nick_name like :pattern escape '!')
+    order by c.public_chat_id desc limit :limit
+""", nativeQuery = true)
+    List<Long> findSearchCandidateIdsByLike(@Param("pattern") String pattern,
+                                            @Param("cursorId") Long cursorId,
+                                            @Param("limit") int limit);
+
+    @Query(value = """
+    select count(*) from information_schema.statistics
+    where table_schema = database() and table_name = 'public_chat' and index_name = 'ft_public_chat_content'
+""", nativeQuery = true)
+    long countContentFulltextIndex();
+
+    // ddl-auto 로는 만들 수 없는 ngram FULLTEXT 색인 (기동 시 없을 때만 생성)
+    @Modifying
+    @Query(value = "alter table public_chat add fulltext index ft_public_chat_content (content) with parser ngram", nativeQuery = true)
+    void createContentFulltextIndex();
+
+    // 검색 후보 메시지를 작성자와 함께 일괄 조회
+    @Query("""
+    select c
+    from PublicChat c
+    left join fetch c.user u
+    where c.publicChatId in :ids
+""")
+    List<PublicChat> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,7 +1,11 @@
 package com.my.backend.repository;
 
+import com.my.backend.dto.QnaReviewDto;
 import com.my.backend.entity.QnaReview;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,9 +13,19 @@ import java.util.List;
 @Repository
 public interface QnaReviewRepository extends JpaRepository<QnaReview, Long> {
 
-    // 특정 ProductQna에 대한 모든 리뷰 조회
-    List<QnaReview> findByQnaProductQnaId(Long productQnaId);
-
-    // 특정 사용자가 작성한 모든 리뷰 조회
-    List<QnaReview> findByQnaUserUserId(Long userId);
-}
\ No newline at end of file
+    // 목록 프로젝션 (작성자 닉네임 조인, qnaReviewId 내림차순 keyset), null 파라미터는 조건 제외
+    @Query("""
+    select new com.my.backend.dto.QnaReviewDto(
+        r.qnaReviewId, u.userId, r.qna.productQnaId, r.content, u.nickName, r.createdAt, r.updatedAt)
+    from QnaReview r
+    join r.qnaUser u
+    where (:productQnaId is null or r.qna.productQnaId = :productQnaId)
+      and (:userId is null or u.userId = :userId)
+      and (:cursorId is null or r.qnaReviewId < :cursorId)
+    order by r.qnaReviewId desc
+""")
+    List<QnaReviewDto> findReviewRows(@Param("productQnaId") Long productQnaId,
+                                      @Param("userId") Long userId,
+                                      @Param("cursorId") Long cursorId,
+                                      Pageable pageable);
+}
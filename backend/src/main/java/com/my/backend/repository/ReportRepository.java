@@ -1,27 +1,49 @@
 package com.my.backend.repository;
 
+import com.my.backend.dto.ReportDto;
 import com.my.backend.entity.Report;
 import com.my.backend.enums.ReportType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ReportRepository extends JpaRepository<Report, Long> {
 
-    // 신고자별 신고 조회
-    List<Report> findByUserUserId(Long userId);
-
-    // 신고 대상(refId)별 신고 조회
-    List<Report> findByRefId(Long refId);
-
-    // 신고 타입별 조회
-    List<Report> findByReportType(ReportType reportType);
-
     // 신고 대상 + 타입별 조회
     List<Report> findByRefIdAndReportType(Long refId, ReportType reportType);
 
-    // 처리 상태별 조회
-    List<Report> findByStatus(boolean status);
-}
\ No newline at end of file
+    // 미처리 신고 ID (관리자 통계 재집계용)
+    @Query("select r.reportId from Report r where r.status = false")
+    List<Long> findOpenReportIds();
+
+    // 일별 신고 수 (관리자 통계 재집계용)
+    @Query("select cast(r.createdAt as LocalDate), count(r) from Report r where r.createdAt >= :from group by cast(r.createdAt as LocalDate)")
+    List<Object[]> countCreatedPerDay(@Param("from") LocalDateTime from);
+
+    // 목록 프로젝션 (신고자 이름 조인, reportId 내림차순 keyset), null 파라미터는 조건 제외
+    @Query("""
+    select new com.my.backend.dto.ReportDto(
+        r.reportId, u.userId, u.userName, r.refId, r.reportType, r.reason, r.answer, r.status,
+        r.createdAt, r.updatedAt)
+    from Report r
+    left join r.user u
+    where (:status is null or r.status = :status)
+      and (:reportType is null or r.reportType = :reportType)
+      and (:refId is null or r.refId = :refId)
+      and (:userId is null or u.userId = :userId)
+      and (:cursorId is null or r.reportId < :cursorId)
+    order by r.reportId desc
+""")
+    List<ReportDto> findReportRows(@Param("status") Boolean status,
+                                   @Param("reportType") ReportType reportType,
+                                   @Param("refId") Long refId,
+                                   @Param("userId") Long userId,
+                                   @Param("cursorId") Long cursorId,
+                                   Pageable pageable);
+}
@@ -1,6 +1,7 @@
 package com.my.backend.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -34,6 +35,13 @@ public interface UserBanRepository extends JpaRepository<UserBan, Long> {
     @Query("SELECT ub FROM UserBan ub WHERE ub.active = true AND ub.banUntil < :now")
     List<UserBan> findExpiredBans(@Param("now") LocalDateTime now);
 
+    /**
+     * 활성 제재 비활성화 선점 (이미 다른 인스턴스/관리자가 해제했으면 0)
+     */
+    @Modifying
+    @Query("UPDATE UserBan ub SET ub.active = false WHERE ub.id = :id AND ub.active = true")
+    int deactivateIfActive(@Param("id") Long id);
+
     /**
      * 활성화된 모든 제재 조회 (관리자 페이지용)
      */
@@ -1,9 +1,15 @@
 package com.my.backend.repository;
 
+import com.my.backend.dto.SimpleUserDto;
+import com.my.backend.dto.UsersDto;
 import com.my.backend.entity.Users;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,4 +50,62 @@ public interface UserRepository extends JpaRepository<Users, Long> {
 
     // 이메일 + 이름 사용자 조회
     Optional<Users> findByEmailAndUserName(String email, String userName);
+
+    // 일별 신규 가입 수 (관리자 통계 재집계용)
+    @Query("select cast(u.createdAt as LocalDate), count(u) from Users u where u.createdAt >= :from group by cast(u.createdAt as LocalDate)")
+    List<Object[]> countCreatedPerDay(@Param("from") LocalDateTime from);
+
+    // ----------------- 유저 목록 (생성자 프로젝션, keyset 커서) -----------------
+    // 전체 목록은 userId 커서, 닉네임 검색은 접두사 일치(like 'prefix%')만 허용하고
+    // (nickName, userId) 커서로 nick_name 유니크 인덱스 순서대로 범위 조회
+
+    @Query("""
+    select new com.my.backend.dto.UsersDto(
+        u.userId, u.userName, u.nickName, u.phone, u.email, u.createdAt, u.updatedAt, u.role,
+        u.birthday, u.businessNumber, u.provider, a.addressId, a.address, a.zipCode, a.detailAddress)
+    from Users u
+    left join u.address a
+    where u.userId > :cursorId
+    order by u.userId asc
+""")
+    List<UsersDto> findUserPage(@Param("cursorId") Long cursorId, Pageable pageable);
+
+    @Query("""
+    select new com.my.backend.dto.UsersDto(
+        u.userId, u.userName, u.nickName, u.phone, u.email, u.createdAt, u.updatedAt, u.role,
+        u.birthday, u.businessNumber, u.provider, a.addressId, a.address, a.zipCode, a.detailAddress)
+    from Users u
+    left join u.address a
+    where u.nickName like :prefix escape '!'
+      and (:cursorNickName is null
+           or u.nickName > :cursorNickName
+           or (u.nickName = :cursorNickName and u.userId > :cursorId))
+    order by u.nickName asc, u.userId asc
+""")
+    List<UsersDto> findUserPageByNickNamePrefix(@Param("prefix") String prefix,
+                                                @Param("cursorNickName") String cursorNickName,
+                                                @Param("cursorId") Long cursorId,
+                                                Pageable pageable);
+
+    @Query("""
+    select new com.my.backend.dto.SimpleUserDto(u.userId, u.nickName)
+    from Users u
+    where u.userId > :cursorId
+    order by u.userId asc
+""")
+    List<SimpleUserDto> findSimpleUserPage(@Param("cursorId") Long cursorId, Pageable pageable);
+
+    @Query("""
+    select new com.my.backend.dto.SimpleUserDto(u.userId, u.nickName)
+    from Users u
+    where u.nickName like :prefix escape '!'
+      and (:cursorNickName is null
+           or u.nickName > :cursorNickName
+           or (u.nickName = :cursorNickName and u.userId > :cursorId))
+    order by u.nickName asc, u.userId asc
+""")
+    List<SimpleUserDto> findSimpleUserPageByNickNamePrefix(@Param("prefix") String prefix,
+                                                           @Param("cursorNickName") String cursorNickName,
+                                                           @Param("cursorId") Long cursorId,
+                                                           Pageable pageable);
 }
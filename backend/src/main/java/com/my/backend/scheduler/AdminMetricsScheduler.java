@@ -0,0 +1,26 @@
+package com.my.backend.scheduler;
+
+import com.my.backend.service.AdminService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdminMetricsScheduler {
+
+    private final AdminService adminService;
+
+    // 관리자 통계 DB 기준 재집계
+    @Scheduled(fixedDelayString = "${admin.metrics.reconcile-interval-ms:600000}",
+            initialDelayString = "${admin.metrics.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        try {
+            adminService.reconcileMetrics();
+        } catch (Exception e) {
+            log.warn("관리자 통계 재집계 실패: {}", e.getMessage());
+        }
+    }
+}
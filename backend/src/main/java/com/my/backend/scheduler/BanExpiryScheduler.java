@@ -0,0 +1,21 @@
+package com.my.backend.scheduler;
+
+import com.my.backend.service.UserBanService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BanExpiryScheduler {
+
+    private final UserBanService userBanService;
+
+    // 만료된 제재 DB 비활성화 + 해제 알림 → DB 활성 제재 기준으로 레지스트리 동기화
+    // (다른 인스턴스에서 추가/해제된 제재도 최대 1분 안에 반영)
+    @Scheduled(fixedRate = 60000)
+    public void expireBans() {
+        userBanService.expireBans();
+        userBanService.syncBanRegistry();
+    }
+}
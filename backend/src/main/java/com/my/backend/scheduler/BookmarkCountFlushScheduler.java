@@ -0,0 +1,56 @@
+package com.my.backend.scheduler;
+
+import com.my.backend.service.BookMarkService;
+import com.my.backend.service.BookmarkRanking;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookmarkCountFlushScheduler {
+
+    private final BookMarkService bookMarkService;
+    private final BookmarkRanking bookmarkRanking;
+
+    // 찜이 변경된 상품의 찜 수를 배치로 DB에 반영
+    @Scheduled(fixedDelayString = "${bookmark.count.flush-interval-ms:5000}")
+    public void flush() {
+        List<Long> productIds = bookmarkRanking.drainDirty();
+        if (productIds.isEmpty()) return;
+
+        try {
+            bookMarkService.flushBookmarkCounts(productIds);
+        } catch (Exception e) {
+            // 실패분은 되돌려 다음 주기에 재시도
+            log.warn("찜 수 반영 실패 ({}개 상품), 다음 주기에 재시도: {}", productIds.size(), e.getMessage());
+            bookmarkRanking.restoreDirty(productIds);
+        }
+    }
+
+    // 다른 인스턴스 변경분 수렴: 로컬 변경분 반영 후 DB 값으로 순위 교체
+    @Scheduled(fixedDelayString = "${bookmark.ranking.refresh-interval-ms:60000}",
+            initialDelayString = "${bookmark.ranking.refresh-interval-ms:60000}")
+    public void refreshRanking() {
+        flush();
+        bookMarkService.refreshBookmarkRanking();
+    }
+
+    // bookmark 테이블 기준 전체 보정 (반영 전 종료된 인스턴스의 변경분 복구)
+    @Scheduled(fixedDelayString = "${bookmark.count.reconcile-interval-ms:600000}",
+            initialDelayString = "${bookmark.count.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        bookMarkService.reconcileBookmarkCounts();
+    }
+
+    // 종료 시 남은 변경분 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,26 @@
+package com.my.backend.scheduler;
+
+import com.my.backend.service.GeoService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class GeoCacheFlushScheduler {
+
+    private final GeoService geoService;
+
+    // 주소 변환 캐시 파일 저장 (geo.cache.file 미지정 시 아무 작업 안 함)
+    @Scheduled(fixedDelayString = "${geo.cache.flush-interval-ms:300000}")
+    public void flush() {
+        geoService.persistCache();
+    }
+
+    // 종료 시 마지막 변경분 저장
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
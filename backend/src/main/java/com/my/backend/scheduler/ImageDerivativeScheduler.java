@@ -0,0 +1,19 @@
+package com.my.backend.scheduler;
+
+import com.my.backend.service.ImageDerivativeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ImageDerivativeScheduler {
+
+    private final ImageDerivativeService imageDerivativeService;
+
+    // 축소본이 없는 이미지 재등록 (대기열 초과/일시 오류/기존 이미지)
+    @Scheduled(fixedDelayString = "${image.derivative.sweep-interval-ms:60000}")
+    public void sweep() {
+        imageDerivativeService.enqueueMissing();
+    }
+}
@@ -0,0 +1,24 @@
+package com.my.backend.scheduler;
+
+import com.my.backend.myjwt.JWTUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtClaimsCacheScheduler {
+
+    private final JWTUtil jwtUtil;
+
+    // 만료된 클레임 캐시 항목 정리 (가득 찬 캐시에 새 토큰이 들어갈 자리 확보)
+    @Scheduled(fixedDelayString = "${jwt.claims-cache.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        int evicted = jwtUtil.evictExpiredClaims();
+        if (evicted > 0) {
+            log.debug("JWT 클레임 캐시 만료 항목 정리: {}건", evicted);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.my.backend.scheduler;
+
+import com.my.backend.dto.NotificationDto;
+import com.my.backend.entity.NotificationOutbox;
+import com.my.backend.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxScheduler {
+
+    private static final int BATCH_SIZE = 200;
+
+    private final NotificationService notificationService;
+
+    // 대기 중인 알림 이벤트를 선점하여 배치 단위로 저장 → 커밋 후 WebSocket 전송
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:1000}")
+    public void dispatchOutbox() {
+        List<NotificationOutbox> batch;
+        do {
+            batch = notificationService.claimDueOutbox(BATCH_SIZE);
+            if (batch.isEmpty()) return;
+
+            List<NotificationDto> delivered = new ArrayList<>();
+            try {
+                delivered.addAll(notificationService.persistOutbox(batch));
+            } catch (Exception e) {
+                // 배치 실패 시 건별 처리로 문제 이벤트만 재시도 예약
+                log.warn("알림 outbox 배치 처리 실패 ({}건), 건별 재시도: {}", batch.size(), e.getMessage());
+                for (NotificationOutbox event : batch) {
+                    try {
+                        delivered.addAll(notificationService.persistOutbox(List.of(event)));
+                    } catch (Exception ex) {
+                        log.error("알림 outbox 처리 실패: outboxId={}, {}", event.getOutboxId(), ex.getMessage());
+                        reschedule(event, ex.getMessage());
+                    }
+                }
+            }
+
+            // 커밋 이후 전송 (전송 실패는 DB 알림 목록으로 복구 가능)
+            delivered.forEach(dto -> notificationService.push(dto.getUserId(), dto));
+        } while (batch.size() == BATCH_SIZE);
+    }
+
+    // 재시도 예약도 실패하면 선점 만료 후 다시 처리됨
+    private void reschedule(NotificationOutbox event, String error) {
+        try {
+            notificationService.rescheduleOutbox(List.of(event), error);
+        } catch (Exception e) {
+            log.error("알림 outbox 재시도 예약 실패: outboxId={}, {}", event.getOutboxId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.my.backend.scheduler;
+
+import com.my.backend.entity.PortOneWebhook;
+import com.my.backend.service.PortOneWebhookProcessor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PortOneWebhookScheduler {
+
+    private static final int BATCH_SIZE = 50;
+
+    private final PortOneWebhookProcessor portOneWebhookProcessor;
+
+    // 수신된 웹훅을 선점하여 수신 순으로 처리
+    @Scheduled(fixedDelayString = "${payment.webhook.poll-interval-ms:1000}")
+    public void dispatch() {
+        List<PortOneWebhook> batch;
+        do {
+            batch = portOneWebhookProcessor.claimDue(BATCH_SIZE);
+            for (PortOneWebhook webhook : batch) {
+                try {
+                    portOneWebhookProcessor.process(webhook);
+                } catch (Exception e) {
+                    // 재시도 예약도 실패하면 선점 만료 후 다시 처리됨
+                    log.error("[PortOne] 웹훅 처리 중 오류: webhookId={}, {}", webhook.getWebhookId(), e.getMessage());
+                }
+            }
+        } while (batch.size() == BATCH_SIZE);
+    }
+}
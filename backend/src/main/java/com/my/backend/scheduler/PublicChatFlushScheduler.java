@@ -0,0 +1,91 @@
+package com.my.backend.scheduler;
+
+import com.my.backend.service.ChattingService;
+import com.my.backend.service.PublicChatHistory;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PublicChatFlushScheduler {
+
+    private static final int BATCH_SIZE = 500;
+    // 건별 저장이 이 횟수만큼 실패한 메시지는 포기 (내용은 error 로그로 남김)
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final ChattingService chattingService;
+    private final PublicChatHistory publicChatHistory;
+
+    // 공개 채팅 저장 대기열을 배치로 DB에 반영
+    @Scheduled(fixedDelayString = "${chat.public.flush-interval-ms:500}")
+    public void flush() {
+        List<PublicChatHistory.PendingChat> retry = new ArrayList<>();
+        try {
+            while (publicChatHistory.hasPending()) {
+                List<PublicChatHistory.PendingChat> batch = publicChatHistory.drainPending(BATCH_SIZE);
+                if (batch.isEmpty()) return;
+
+                try {
+                    chattingService.persistPublicChats(batch);
+                } catch (Exception e) {
+                    log.warn("공개 채팅 배치 저장 실패 ({}건), 건별 재시도: {}", batch.size(), e.getMessage());
+                    if (!persistEach(batch, retry)) return;
+                }
+            }
+        } finally {
+            // 실패 메시지는 다음 주기에 다시 시도
+            if (!retry.isEmpty()) publicChatHistory.requeue(retry);
+        }
+    }
+
+    /**
+     * 배치 실패 시 건별 저장으로 문제 메시지만 골라냄
+     * 데이터 문제로 실패한 메시지는 시도 횟수를 올려 재시도 목록에 넣고 (MAX_ATTEMPTS 도달 시 포기),
+     * 연결/트랜잭션 문제면 DB 장애로 보고 남은 메시지를 횟수 증가 없이 모두 재시도 목록에 넣습니다.
+     *
+     * @return DB 장애로 중단했으면 false
+     */
+    private boolean persistEach(List<PublicChatHistory.PendingChat> batch, List<PublicChatHistory.PendingChat> retry) {
+        for (int i = 0; i < batch.size(); i++) {
+            PublicChatHistory.PendingChat chat = batch.get(i);
+            try {
+                chattingService.persistPublicChats(List.of(chat));
+            } catch (Exception ex) {
+                if (!isDataError(ex)) {
+                    log.warn("공개 채팅 저장 중단 (DB 장애 추정), {}건 재시도 대기: {}", batch.size() - i, ex.getMessage());
+                    retry.addAll(batch.subList(i, batch.size()));
+                    return false;
+                }
+                if (chat.getAttempts() + 1 < MAX_ATTEMPTS) {
+                    log.warn("공개 채팅 저장 실패: publicChatId={}, userId={}, {}",
+                            chat.getPublicChatId(), chat.getUserId(), ex.getMessage());
+                    retry.add(chat.retried());
+                } else {
+                    log.error("공개 채팅 저장 포기 ({}회 실패): publicChatId={}, userId={}, createdAt={}, content={}",
+                            MAX_ATTEMPTS, chat.getPublicChatId(), chat.getUserId(), chat.getCreatedAt(), chat.getContent());
+                }
+            }
+        }
+        return true;
+    }
+
+    // 재시도해도 같은 결과인 메시지 자체의 문제 (제약 위반 등)
+    private static boolean isDataError(Exception e) {
+        return e instanceof NonTransientDataAccessException && !(e instanceof DataAccessResourceFailureException);
+    }
+
+    // 종료 시 남은 메시지 저장
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
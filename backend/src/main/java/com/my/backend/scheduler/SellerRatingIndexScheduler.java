@@ -0,0 +1,26 @@
+package com.my.backend.scheduler;
+
+import com.my.backend.service.ReviewService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SellerRatingIndexScheduler {
+
+    private final ReviewService reviewService;
+
+    // DB 집계로 판매자 평점 색인 교체 (다른 인스턴스에서 작성된 리뷰 수렴)
+    @Scheduled(fixedDelayString = "${review.rating-index.refresh-interval-ms:300000}",
+            initialDelayString = "${review.rating-index.refresh-interval-ms:300000}")
+    public void refresh() {
+        try {
+            reviewService.loadRatingIndex();
+        } catch (Exception e) {
+            log.warn("판매자 평점 색인 교체 실패, 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+}
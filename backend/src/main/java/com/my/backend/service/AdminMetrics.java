@@ -0,0 +1,213 @@
+package com.my.backend.service;
+
+import com.my.backend.dto.DailyStatsDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 관리자 대시보드 통계 메모리 집계
+ *
+ * - 전체 건수(유저/상품/신고), 진행 중 경매, 미처리 신고, 일별 신규/결제(GMV) 통계
+ * - 엔티티 저장/삭제 커밋 후 AdminMetricsListener 가 증감 → 대시보드 조회는 메모리만 읽음
+ * - 이벤트로 잡히지 않는 변경(벌크 UPDATE, 다른 인스턴스의 변경 등)은 AdminService 가 주기적으로 DB 기준 재집계
+ * - 일별 통계는 최근 history-days 일만 보관
+ */
+@Component
+public class AdminMetrics {
+
+    private static class Daily {
+        private final LongAdder newUsers = new LongAdder();
+        private final LongAdder newProducts = new LongAdder();
+        private final LongAdder newReports = new LongAdder();
+        private final LongAdder paidPayments = new LongAdder();
+        private final LongAdder gmv = new LongAdder();
+        private volatile long activeAuctions;
+        private volatile long openReports;
+    }
+
+    private final int historyDays;
+
+    private final AtomicLong userCount = new AtomicLong();
+    private final AtomicLong productCount = new AtomicLong();
+    private final AtomicLong reportCount = new AtomicLong();
+    private final Set<Long> activeAuctions = ConcurrentHashMap.newKeySet();
+    private final Set<Long> openReports = ConcurrentHashMap.newKeySet();
+    private final NavigableMap<LocalDate, Daily> daily = new ConcurrentSkipListMap<>();
+
+    public AdminMetrics(@Value("${admin.metrics.history-days:90}") int historyDays) {
+        this.historyDays = historyDays;
+    }
+
+    // ----------------- 도메인 이벤트 -----------------
+
+    public void userCreated(LocalDateTime createdAt) {
+        userCount.incrementAndGet();
+        day(createdAt).newUsers.increment();
+    }
+
+    public void userRemoved() {
+        userCount.decrementAndGet();
+    }
+
+    public void productCreated(LocalDateTime createdAt) {
+        productCount.incrementAndGet();
+        day(createdAt).newProducts.increment();
+    }
+
+    public void productRemoved(Long productId) {
+        productCount.decrementAndGet();
+        activeAuctions.remove(productId);
+    }
+
+    public void productStatusChanged(Long productId, boolean activeAuction) {
+        if (activeAuction) activeAuctions.add(productId);
+        else activeAuctions.remove(productId);
+    }
+
+    public void reportCreated(LocalDateTime createdAt) {
+        reportCount.incrementAndGet();
+        day(createdAt).newReports.increment();
+    }
+
+    public void reportRemoved(Long reportId) {
+        reportCount.decrementAndGet();
+        openReports.remove(reportId);
+    }
+
+    public void reportStatusChanged(Long reportId, boolean open) {
+        if (open) openReports.add(reportId);
+        else openReports.remove(reportId);
+    }
+
+    // 결제 완료 (생성 또는 완료 상태로 전환, 결제 생성일 기준)
+    public void paymentPaid(LocalDateTime createdAt, long amount) {
+        Daily day = day(createdAt);
+        day.paidPayments.increment();
+        day.gmv.add(amount);
+    }
+
+    // 결제 완료 → 취소/삭제 (결제 생성일의 건수/GMV 에서 차감)
+    public void paymentCancelled(LocalDateTime createdAt, long amount) {
+        Daily day = day(createdAt);
+        day.paidPayments.decrement();
+        day.gmv.add(-amount);
+    }
+
+    // ----------------- 재집계 (DB 기준) -----------------
+
+    public void reconcileTotals(long users, long products, long reports,
+                                Collection<Long> activeAuctionIds, Collection<Long> openReportIds) {
+        userCount.set(users);
+        productCount.set(products);
+        reportCount.set(reports);
+        activeAuctions.retainAll(Set.copyOf(activeAuctionIds));
+        activeAuctions.addAll(activeAuctionIds);
+        openReports.retainAll(Set.copyOf(openReportIds));
+        openReports.addAll(openReportIds);
+
+        // 오늘 관측값 기록 (지난 날짜는 마지막 관측값으로 남음)
+        Daily today = day(LocalDateTime.now());
+        today.activeAuctions = activeAuctions.size();
+        today.openReports = openReports.size();
+        trim();
+    }
+
+    /**
+     * 일별 신규/결제 통계 덮어쓰기 (날짜별 값, 없는 날짜는 0)
+     */
+    public void reconcileDaily(LocalDate from, Map<LocalDate, Long> newUsers, Map<LocalDate, Long> newProducts,
+                               Map<LocalDate, Long> newReports, Map<LocalDate, long[]> payments) {
+        for (LocalDate date = from; !date.isAfter(LocalDate.now()); date = date.plusDays(1)) {
+            Daily day = daily.computeIfAbsent(date, d -> new Daily());
+            reset(day.newUsers, newUsers.getOrDefault(date, 0L));
+            reset(day.newProducts, newProducts.getOrDefault(date, 0L));
+            reset(day.newReports, newReports.getOrDefault(date, 0L));
+            long[] paid = payments.getOrDefault(date, new long[2]);
+            reset(day.paidPayments, paid[0]);
+            reset(day.gmv, paid[1]);
+        }
+        trim();
+    }
+
+    public LocalDate historyStart() {
+        return LocalDate.now().minusDays(historyDays - 1L);
+    }
+
+    // ----------------- 조회 -----------------
+
+    public Map<String, Long> dashboard() {
+        DailyStatsDto today = toDto(LocalDate.now(), daily.get(LocalDate.now()));
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("userCount", userCount.get());
+        stats.put("productCount", productCount.get());
+        stats.put("reportCount", reportCount.get());
+        stats.put("activeAuctionCount", (long) activeAuctions.size());
+        stats.put("openReportCount", (long) openReports.size());
+        stats.put("todayNewUsers", today.getNewUsers());
+        stats.put("todayNewProducts", today.getNewProducts());
+        stats.put("todayNewReports", today.getNewReports());
+        stats.put("todayPaidPayments", today.getPaidPayments());
+        stats.put("todayGmv", today.getGmv());
+        return stats;
+    }
+
+    // 최근 days 일 일별 통계 (오래된 날짜 → 오늘)
+    public List<DailyStatsDto> history(int days) {
+        int span = Math.max(1, Math.min(days, historyDays));
+        LocalDate today = LocalDate.now();
+        List<DailyStatsDto> result = new ArrayList<>(span);
+        for (LocalDate date = today.minusDays(span - 1L); !date.isAfter(today); date = date.plusDays(1)) {
+            result.add(toDto(date, daily.get(date)));
+        }
+        return result;
+    }
+
+    private DailyStatsDto toDto(LocalDate date, Daily day) {
+        boolean today = date.equals(LocalDate.now());
+        if (day == null) {
+            return DailyStatsDto.builder()
+                    .date(date)
+                    .activeAuctions(today ? activeAuctions.size() : 0)
+                    .openReports(today ? openReports.size() : 0)
+                    .build();
+        }
+        return DailyStatsDto.builder()
+                .date(date)
+                .newUsers(day.newUsers.sum())
+                .newProducts(day.newProducts.sum())
+                .newReports(day.newReports.sum())
+                .paidPayments(day.paidPayments.sum())
+                .gmv(day.gmv.sum())
+                .activeAuctions(today ? activeAuctions.size() : day.activeAuctions)
+                .openReports(today ? openReports.size() : day.openReports)
+                .build();
+    }
+
+    private Daily day(LocalDateTime at) {
+        LocalDate date = at != null ? at.toLocalDate() : LocalDate.now();
+        return daily.computeIfAbsent(date, d -> new Daily());
+    }
+
+    private void reset(LongAdder adder, long value) {
+        adder.reset();
+        adder.add(value);
+    }
+
+    private void trim() {
+        daily.headMap(historyStart()).clear();
+    }
+}
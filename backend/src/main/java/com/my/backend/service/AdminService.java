@@ -1,11 +1,22 @@
 package com.my.backend.service;
 
+import com.my.backend.dto.DailyStatsDto;
+import com.my.backend.enums.PaymentStatus;
+import com.my.backend.enums.ProductStatus;
+import com.my.backend.enums.ProductType;
+import com.my.backend.repository.PaymentRepository;
 import com.my.backend.repository.UserRepository;
 import com.my.backend.repository.ProductRepository;
 import com.my.backend.repository.ReportRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -15,16 +26,58 @@ public class AdminService {
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
     private final ReportRepository reportRepository;
+    private final PaymentRepository paymentRepository;
+    private final AdminMetrics adminMetrics;
 
+    // 대시보드 통계 (메모리 집계, DB 조회 없음)
     public Map<String, Long> getStats() {
-        long userCount = userRepository.count();
-        long productCount = productRepository.count();
-        long reportCount = reportRepository.count();
-
-        return Map.of(
-                "userCount", userCount,
-                "productCount", productCount,
-                "reportCount", reportCount
+        return adminMetrics.dashboard();
+    }
+
+    // 일별 통계 (차트용, 최근 days 일)
+    public List<DailyStatsDto> getDailyStats(int days) {
+        return adminMetrics.history(days);
+    }
+
+    /**
+     * DB 기준 재집계 (기동 시 + 주기 실행)
+     * 이벤트로 잡히지 않는 변경(결제 취소, 벌크 UPDATE/DELETE 등)을 바로잡습니다.
+     */
+    @Transactional(readOnly = true)
+    public void reconcileMetrics() {
+        adminMetrics.reconcileTotals(
+                userRepository.count(),
+                productRepository.count(),
+                reportRepository.count(),
+                productRepository.findIdsByTypeAndStatus(ProductType.AUCTION, ProductStatus.ACTIVE),
+                reportRepository.findOpenReportIds()
         );
+
+        LocalDate from = adminMetrics.historyStart();
+        LocalDateTime since = from.atStartOfDay();
+
+        Map<LocalDate, long[]> payments = new HashMap<>();
+        for (Object[] row : paymentRepository.sumPaidPerDay(since, List.of(PaymentStatus.PAID, PaymentStatus.CONFIRMED))) {
+            payments.put(toLocalDate(row[0]), new long[]{((Number) row[1]).longValue(), ((Number) row[2]).longValue()});
+        }
+
+        adminMetrics.reconcileDaily(from,
+                perDay(userRepository.countCreatedPerDay(since)),
+                perDay(productRepository.countCreatedPerDay(since)),
+                perDay(reportRepository.countCreatedPerDay(since)),
+                payments);
+    }
+
+    private Map<LocalDate, Long> perDay(List<Object[]> rows) {
+        Map<LocalDate, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put(toLocalDate(row[0]), ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    // 드라이버에 따라 java.sql.Date 로 올 수 있음
+    private LocalDate toLocalDate(Object value) {
+        return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
     }
 }
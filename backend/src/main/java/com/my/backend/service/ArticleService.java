@@ -1,20 +1,27 @@
 package com.my.backend.service;
 
 import com.my.backend.dto.ArticleDto;
+import com.my.backend.dto.CursorPageDto;
 import com.my.backend.entity.Article;
 import com.my.backend.entity.Users;
 import com.my.backend.enums.ArticleType;
 import com.my.backend.repository.ArticleRepository;
 import com.my.backend.repository.UserRepository;
+import com.my.backend.service.BoardPageCache.Board;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import static com.my.backend.util.TransactionHooks.afterCommit;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -22,12 +29,46 @@ public class ArticleService {
 
     private final ArticleRepository articleRepository;
     private final UserRepository userRepository;
+    private final BoardPageCache boardPageCache;
+
+    private static final int MAX_ARTICLE_PAGE_SIZE = 50;
 
     // 전체 글 조회
     public List<ArticleDto> getAllArticles() {
-        return articleRepository.findAll().stream()
-                .map(ArticleDto::fromEntity)
-                .toList();
+        return listArticles(null, null);
+    }
+
+    /**
+     * 게시글 커서 페이지 (최신순, cursorId 미만, 타입/작성자 필터 선택)
+     * - 첫 페이지는 게시판 캐시에서 응답
+     */
+    public CursorPageDto<ArticleDto> getArticleCursorPage(ArticleType articleType, Long userId, Long cursorId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_ARTICLE_PAGE_SIZE));
+        if (cursorId != null) {
+            return loadArticlePage(articleType, userId, cursorId, pageSize);
+        }
+        return boardPageCache.get(Board.ARTICLE, articleType + ":" + userId + ":" + pageSize,
+                () -> loadArticlePage(articleType, userId, null, pageSize));
+    }
+
+    private CursorPageDto<ArticleDto> loadArticlePage(ArticleType articleType, Long userId, Long cursorId, int pageSize) {
+        List<ArticleDto> rows = articleRepository.findArticleRows(articleType, userId, cursorId,
+                PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<ArticleDto> page = hasNext ? rows.subList(0, pageSize) : rows;
+        return CursorPageDto.<ArticleDto>builder()
+                .content(page)
+                .hasNext(hasNext)
+                .nextCursorId(hasNext ? page.get(page.size() - 1).getArticleId() : null)
+                .build();
+    }
+
+    // 전체 목록 (프로젝션, 기존 응답 순서인 등록순 유지)
+    private List<ArticleDto> listArticles(ArticleType articleType, Long userId) {
+        List<ArticleDto> rows = new ArrayList<>(
+                articleRepository.findArticleRows(articleType, userId, null, Pageable.unpaged()));
+        Collections.reverse(rows);
+        return rows;
     }
 
     // 페이징 조회
@@ -45,16 +86,12 @@ public class ArticleService {
 
     // 유저별 글 조회
     public List<ArticleDto> getArticlesByUserId(Long userId) {
-        return articleRepository.findByUserUserId(userId).stream()
-                .map(ArticleDto::fromEntity)
-                .toList();
+        return listArticles(null, userId);
     }
 
     // ArticleType별 글 조회
     public List<ArticleDto> getArticlesByType(ArticleType articleType) {
-        return articleRepository.findByArticleType(articleType).stream()
-                .map(ArticleDto::fromEntity)
-                .toList();
+        return listArticles(articleType, null);
     }
 
     // 글 등록
@@ -69,6 +106,7 @@ public class ArticleService {
 
         Article article = articleDto.toEntity(user);
         Article saved = articleRepository.save(article);
+        afterCommit(() -> boardPageCache.invalidate(Board.ARTICLE));
         return ArticleDto.fromEntity(saved);
     }
 
@@ -89,6 +127,7 @@ public class ArticleService {
         }
 
         Article updated = articleRepository.save(article);
+        afterCommit(() -> boardPageCache.invalidate(Board.ARTICLE));
         return ArticleDto.fromEntity(updated);
     }
 
@@ -99,5 +138,6 @@ public class ArticleService {
             throw new EntityNotFoundException("게시글을 찾을 수 없습니다. id=" + id);
         }
         articleRepository.deleteById(id);
+        afterCommit(() -> boardPageCache.invalidate(Board.ARTICLE));
     }
 }
\ No newline at end of file
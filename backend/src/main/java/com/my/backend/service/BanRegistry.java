@@ -0,0 +1,91 @@
+package com.my.backend.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 활성 제재 메모리 레지스트리 (userId → 해제 시각)
+ *
+ * - 제재/해제 시 해당 인스턴스는 UserBanService 가 즉시 갱신
+ * - 기동 시 + 매분 DB 활성 제재 기준으로 전체 동기화 (다른 인스턴스에서 생긴 제재/해제 반영)
+ * - 동기화는 DB 조회 전 version() 을 기준으로, 그 이후 이 인스턴스에서 바뀐 유저는 건드리지 않음
+ *   (조회와 반영 사이에 커밋된 제재/해제가 이전 스냅샷으로 덮이지 않도록)
+ * - 만료 시각이 지난 항목은 조회 시 없는 것으로 취급 (DB 비활성화는 BanExpiryScheduler 담당)
+ */
+@Component
+public class BanRegistry {
+
+    @Getter
+    @AllArgsConstructor
+    public static class ActiveBan {
+        private final LocalDateTime banUntil;
+        private final String reason;
+    }
+
+    private final Map<Long, ActiveBan> bans = new ConcurrentHashMap<>();
+    // 유저별 마지막 로컬 변경(put/remove) 번호 (동기화 스냅샷 이전 변경은 동기화 시 정리)
+    private final Map<Long, Long> changedAt = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    public synchronized void put(Long userId, LocalDateTime banUntil, String reason) {
+        bans.put(userId, new ActiveBan(banUntil, reason));
+        changedAt.put(userId, versions.incrementAndGet());
+    }
+
+    public synchronized void remove(Long userId) {
+        bans.remove(userId);
+        changedAt.put(userId, versions.incrementAndGet());
+    }
+
+    // 동기화 스냅샷 기준 번호 (DB 조회 전에 가져옴)
+    public long version() {
+        return versions.get();
+    }
+
+    /**
+     * DB 활성 제재 목록으로 동기화 (새 제재 추가/갱신, 해제된 제재 제거)
+     * snapshotVersion 이후 로컬에서 바뀐 유저는 스냅샷에 반영되지 않았을 수 있으므로 로컬 값을 유지합니다.
+     */
+    public synchronized void replaceAll(Map<Long, ActiveBan> active, long snapshotVersion) {
+        Set<Long> userIds = new HashSet<>(bans.keySet());
+        userIds.addAll(active.keySet());
+        for (Long userId : userIds) {
+            Long changed = changedAt.get(userId);
+            if (changed != null && changed > snapshotVersion) continue;
+            ActiveBan ban = active.get(userId);
+            if (ban == null) {
+                bans.remove(userId);
+            } else {
+                bans.put(userId, ban);
+            }
+        }
+        changedAt.values().removeIf(changed -> changed <= snapshotVersion);
+    }
+
+    public int size() {
+        return bans.size();
+    }
+
+    // 현재 유효한 제재 (없거나 만료되었으면 null)
+    public ActiveBan find(Long userId) {
+        if (userId == null) return null;
+        ActiveBan ban = bans.get(userId);
+        if (ban == null) return null;
+        if (!LocalDateTime.now().isBefore(ban.getBanUntil())) {
+            return null;
+        }
+        return ban;
+    }
+
+    public boolean isBanned(Long userId) {
+        return find(userId) != null;
+    }
+}
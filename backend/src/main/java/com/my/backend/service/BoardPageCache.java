@@ -0,0 +1,94 @@
+package com.my.backend.service;
+
+import com.my.backend.dto.CursorPageDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 게시판별 첫 페이지 단기 캐시
+ *
+ * - 커서 없는 첫 페이지(필터/크기별)만 짧은 TTL 동안 보관 → 목록 진입이 몰려도 DB는 TTL당 1회 조회
+ * - 글 작성/수정/삭제 커밋 후 해당 게시판 전체 무효화
+ * - 조회 중 무효화가 일어나면 그 결과는 저장하지 않음 (무효화 이전 데이터가 남지 않도록)
+ */
+@Component
+public class BoardPageCache {
+
+    public enum Board {
+        ARTICLE, PRODUCT_QNA, QNA_REVIEW, REPORT
+    }
+
+    private record Entry(CursorPageDto<?> page, long expiresAt) {
+    }
+
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    private final Map<Board, Map<String, Entry>> caches = new EnumMap<>(Board.class);
+    private final Map<Board, AtomicLong> generations = new EnumMap<>(Board.class);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public BoardPageCache(@Value("${board.first-page-cache.ttl-ms:5000}") long ttlMillis,
+                          @Value("${board.first-page-cache.max-entries:200}") int maxEntries) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        for (Board board : Board.values()) {
+            caches.put(board, Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > BoardPageCache.this.maxEntries;
+                }
+            }));
+            generations.put(board, new AtomicLong());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> CursorPageDto<T> get(Board board, String key, Supplier<CursorPageDto<T>> loader) {
+        Map<String, Entry> cache = caches.get(board);
+        long now = System.currentTimeMillis();
+        Entry entry = cache.get(key);
+        if (entry != null && entry.expiresAt() > now) {
+            hits.increment();
+            return (CursorPageDto<T>) entry.page();
+        }
+
+        misses.increment();
+        AtomicLong generation = generations.get(board);
+        long before = generation.get();
+        CursorPageDto<T> page = loader.get();
+        if (generation.get() == before) {
+            cache.put(key, new Entry(page, now + ttlMillis));
+        }
+        return page;
+    }
+
+    public void invalidate(Board board) {
+        generations.get(board).incrementAndGet();
+        caches.get(board).clear();
+        invalidations.increment();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        caches.forEach((board, cache) -> sizes.put(board.name(), cache.size()));
+        stats.put("entries", sizes);
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("invalidations", invalidations.sum());
+        stats.put("ttlMillis", ttlMillis);
+        return stats;
+    }
+}
@@ -4,18 +4,30 @@ import com.my.backend.dto.ProductDto;
 import com.my.backend.entity.BookMark;
 import com.my.backend.entity.Product;
 import com.my.backend.entity.Users;
+import com.my.backend.enums.ProductStatus;
 import com.my.backend.repository.BookMarkRepository;
 import com.my.backend.repository.ProductRepository;
 import com.my.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BookMarkService {
@@ -24,44 +36,62 @@ public class BookMarkService {
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
     private final ProductService productService;
+    private final BookmarkRanking bookmarkRanking;
 
-    // 로그인 유저 기준으로 찜/해제 토글
-    @Transactional
+    private static final int RANKING_LOAD_BATCH = 1000;
+    private static final int MAX_BULK_CHECK = 100;
+    private static final int RECOUNT_BATCH = 500;
+
+    /**
+     * 로그인 유저 기준으로 찜/해제 토글 (ID 만으로 처리, 엔티티 조회 없음)
+     *
+     * - 삭제를 먼저 시도하고, 지운 행이 없으면 추가 (각 문장이 바로 커밋)
+     * - (user_id, product_id) 유니크 제약 + INSERT IGNORE 로 동시 클릭에도 중복 찜이 생기지 않음
+     * - 실제로 삭제/추가된 경우에만 찜 수 카운터 반영
+     */
     public boolean toggleBookMark(Long userId, Long productId) {
-        Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자가 존재하지 않습니다."));
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new RuntimeException("상품이 존재하지 않습니다."));
-
-        return bookMarkRepository.findByUserAndProduct(user, product)
-                .map(bookMark -> {
-                    bookMarkRepository.delete(bookMark);
-                    return false; // 찜 해제됨
-                })
-                .orElseGet(() -> {
-                    BookMark newBookMark = BookMark.builder()
-                            .user(user)
-                            .product(product)
-                            .build();
-                    bookMarkRepository.save(newBookMark);
-                    return true; // 찜 추가됨
-                });
+        if (bookMarkRepository.deleteByIds(userId, productId) > 0) {
+            bookmarkRanking.add(productId, -1);
+            return false; // 찜 해제됨
+        }
+
+        if (bookMarkRepository.insertIfAbsent(userId, productId, LocalDateTime.now()) > 0) {
+            bookmarkRanking.add(productId, 1);
+            return true; // 찜 추가됨
+        }
+
+        // 삽입되지 않음: 동시 요청이 먼저 찜했거나, 유저/상품이 없음
+        if (bookMarkRepository.existsByUserUserIdAndProductProductId(userId, productId)) {
+            return true;
+        }
+        throw new RuntimeException("상품이 존재하지 않습니다.");
     }
 
-    // 특정 상품의 찜 수 조회
+    // 특정 상품의 찜 수 조회 (메모리 카운터)
     public Long getBookMarkCount(Long productId) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new RuntimeException("상품이 존재하지 않습니다."));
-        return bookMarkRepository.countByProduct(product);
+        return bookmarkRanking.count(productId);
     }
 
     // 로그인 유저가 특정 상품을 찜했는지 확인
     public boolean isBookMarked(Long userId, Long productId) {
-        Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자가 존재하지 않습니다."));
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new RuntimeException("상품이 존재하지 않습니다."));
-        return bookMarkRepository.findByUserAndProduct(user, product).isPresent();
+        return bookMarkRepository.existsByUserUserIdAndProductProductId(userId, productId);
+    }
+
+    // 로그인 유저가 여러 상품을 찜했는지 한 번에 확인 (productId → 찜 여부)
+    public Map<Long, Boolean> getBookMarkedStatus(Long userId, List<Long> productIds) {
+        if (productIds.size() > MAX_BULK_CHECK) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "한 번에 최대 " + MAX_BULK_CHECK + "개 상품까지 확인할 수 있습니다.");
+        }
+        Set<Long> bookmarked = productIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(bookMarkRepository.findBookmarkedProductIds(userId, productIds));
+
+        Map<Long, Boolean> result = new LinkedHashMap<>();
+        for (Long productId : productIds) {
+            result.put(productId, bookmarked.contains(productId));
+        }
+        return result;
     }
 
     // 로그인 유저 기준 찜한 상품 목록 조회 (마이페이지)
@@ -75,9 +105,86 @@ public class BookMarkService {
                 .collect(Collectors.toList());
     }
 
+    // 찜 많은 판매중 상품 (메모리 순위 → 상위 N개만 조회)
     public List<ProductDto> getTopBookmarkedProducts(int topN) {
-        Pageable pageable = PageRequest.of(0, topN);
-        List<Product> products = bookMarkRepository.findTopBookmarkedProducts(pageable);
-        return products.stream().map(productService::convertToDto).collect(Collectors.toList());
+        List<Long> productIds = bookmarkRanking.top(topN);
+        if (productIds.isEmpty()) return List.of();
+
+        Map<Long, Product> products = productRepository.findByProductIdIn(productIds).stream()
+                .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+        return productIds.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .map(productService::convertToDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 중복 찜 정리 → (user_id, product_id) 유니크 키 확인/생성 (기동 시 1회, 순위 적재 전)
+     * 찜 토글의 INSERT IGNORE 는 이 키에 의존하므로, 끝내 없으면 기동을 중단합니다.
+     */
+    public void ensureUniqueKey() {
+        if (bookMarkRepository.countUserProductUniqueKeys() > 0) return;
+
+        int removed = bookMarkRepository.deleteDuplicates();
+        log.info("중복 찜 정리: {}건", removed);
+        try {
+            bookMarkRepository.addUserProductUniqueKey();
+            log.info("bookmark (user_id, product_id) 유니크 키 생성");
+        } catch (RuntimeException e) {
+            // 다른 인스턴스가 먼저 생성했을 수 있으므로 아래에서 다시 확인
+            log.warn("bookmark 유니크 키 생성 실패: {}", e.getMessage());
+        }
+
+        if (bookMarkRepository.countUserProductUniqueKeys() == 0) {
+            throw new IllegalStateException("bookmark (user_id, product_id) 유니크 키가 없습니다. 중복 찜을 정리한 뒤 다시 기동하세요.");
+        }
+    }
+
+    // 찜 수 컬럼 보정 후 메모리 순위 적재 (기동 시 1회, ensureUniqueKey 이후)
+    @Transactional
+    public void loadBookmarkRanking() {
+        reconcileBookmarkCounts();
+        refreshBookmarkRanking();
+    }
+
+    // 찜 수 전체 보정: bookmark 테이블 GROUP BY 기준 (기동 시 + 주기 실행, 반영 전 종료된 인스턴스 변경분 복구)
+    @Transactional
+    public int reconcileBookmarkCounts() {
+        int fixed = productRepository.reconcileBookmarkCounts();
+        if (fixed > 0) {
+            log.info("찜 수 보정: {}개 상품", fixed);
+        }
+        return fixed;
+    }
+
+    // product.bookmark_count 로 메모리 순위 교체 (다른 인스턴스의 찜/상태 변경 반영)
+    @Transactional(readOnly = true)
+    public void refreshBookmarkRanking() {
+        Map<Long, Long> counts = new HashMap<>();
+        Set<Long> active = new HashSet<>();
+        Long afterId = 0L;
+        while (true) {
+            List<Object[]> rows = productRepository.findBookmarkRowsAfter(
+                    ProductStatus.ACTIVE, afterId, PageRequest.of(0, RANKING_LOAD_BATCH));
+            for (Object[] row : rows) {
+                Long productId = (Long) row[0];
+                Long count = (Long) row[1];
+                counts.put(productId, count == null ? 0L : count);
+                if (row[2] == ProductStatus.ACTIVE) active.add(productId);
+            }
+            if (rows.size() < RANKING_LOAD_BATCH) break;
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+        }
+        bookmarkRanking.replaceAll(counts, active);
+    }
+
+    // 찜이 변경된 상품의 product.bookmark_count 를 bookmark 테이블 기준으로 재계산
+    @Transactional
+    public void flushBookmarkCounts(List<Long> productIds) {
+        for (int from = 0; from < productIds.size(); from += RECOUNT_BATCH) {
+            productRepository.recountBookmarkCounts(
+                    productIds.subList(from, Math.min(from + RECOUNT_BATCH, productIds.size())));
+        }
     }
 }
@@ -0,0 +1,156 @@
+package com.my.backend.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 상품별 찜 수 메모리 카운터 + 인기(찜 많은) 판매중 상품 순위
+ *
+ * - 찜 수 조회/상위 N개 조회를 DB 집계 없이 메모리에서 처리
+ * - 찜 토글 커밋 후 BookMarkService 가 증감 → 변경된 상품 id 를 모아 두었다가 스케줄러가 bookmark 테이블 기준으로 재계산
+ *   (증감값이 아니라 재계산이므로 여러 인스턴스가 같은 상품을 반영해도, 반영 전 종료되어도 값이 어긋나지 않음)
+ * - 순위에는 판매중(ACTIVE) 상품만 포함, 상태 변경은 ProductIndexListener 가 커밋 후 반영
+ * - 기동 시 + 주기적으로 product.bookmark_count 전체로 교체 → 다른 인스턴스의 찜/상태 변경도 수렴
+ */
+@Component
+public class BookmarkRanking {
+
+    private record Entry(Long productId, long count) {
+    }
+
+    // 찜 수 내림차순 → productId 오름차순 (같은 찜 수면 먼저 등록된 상품 우선)
+    private static final Comparator<Entry> ORDER = Comparator.comparingLong(Entry::count).reversed()
+            .thenComparing(Entry::productId);
+
+    private final Map<Long, Long> counts = new ConcurrentHashMap<>();
+    private final Set<Long> activeProducts = ConcurrentHashMap.newKeySet();
+    private final NavigableSet<Entry> ranking = new ConcurrentSkipListSet<>(ORDER);
+
+    // DB 미반영 상품 (찜 수 재계산 대상)
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    public long count(Long productId) {
+        return counts.getOrDefault(productId, 0L);
+    }
+
+    /**
+     * 찜 추가(+1)/해제(-1) 반영
+     */
+    public void add(Long productId, long delta) {
+        synchronized (this) {
+            long before = count(productId);
+            long after = Math.max(0L, before + delta);
+            if (after == before) return;
+            set(productId, before, after);
+        }
+        dirty.add(productId);
+    }
+
+    /**
+     * 판매 상태 반영 (판매중이 아니면 순위에서 제외, 찜 수는 유지)
+     */
+    public void setActive(Long productId, boolean active) {
+        synchronized (this) {
+            long count = count(productId);
+            if (active) {
+                if (activeProducts.add(productId) && count > 0) {
+                    ranking.add(new Entry(productId, count));
+                }
+            } else if (activeProducts.remove(productId)) {
+                ranking.remove(new Entry(productId, count));
+            }
+        }
+    }
+
+    public void remove(Long productId) {
+        synchronized (this) {
+            setActive(productId, false);
+            counts.remove(productId);
+        }
+        dirty.remove(productId);
+    }
+
+    /**
+     * DB 값으로 전체 교체 (productId → 찜 수, 판매중 상품)
+     * 아직 DB 에 반영되지 않은 상품은 메모리 값을 유지합니다.
+     */
+    public synchronized void replaceAll(Map<Long, Long> dbCounts, Set<Long> dbActive) {
+        Map<Long, Long> local = new HashMap<>();
+        for (Long productId : dirty) {
+            local.put(productId, count(productId));
+        }
+
+        counts.clear();
+        activeProducts.clear();
+        ranking.clear();
+        dbCounts.forEach((productId, count) -> {
+            if (count != null && count > 0) counts.put(productId, count);
+        });
+        local.forEach((productId, count) -> {
+            if (count > 0) counts.put(productId, count);
+            else counts.remove(productId);
+        });
+        for (Long productId : dbActive) {
+            setActive(productId, true);
+        }
+    }
+
+    /**
+     * 찜 수 상위 판매중 상품 ID (순위 순)
+     */
+    public List<Long> top(int limit) {
+        List<Long> ids = new ArrayList<>(limit);
+        for (Entry entry : ranking) {
+            if (ids.size() >= limit) break;
+            ids.add(entry.productId());
+        }
+        return ids;
+    }
+
+    /**
+     * DB 반영 대기 상품 id 를 꺼냄
+     */
+    public List<Long> drainDirty() {
+        List<Long> productIds = new ArrayList<>();
+        for (Long productId : dirty) {
+            if (dirty.remove(productId)) productIds.add(productId);
+        }
+        return productIds;
+    }
+
+    // DB 반영 실패분 되돌리기 (다음 주기에 재시도)
+    public void restoreDirty(Collection<Long> productIds) {
+        dirty.addAll(productIds);
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("products", counts.size());
+        stats.put("ranked", ranking.size());
+        stats.put("pending", dirty.size());
+        return stats;
+    }
+
+    // 호출 측에서 this 로 동기화
+    private void set(Long productId, long before, long after) {
+        if (activeProducts.contains(productId)) {
+            if (before > 0) ranking.remove(new Entry(productId, before));
+            if (after > 0) ranking.add(new Entry(productId, after));
+        }
+        if (after == 0) {
+            counts.remove(productId);
+        } else {
+            counts.put(productId, after);
+        }
+    }
+}
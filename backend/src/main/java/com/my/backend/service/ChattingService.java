@@ -1,24 +1,35 @@
 package com.my.backend.service;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import com.my.backend.dto.*;
 import com.my.backend.enums.Role;
+import com.my.backend.util.FulltextQueries;
+import com.my.backend.util.LikePatterns;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.my.backend.entity.ChatRoom;
 import com.my.backend.entity.PrivateChat;
+import com.my.backend.entity.PublicChat;
 import com.my.backend.entity.Product;
 import com.my.backend.entity.Users;
 import com.my.backend.repository.ChatRoomRepository;
 import com.my.backend.repository.PrivateChatRepository;
 import com.my.backend.repository.ProductRepository;
 import com.my.backend.repository.PublicChatRepository;
-import com.my.backend.repository.UserBanRepository;
 import com.my.backend.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -34,13 +45,21 @@ public class ChattingService {
     private final UserRepository usersRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final ProductRepository productRepository;
-    private final UserBanRepository userBanRepository;
+    private final BanRegistry banRegistry;
+
+    private final PublicChatHistory publicChatHistory;
+    private final PublicChatIdAllocator publicChatIdAllocator;
+
+    private static final int MAX_CHAT_PAGE_SIZE = 100;
+    private static final int SEARCH_BATCH_SIZE = 200;
+
     public boolean isUserBanned(Long userId) {
-        return userBanRepository.existsByUser_UserIdAndActiveTrue(userId);
+        return banRegistry.isBanned(userId);
     }
 
 
     // ===================== 개인 채팅 저장 =====================
+    @Transactional
     public PrivateChatDto savePrivateChat(Long userId, Long targetUserId, Long productId, PrivateChatDto dto) {
         Users sender = usersRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("Sender not found"));
@@ -65,6 +84,7 @@ public class ChattingService {
                     .seller(seller)
                     .sender(sender)
                     .product(product)
+                    .lastMessageAt(LocalDateTime.now())
                     .build();
             return chatRoomRepository.save(newRoom);
         });
@@ -72,78 +92,101 @@ public class ChattingService {
         PrivateChat chat = dto.toEntity(sender, chatRoom);
         PrivateChat saved = privateChatRepository.save(chat);
 
+        // 채팅방 요약 갱신 (마지막 메시지 + 상대방 안 읽음 수)
+        LocalDateTime at = saved.getCreatedAt() != null ? saved.getCreatedAt() : LocalDateTime.now();
+        if (chatRoom.getSeller().getUserId().equals(userId)) {
+            chatRoomRepository.recordMessageFromSeller(chatRoom.getId(), saved.getContent(), at);
+        } else {
+            chatRoomRepository.recordMessageFromSender(chatRoom.getId(), saved.getContent(), at);
+        }
+
         return PrivateChatDto.fromEntity(saved);
     }
 
     // ===================== 개인 채팅 조회 =====================
     public List<PrivateChatDto> getPrivateChatsByUsers(Long userId, Long targetUserId, Long productId) {
-        // 1. 밴 상태 체크 로직 추가
-        Users user = usersRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Sender not found"));
-        Users targetUser = usersRepository.findById(targetUserId)
-                .orElseThrow(() -> new RuntimeException("Target user not found"));
+        // 양방향 채팅방을 한 번에 찾고, 메시지는 작성자와 함께 한 쿼리로 시간순 조회
+        List<Long> roomIds = chatRoomRepository.findRoomIdsBetween(userId, targetUserId, productId);
+        if (roomIds.isEmpty()) {
+            // 방이 있으면 두 사용자는 존재 (FK) → 방이 없을 때만 존재 확인, 없는 사용자는 기존처럼 예외
+            if (!usersRepository.existsById(userId)) throw new RuntimeException("Sender not found");
+            if (!usersRepository.existsById(targetUserId)) throw new RuntimeException("Target user not found");
+            return List.of();
+        }
 
-        // 양방향 채팅방 모두 찾기
-        Optional<ChatRoom> room1 = chatRoomRepository
-                .findBySellerUserIdAndSenderUserIdAndProductProductId(targetUserId, userId, productId);
+        return privateChatRepository.findAllWithUserByRoomIds(roomIds).stream()
+                .map(this::toRenderedDto)
+                .collect(Collectors.toList());
+    }
 
-        Optional<ChatRoom> room2 = chatRoomRepository
-                .findBySellerUserIdAndSenderUserIdAndProductProductId(userId, targetUserId, productId);
+    public List<PrivateChatDto> getPrivateChatsByRoomId(Long chatRoomId) {
+        return privateChatRepository.findAllWithUserByRoomIds(List.of(chatRoomId)).stream()
+                .map(this::toRenderedDto)
+                .collect(Collectors.toList());
+    }
 
-        List<PrivateChat> allMessages = new ArrayList<>();
+    // ===================== 개인 채팅 커서 조회 =====================
+    /**
+     * 두 사용자 간 대화에서 커서(cursorAt, cursorId) 이전 메시지 size개를 조회합니다.
+     * 커서가 없으면 가장 최근 메시지부터, 응답 content는 시간 오름차순입니다.
+     */
+    public CursorPageDto<PrivateChatDto> getPrivateChatPage(Long userId, Long targetUserId, Long productId,
+                                                            LocalDateTime cursorAt, Long cursorId, int size) {
+        List<Long> roomIds = chatRoomRepository.findRoomIdsBetween(userId, targetUserId, productId);
+        return getPrivateChatPage(roomIds, cursorAt, cursorId, size);
+    }
 
-        // 방향1 메시지
-        room1.ifPresent(room ->
-                allMessages.addAll(privateChatRepository.findByChatRoomIdOrderByCreatedAtAsc(room.getId()))
-        );
+    public CursorPageDto<PrivateChatDto> getPrivateChatPageByRoomId(Long chatRoomId,
+                                                                    LocalDateTime cursorAt, Long cursorId, int size) {
+        return getPrivateChatPage(List.of(chatRoomId), cursorAt, cursorId, size);
+    }
 
-        // 방향2 메시지
-        room2.ifPresent(room ->
-                allMessages.addAll(privateChatRepository.findByChatRoomIdOrderByCreatedAtAsc(room.getId()))
-        );
+    private CursorPageDto<PrivateChatDto> getPrivateChatPage(List<Long> roomIds,
+                                                             LocalDateTime cursorAt, Long cursorId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CHAT_PAGE_SIZE));
+        if (roomIds.isEmpty()) {
+            return CursorPageDto.<PrivateChatDto>builder().content(List.of()).hasNext(false).build();
+        }
 
-        // 시간순 정렬 후 반환
-        return allMessages.stream()
-                .sorted(Comparator.comparing(PrivateChat::getCreatedAt))
-                .map(chat -> {
-                    PrivateChatDto dto = PrivateChatDto.fromEntity(chat);
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<PrivateChat> rows = (cursorAt == null || cursorId == null)
+                ? privateChatRepository.findLatestByRoomIds(roomIds, limit)
+                : privateChatRepository.findBeforeCursorByRoomIds(roomIds, cursorAt, cursorId, limit);
 
-                    if (chat.isDeleted()) {
-                        dto.setContent("관리자에 의해 삭제된 메시지입니다.");
-                        return dto;
-                    }
+        boolean hasNext = rows.size() > pageSize;
+        List<PrivateChat> page = hasNext ? rows.subList(0, pageSize) : rows;
+        PrivateChat oldest = page.isEmpty() ? null : page.get(page.size() - 1);
 
-                    // 메시지 작성자가 밴되었는지만 확인
-                    if (chat.getUser() != null && chat.getUser().getRole() == Role.BANNED) {
-                        dto.setContent("밴 처리된 사용자");
-                    }
+        List<PrivateChatDto> content = new ArrayList<>(page.size());
+        for (int i = page.size() - 1; i >= 0; i--) {
+            content.add(toRenderedDto(page.get(i)));
+        }
 
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        return CursorPageDto.<PrivateChatDto>builder()
+                .content(content)
+                .hasNext(hasNext)
+                .nextCursorAt(hasNext ? oldest.getCreatedAt() : null)
+                .nextCursorId(hasNext ? oldest.getPrivateChatId() : null)
+                .build();
     }
 
-    public List<PrivateChatDto> getPrivateChatsByRoomId(Long chatRoomId) {
-        List<PrivateChat> messages = privateChatRepository.findByChatRoomIdOrderByCreatedAtAsc(chatRoomId);
-
-        return messages.stream()
-                .map(chat -> {
-                    PrivateChatDto dto = PrivateChatDto.fromEntity(chat);
+    // 삭제/밴 메시지 표시 처리 (작성자는 fetch join으로 함께 로딩됨)
+    private PrivateChatDto toRenderedDto(PrivateChat chat) {
+        PrivateChatDto dto = PrivateChatDto.fromEntity(chat);
 
-                    // 1. Soft Delete 확인
-                    if (chat.isDeleted()) {
-                        dto.setContent("관리자에 의해 삭제된 메시지입니다.");
-                        return dto;
-                    }
+        // 1. Soft Delete 확인
+        if (chat.isDeleted()) {
+            dto.setContent("관리자에 의해 삭제된 메시지입니다.");
+            return dto;
+        }
 
-                    // 2. 메시지 작성자가 밴되었는지 확인
-                    if (chat.getUser() != null && chat.getUser().getRole() == Role.BANNED) {
-                        dto.setContent("밴 처리된 사용자");  // ✅ 공개 채팅과 동일하게!
-                    }
+        // 2. 메시지 작성자가 밴되었는지 확인
+        if (chat.getUser() != null && chat.getUser().getRole() == Role.BANNED) {
+            dto.setContent("밴 처리된 사용자");
+        }
 
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        return dto;
     }
 
     // ===================== 공개 채팅 저장 =====================
@@ -152,43 +195,113 @@ public class ChattingService {
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
         var chat = dto.toEntity(user);
+        chat.setPublicChatId(publicChatIdAllocator.nextId());
         var saved = publicChatRepository.save(chat);
 
-        return PublicChatDto.fromEntity(saved);
+        PublicChatDto savedDto = PublicChatDto.fromEntity(saved);
+        publicChatHistory.load(savedDto);
+        return savedDto;
     }
 
-    // ===================== 공개 채팅 조회 =====================
-    public List<PublicChatDto> getRecentPublicChats() {
-        return publicChatRepository.findTop50ByOrderByCreatedAtAsc()
-                .stream()
-                .map(chat -> {
-                    PublicChatDto dto = PublicChatDto.fromEntity(chat);
-
-                    // 1. 메시지가 이미 Soft Delete 되었는지 확인
-                    if (chat.isDeleted()) { // PublicChat 엔티티에 isDeleted() 메소드가 있다고 가정
-                        dto.setContent("관리자에 의해 삭제된 메시지입니다.");
-                        return dto;
-                    }
-
-                    // 2. 메시지 작성자가 밴 처리되었는지 확인
-                    // PublicChat 엔티티에 Users user 필드가 있고, Users 엔티티에 Role role 필드가 있다고 가정
-                    if (chat.getUser() != null && chat.getUser().getRole() == Role.BANNED) {
-                        // 밴된 사용자의 메시지 내용을 변경
-                        dto.setContent("밴 처리된 사용자");
-                        // 닉네임도 익명 처리할 수 있지만, 현재 프론트에서 닉네임만 표시하므로 content만 변경해도 됨
-                    }
-
-                    return dto;
-                })
+    /**
+     * 공개 채팅 발행: id/발행 시각을 부여해 링 버퍼에 즉시 반영하고 DB 저장은 배치 대기열로 넘깁니다.
+     * nickName 이 없으면 DB에서 조회합니다. 반환된 프레임은 그대로 브로드캐스트에 사용합니다.
+     * 저장 대기열이 가득 차면 발행하지 않고 null 을 반환합니다.
+     */
+    public PublicChatHistory.Entry publishPublicChat(Long userId, String nickName, String content) {
+        String resolvedNickName = nickName;
+        if (resolvedNickName == null) {
+            resolvedNickName = usersRepository.findById(userId)
+                    .orElseThrow(() -> new RuntimeException("User not found"))
+                    .getNickName();
+        }
+
+        PublicChatDto dto = PublicChatDto.builder()
+                .publicChatId(publicChatIdAllocator.nextId())
+                .userId(userId)
+                .nickName(resolvedNickName)
+                .content(content)
+                .createdAt(LocalDateTime.now())
+                .user(new SimpleUserDto(userId, resolvedNickName))
+                .isDeleted(false)
+                .build();
+
+        return publicChatHistory.append(dto);
+    }
+
+    // 대기 중인 공개 채팅 배치 저장 (발행 시 부여한 id/시각 그대로)
+    @Transactional
+    public void persistPublicChats(List<PublicChatHistory.PendingChat> batch) {
+        List<PublicChat> entities = batch.stream()
+                .map(p -> PublicChat.builder()
+                        .publicChatId(p.getPublicChatId())
+                        .user(usersRepository.getReferenceById(p.getUserId()))
+                        .content(p.getContent())
+                        .createdAt(p.getCreatedAt())
+                        .build())
                 .collect(Collectors.toList());
+
+        publicChatRepository.saveAll(entities);
+    }
+
+    // 기동 시 최근 공개 채팅을 버퍼에 적재
+    public void loadPublicChatHistory() {
+        List<PublicChat> recent = publicChatRepository.findRecentWithUser(
+                PageRequest.of(0, publicChatHistory.capacity()));
+        for (int i = recent.size() - 1; i >= 0; i--) {
+            publicChatHistory.load(toRenderedDto(recent.get(i)));
+        }
+    }
+
+    // ===================== 공개 채팅 조회 =====================
+    // 최신 N개를 메모리 링 버퍼에서 시간순으로 반환 (직렬화된 JSON 배열)
+    public String getRecentPublicChatsJson() {
+        return publicChatHistory.recentJson();
+    }
+
+    private PublicChatDto toRenderedDto(PublicChat chat) {
+        PublicChatDto dto = PublicChatDto.fromEntity(chat);
+
+        // 1. 메시지가 이미 Soft Delete 되었는지 확인
+        if (chat.isDeleted()) {
+            dto.setContent(PublicChatHistory.DELETED_CONTENT);
+            return dto;
+        }
+
+        // 2. 메시지 작성자가 밴 처리되었는지 확인
+        if (chat.getUser() != null && chat.getUser().getRole() == Role.BANNED) {
+            dto.setContent(PublicChatHistory.BANNED_CONTENT);
+        }
+
+        return dto;
     }
 
     // ===================== 유저 목록 조회 =====================
     public List<SimpleUserDto> getAllUsers() {
-        return usersRepository.findAll()
-                .stream()
-                .map(user -> new SimpleUserDto(user.getUserId(), user.getNickName()))
-                .collect(Collectors.toList());
+        return usersRepository.findSimpleUserPage(0L, Pageable.unpaged());
+    }
+
+    // 채팅 상대 유저 커서 페이지 (userId 오름차순, cursorId 초과, 닉네임 접두사 검색)
+    public CursorPageDto<SimpleUserDto> getUserPage(String nickNamePrefix, String cursorNickName, Long cursorId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CHAT_PAGE_SIZE));
+        String prefix = LikePatterns.prefix(nickNamePrefix);
+        long cursor = cursorId != null ? cursorId : 0L;
+        // 접두사 검색은 (nickName, userId) 커서, 두 값이 모두 있어야 이어서 조회
+        String cursorKey = cursorId != null ? cursorNickName : null;
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<SimpleUserDto> rows = prefix == null
+                ? usersRepository.findSimpleUserPage(cursor, pageable)
+                : usersRepository.findSimpleUserPageByNickNamePrefix(prefix, cursorKey, cursor, pageable);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<SimpleUserDto> page = hasNext ? rows.subList(0, pageSize) : rows;
+        return CursorPageDto.<SimpleUserDto>builder()
+                .content(page)
+                .hasNext(hasNext)
+                .nextCursorKey(hasNext && prefix != null ? page.get(page.size() - 1).getNickName() : null)
+                .nextCursorId(hasNext ? page.get(page.size() - 1).getUserId() : null)
+                .build();
     }
 
     // ===================== 채팅방 조회 또는 생성 =====================
@@ -215,6 +328,7 @@ public class ChattingService {
                     .seller(seller)
                     .sender(sender)
                     .product(product)
+                    .lastMessageAt(LocalDateTime.now())
                     .build();
             return chatRoomRepository.save(newRoom);
         });
@@ -231,6 +345,7 @@ public class ChattingService {
         publicChatRepository.findById(publicChatId).ifPresent(chat -> {
             chat.setDeleted(true);
             publicChatRepository.save(chat);
+            publicChatHistory.markDeleted(chat.getPublicChatId());
         });
     }
 
@@ -242,107 +357,172 @@ public class ChattingService {
     }
 
     // ===================== 채팅 검색 (Admin) =====================
+    // FULLTEXT(ngram) 색인으로 후보 id를 찾고, 원문/작성자는 IN 쿼리로 일괄 조회해 최종 확인
+    // 기존 목록 API: 최신 MAX_CHAT_PAGE_SIZE 건까지만 (커서 검색 첫 페이지를 시간순으로)
     public List<PublicChatDto> searchPublicChats(String keyword) {
-        // 실제로는 Repository에 findByContentContainingIgnoreCase 등을 추가해야 함.
-        // 편의상 findAll 후 필터링 (데이터 많을 시 성능 이슈 주의)
-        return publicChatRepository.findAll().stream()
-                .filter(chat -> chat.getContent().contains(keyword) || 
-                                (chat.getUser().getNickName() != null && chat.getUser().getNickName().contains(keyword)))
-                .map(PublicChatDto::fromEntity)
-                .sorted(Comparator.comparing(PublicChatDto::getCreatedAt))
-                .collect(Collectors.toList());
+        List<PublicChatDto> latest = new ArrayList<>(searchPublicChatPage(keyword, null, MAX_CHAT_PAGE_SIZE).getContent());
+        latest.sort(Comparator.comparing(PublicChatDto::getCreatedAt));
+        return latest;
     }
 
     public List<PrivateChatDto> searchPrivateChats(String keyword) {
-        return privateChatRepository.findAll().stream()
-                .filter(chat -> chat.getContent().contains(keyword) ||
-                                (chat.getUser().getNickName() != null && chat.getUser().getNickName().contains(keyword)))
-                .map(PrivateChatDto::fromEntity)
-                .sorted(Comparator.comparing(PrivateChatDto::getCreatedAt))
-                .collect(Collectors.toList());
+        List<PrivateChatDto> latest = new ArrayList<>(searchPrivateChatPage(keyword, null, MAX_CHAT_PAGE_SIZE).getContent());
+        latest.sort(Comparator.comparing(PrivateChatDto::getCreatedAt));
+        return latest;
     }
 
-    // ===================== 채팅방 목록 조회 (판매자/구매자 모두 사용) =====================
-    public List<ChatRoomListDto> getMyChatRooms(Long userId) {
-        // 1. 내가 Sender(구매자)이거나 Seller(판매자)인 모든 채팅방을 찾습니다.
-        List<ChatRoom> rooms = chatRoomRepository.findBySenderUserIdOrSellerUserIdOrderByCreatedAtDesc(userId, userId);
-
-        // 2. DTO로 변환
-        return rooms.stream().map(room -> {
-
-            // 상대방(Target) 결정
-            Users targetUser;
-            // 로그인한 유저가 이 방의 구매자(sender)라면, 상대는 판매자(seller)
-            if (room.getSender().getUserId().equals(userId)) {
-                targetUser = room.getSeller();
-            } else {
-                // 로그인한 유저가 이 방의 판매자(seller)라면, 상대는 구매자(sender)
-                targetUser = room.getSender();
+    // 최신순 커서 검색 (cursorId 미만)
+    public CursorPageDto<PublicChatDto> searchPublicChatPage(String keyword, Long cursorId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CHAT_PAGE_SIZE));
+        List<PublicChat> hits = collectSearchHits(this::publicSearchCandidates, keyword, cursorId, pageSize + 1,
+                publicChatRepository::findAllWithUserByIdIn, PublicChat::getPublicChatId,
+                chat -> !chat.isDeleted() && matchesKeyword(chat.getContent(), chat.getUser(), keyword));
+
+        boolean hasNext = hits.size() > pageSize;
+        List<PublicChat> page = hasNext ? hits.subList(0, pageSize) : hits;
+        return CursorPageDto.<PublicChatDto>builder()
+                .content(page.stream().map(PublicChatDto::fromEntity).collect(Collectors.toList()))
+                .hasNext(hasNext)
+                .nextCursorId(hasNext ? page.get(page.size() - 1).getPublicChatId() : null)
+                .build();
+    }
+
+    public CursorPageDto<PrivateChatDto> searchPrivateChatPage(String keyword, Long cursorId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CHAT_PAGE_SIZE));
+        List<PrivateChat> hits = collectSearchHits(this::privateSearchCandidates, keyword, cursorId, pageSize + 1,
+                privateChatRepository::findAllWithUserByIdIn, PrivateChat::getPrivateChatId,
+                chat -> !chat.isDeleted() && matchesKeyword(chat.getContent(), chat.getUser(), keyword));
+
+        boolean hasNext = hits.size() > pageSize;
+        List<PrivateChat> page = hasNext ? hits.subList(0, pageSize) : hits;
+        return CursorPageDto.<PrivateChatDto>builder()
+                .content(page.stream().map(PrivateChatDto::fromEntity).collect(Collectors.toList()))
+                .hasNext(hasNext)
+                .nextCursorId(hasNext ? page.get(page.size() - 1).getPrivateChatId() : null)
+                .build();
+    }
+
+    // 후보 id를 배치 단위로 일괄 조회 → 최종 일치 확인 (최신순 limit개)
+    private <T> List<T> collectSearchHits(SearchCandidates candidates, String keyword, Long cursorId, int limit,
+                                          Function<List<Long>, List<T>> loader, Function<T, Long> idOf,
+                                          Predicate<T> matcher) {
+        String query = FulltextQueries.booleanQuery(keyword);
+        String pattern = LikePatterns.contains(keyword);
+        if (pattern == null) return List.of();
+
+        List<T> hits = new ArrayList<>();
+        long cursor = cursorId != null ? cursorId : Long.MAX_VALUE;
+        while (hits.size() < limit) {
+            List<Long> ids = candidates.find(query, pattern, cursor, SEARCH_BATCH_SIZE);
+            if (ids.isEmpty()) break;
+
+            Map<Long, T> rows = loader.apply(ids).stream()
+                    .collect(Collectors.toMap(idOf, Function.identity()));
+            for (Long id : ids) {
+                T row = rows.get(id);
+                if (row != null && matcher.test(row)) {
+                    hits.add(row);
+                    if (hits.size() >= limit) break;
+                }
             }
+            if (ids.size() < SEARCH_BATCH_SIZE) break;
+            cursor = ids.get(ids.size() - 1);
+        }
+        return hits;
+    }
 
-            // 마지막 메시지 가져오기 (성능을 위해 ChatRoom 엔티티에 필드를 추가하거나, 별도 쿼리 필요)
-            // 여기서는 가장 최근 PrivateChat을 쿼리합니다.
-            PrivateChat lastChat = privateChatRepository.findTopByChatRoomIdOrderByCreatedAtDesc(room.getId())
-                    .orElse(null);
+    private boolean matchesKeyword(String content, Users user, String keyword) {
+        String normalized = FulltextQueries.normalize(keyword);
+        if (normalized.isEmpty()) return false;
+        if (content != null && FulltextQueries.normalize(content).contains(normalized)) return true;
+        return user != null && user.getNickName() != null
+                && FulltextQueries.normalize(user.getNickName()).contains(normalized);
+    }
 
-            return ChatRoomListDto.builder()
-                    .chatRoomId(room.getId())
-                    .productId(room.getProduct().getProductId())
-                    .productTitle(room.getProduct().getTitle()) // 상품 제목이 Product 엔티티에 있다고 가정
+    // 후보 id 조회 (검색식이 없으면 = ngram 토큰보다 짧은 단어가 있으면 LIKE 검색)
+    @FunctionalInterface
+    private interface SearchCandidates {
+        List<Long> find(String query, String pattern, long cursorId, int limit);
+    }
 
-                    // 상대방 정보
-                    .targetUserId(targetUser.getUserId())
-                    .targetNickName(targetUser.getNickName())
+    private List<Long> publicSearchCandidates(String query, String pattern, long cursorId, int limit) {
+        return query != null
+                ? publicChatRepository.findSearchCandidateIds(query, pattern, cursorId, limit)
+                : publicChatRepository.findSearchCandidateIdsByLike(pattern, cursorId, limit);
+    }
 
-                    // 마지막 메시지 정보
-                    .lastMessage(lastChat != null ? lastChat.getContent() : "")
-                    .lastMessageTime(lastChat != null ? lastChat.getCreatedAt() : room.getCreatedAt())
-                    // * unreadCount 등은 별도 로직/쿼리 필요 (생략)
-                    .build();
-        }).collect(Collectors.toList());
+    private List<Long> privateSearchCandidates(String query, String pattern, long cursorId, int limit) {
+        return query != null
+                ? privateChatRepository.findSearchCandidateIds(query, pattern, cursorId, limit)
+                : privateChatRepository.findSearchCandidateIdsByLike(pattern, cursorId, limit);
+    }
+
+    // 기동 시 채팅 본문 FULLTEXT(ngram) 색인 확인 후 없으면 생성
+    @Transactional
+    public void ensureSearchIndexes() {
+        if (publicChatRepository.countContentFulltextIndex() == 0) {
+            publicChatRepository.createContentFulltextIndex();
+            log.info("공개 채팅 FULLTEXT 색인 생성");
+        }
+        if (privateChatRepository.countContentFulltextIndex() == 0) {
+            privateChatRepository.createContentFulltextIndex();
+            log.info("개인 채팅 FULLTEXT 색인 생성");
+        }
+    }
+
+    // ===================== 채팅방 목록 조회 (판매자/구매자 모두 사용) =====================
+    // 채팅방에 유지되는 요약(마지막 메시지/시간/안 읽음 수)을 상대방·상품 정보와 함께 한 쿼리로 조회
+    public List<ChatRoomListDto> getMyChatRooms(Long userId) {
+        return chatRoomRepository.findRoomSummaries(userId);
+    }
+
+    // ===================== 채팅방 읽음 처리 =====================
+    @Transactional
+    public void markChatRoomRead(Long chatRoomId, Long userId) {
+        chatRoomRepository.markRead(chatRoomId, userId);
+    }
+
+    // 요약 컬럼이 비어 있는 기존 채팅방 보정 (기동 시 1회)
+    @Transactional
+    public int backfillChatRoomSummaries() {
+        return chatRoomRepository.backfillSummaries() + chatRoomRepository.backfillEmptyRoomActivity();
     }
 
     // ===================== 관리자: 모든 채팅방 목록 조회 [⭐ 추가 ⭐] =====================
     /**
      * 관리자 전용: 시스템 내의 모든 1:1 채팅방 목록을 판매자/구매자 정보를 포함하여 조회합니다.
+     * (대량 조회는 getAdminChatRoomPage 사용)
      */
     public List<AdminChatRoomListDto> getAllAdminChatRooms() {
-        // 모든 채팅방을 가져옵니다. (JOIN FETCH를 사용하여 N+1 문제 방지 권장)
-        // ChatRoom 엔티티에 Seller, Sender, Product 정보가 Eager 로딩되거나,
-        // Repository에 JOIN FETCH 쿼리를 추가했다고 가정합니다.
-        List<ChatRoom> rooms = chatRoomRepository.findAll();
-
-        return rooms.stream()
-                .map(room -> {
-                    // 1. 마지막 메시지 가져오기
-                    PrivateChat lastChat = privateChatRepository.findTopByChatRoomIdOrderByCreatedAtDesc(room.getId())
-                            .orElse(null);
-
-                    // 2. DTO 빌드
-                    return AdminChatRoomListDto.builder()
-                            .chatRoomId(room.getId())
-
-                            // 상품 정보
-                            .productId(room.getProduct().getProductId())
-                            .productTitle(room.getProduct().getTitle())
-
-                            // 판매자 정보 (Seller 엔티티를 판매자로 가정)
-                            .sellerId(room.getSeller().getUserId())
-                            .sellerNickName(room.getSeller().getNickName())
-                            // .sellerName(room.getSeller().getUserName()) // 필요시 추가
-
-                            // 구매자 정보 (Sender 엔티티를 구매자로 가정)
-                            .buyerId(room.getSender().getUserId())
-                            .buyerNickName(room.getSender().getNickName())
-                            // .buyerName(room.getSender().getUserName()) // 필요시 추가
-
-                            // 메시지 정보
-                            .lastMessage(lastChat != null ? lastChat.getContent() : "")
-                            .lastMessageTime(lastChat != null ? lastChat.getCreatedAt() : room.getCreatedAt())
-                            .build();
-                })
-                // 최근 활동 시간 순으로 정렬
-                .sorted(Comparator.comparing(AdminChatRoomListDto::getLastMessageTime, Comparator.nullsLast(Comparator.reverseOrder())))
-                .collect(Collectors.toList());
+        return chatRoomRepository.findAdminRoomPage(null, null, null, null, null, null, Pageable.unpaged());
+    }
+
+    /**
+     * 관리자 채팅방 커서 페이지 (최근 활동순, (lastMessageTime, chatRoomId) 이전)
+     * - 상품/참여자/요약을 한 쿼리로 프로젝션, 필터(상품, 유저, 활동 기간)는 모두 선택
+     */
+    public CursorPageDto<AdminChatRoomListDto> getAdminChatRoomPage(Long productId, Long userId,
+                                                                   LocalDateTime from, LocalDateTime to,
+                                                                   LocalDateTime cursorAt, Long cursorId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CHAT_PAGE_SIZE));
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 시작일이 종료일보다 늦습니다.");
+        }
+        boolean hasCursor = cursorAt != null && cursorId != null;
+
+        List<AdminChatRoomListDto> rows = chatRoomRepository.findAdminRoomPage(
+                productId, userId, from, to,
+                hasCursor ? cursorAt : null, hasCursor ? cursorId : null,
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<AdminChatRoomListDto> page = hasNext ? rows.subList(0, pageSize) : rows;
+        AdminChatRoomListDto last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return CursorPageDto.<AdminChatRoomListDto>builder()
+                .content(page)
+                .hasNext(hasNext)
+                .nextCursorAt(hasNext ? last.getLastMessageTime() : null)
+                .nextCursorId(hasNext ? last.getChatRoomId() : null)
+                .build();
     }
 }
@@ -1,11 +1,15 @@
 package com.my.backend.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.my.backend.dto.CommentDto;
+import com.my.backend.dto.CursorPageDto;
 import com.my.backend.entity.Article;
 import com.my.backend.entity.Comment;
 import com.my.backend.entity.Users;
@@ -15,6 +19,8 @@ import com.my.backend.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 
+import static com.my.backend.util.TransactionHooks.afterCommit;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -24,6 +30,9 @@ public class CommentService {
     private final ArticleRepository articleRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final CommentThreadCache commentThreadCache;
+
+    private static final int MAX_THREAD_PAGE_SIZE = 50;
 
     // 댓글 단건 조회
     public CommentDto findComment(Long commentId) {
@@ -34,20 +43,77 @@ public class CommentService {
         return CommentDto.fromEntity(comment);
     }
 
-    // 특정 게시글의 댓글 전체 조회
+    // 특정 게시글의 댓글 전체 조회 (평면 목록, parentId 포함)
     public List<CommentDto> findCommentsByArticleId(Long articleId) {
-        return commentRepository.findByArticleArticleId(articleId).stream()
-                .map(CommentDto::fromEntity)
-                .toList();
+        return commentRepository.findRowsByArticleId(articleId);
+    }
+
+    /**
+     * 게시글 댓글 트리 페이지 (최상위 댓글 등록순, cursorId 초과)
+     * - 각 최상위 댓글은 답글 트리(replies)와 하위 답글 수(replyCount)를 포함
+     * - 트리는 게시글 단위로 캐시, 댓글 작성/수정/삭제 시 무효화
+     */
+    public CursorPageDto<CommentDto> getCommentThreadPage(Long articleId, Long cursorId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_THREAD_PAGE_SIZE));
+        List<CommentDto> roots = commentThreadCache.get(articleId,
+                () -> buildTree(commentRepository.findRowsByArticleId(articleId)));
+
+        int from = cursorId == null ? 0 : firstAfter(roots, cursorId);
+        int to = Math.min(from + pageSize, roots.size());
+        boolean hasNext = to < roots.size();
+        List<CommentDto> page = roots.subList(from, to);
+        return CursorPageDto.<CommentDto>builder()
+                .content(page)
+                .hasNext(hasNext)
+                .nextCursorId(hasNext ? page.get(page.size() - 1).getCommentId() : null)
+                .build();
+    }
+
+    // 등록순 댓글 → 최상위 댓글 목록 (O(n))
+    // - 부모는 항상 자식보다 먼저 등록되므로(id 작음) 한 번 순회로 연결, 역순 순회로 하위 답글 수 누적
+    private List<CommentDto> buildTree(List<CommentDto> rows) {
+        Map<Long, CommentDto> byId = new HashMap<>(rows.size() * 2);
+        List<CommentDto> roots = new ArrayList<>();
+        for (CommentDto comment : rows) {
+            byId.put(comment.getCommentId(), comment);
+            CommentDto parent = comment.getParentId() != null ? byId.get(comment.getParentId()) : null;
+            if (parent != null) {
+                parent.getReplies().add(comment);
+            } else {
+                roots.add(comment);
+            }
+        }
+        for (int i = rows.size() - 1; i >= 0; i--) {
+            CommentDto comment = rows.get(i);
+            CommentDto parent = comment.getParentId() != null ? byId.get(comment.getParentId()) : null;
+            if (parent != null) {
+                parent.setReplyCount(parent.getReplyCount() + comment.getReplyCount() + 1);
+            }
+        }
+        return roots;
+    }
+
+    // commentId 오름차순 목록에서 cursorId 보다 큰 첫 위치
+    private int firstAfter(List<CommentDto> roots, long cursorId) {
+        int low = 0;
+        int high = roots.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (roots.get(mid).getCommentId() <= cursorId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
     }
 
     // 특정 유저의 댓글 전체 조회
     public List<CommentDto> findCommentsByUserId(Long userId) {
-        Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        return commentRepository.findByUser(user).stream()
-                .map(CommentDto::fromEntity)
-                .toList();
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
+        return commentRepository.findRowsByUserId(userId);
     }
 
     // 댓글 생성
@@ -60,7 +126,16 @@ public class CommentService {
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         Comment comment = dto.toEntity(article, user);
+        if (dto.getParentId() != null) {
+            Comment parent = commentRepository.findById(dto.getParentId())
+                    .orElseThrow(() -> new IllegalArgumentException("답글 대상 댓글을 찾을 수 없습니다."));
+            if (!parent.getArticle().getArticleId().equals(articleId)) {
+                throw new IllegalArgumentException("같은 게시글의 댓글에만 답글을 달 수 있습니다.");
+            }
+            comment.setParent(parent);
+        }
         commentRepository.save(comment);
+        afterCommit(() -> commentThreadCache.invalidate(articleId));
 
         // ✅ 댓글 작성 시 게시글 작성자에게 알림 전송 (본인 댓글 제외)
         if (!article.getUser().getUserId().equals(user.getUserId())) {
@@ -82,6 +157,8 @@ public class CommentService {
         }
 
         commentRepository.save(comment);
+        Long articleId = comment.getArticle() != null ? comment.getArticle().getArticleId() : null;
+        afterCommit(() -> commentThreadCache.invalidate(articleId));
     }
 
     // 댓글 삭제
@@ -90,6 +167,9 @@ public class CommentService {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
 
+        Long articleId = comment.getArticle() != null ? comment.getArticle().getArticleId() : null;
+        // 답글은 DB 외래 키(ON DELETE CASCADE)로 함께 삭제
         commentRepository.delete(comment);
+        afterCommit(() -> commentThreadCache.invalidate(articleId));
     }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.my.backend.service;
+
+import com.my.backend.dto.CommentDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 게시글별 댓글 트리 캐시 (최근 조회 게시글 위주 LRU)
+ *
+ * - 값은 조립이 끝난 최상위 댓글 목록 (답글은 replies 에 포함)
+ * - 댓글 작성/수정/삭제 커밋 후 해당 게시글만 무효화, 닉네임 변경 등은 TTL 로 반영
+ * - 조회 중 같은 게시글이 무효화되면 그 결과는 저장하지 않음
+ */
+@Component
+public class CommentThreadCache {
+
+    private record Entry(List<CommentDto> roots, long expiresAt) {
+    }
+
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    private final Map<Long, Entry> threads;
+    // 게시글별 무효화 횟수 (조회 중 무효화 감지용)
+    private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public CommentThreadCache(@Value("${comment.thread-cache.ttl-ms:60000}") long ttlMillis,
+                              @Value("${comment.thread-cache.max-entries:500}") int maxEntries) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.threads = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                boolean evict = size() > CommentThreadCache.this.maxEntries;
+                if (evict) generations.remove(eldest.getKey());
+                return evict;
+            }
+        });
+    }
+
+    public List<CommentDto> get(Long articleId, Supplier<List<CommentDto>> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = threads.get(articleId);
+        if (entry != null && entry.expiresAt() > now) {
+            hits.increment();
+            return entry.roots();
+        }
+
+        misses.increment();
+        AtomicLong generation = generations.computeIfAbsent(articleId, id -> new AtomicLong());
+        long before = generation.get();
+        List<CommentDto> roots = List.copyOf(loader.get());
+        if (generation.get() == before) {
+            threads.put(articleId, new Entry(roots, now + ttlMillis));
+        }
+        return roots;
+    }
+
+    public void invalidate(Long articleId) {
+        if (articleId == null) return;
+        // 조회 중인 게시글만 세대 증가 (캐시된 적 없는 게시글은 기록할 필요 없음)
+        generations.computeIfPresent(articleId, (id, generation) -> {
+            generation.incrementAndGet();
+            return generation;
+        });
+        threads.remove(articleId);
+        invalidations.increment();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("threads", threads.size());
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("invalidations", invalidations.sum());
+        stats.put("ttlMillis", ttlMillis);
+        return stats;
+    }
+}
@@ -1,111 +1,266 @@
 package com.my.backend.service;
 
-import org.springframework.http.HttpEntity;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.backend.httpclient.OutboundHttpClient;
+import com.my.backend.httpclient.OutboundTarget;
+import com.my.backend.util.GeoHash;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
 
 /**
  * Geocoding 서비스 (좌표 → 주소 변환)
  * OpenStreetMap Nominatim API 사용 (무료, 인증 불필요)
+ *
+ * - 좌표를 geohash 격자로 양자화하여 격자 단위로 LRU 캐시 (격자 중심 좌표로 조회)
+ * - 같은 격자 동시 요청은 하나의 외부 호출을 공유 (single-flight)
+ * - Nominatim 정책(초당 1건)에 맞춰 호출 간격을 두고 대기열로 처리, 대기 한도 초과 시 즉시 실패
+ * - geo.cache.file 지정 시 캐시를 파일로 저장하여 재시작 후에도 유지
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class GeoService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final OutboundHttpClient outboundHttpClient;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    @Value("${geo.cache.precision:8}")
+    private int precision;
+
+    @Value("${geo.cache.max-size:20000}")
+    private int cacheMaxSize;
+
+    @Value("${geo.cache.file:}")
+    private String cacheFile;
+
+    @Value("${geo.nominatim.min-interval-ms:1000}")
+    private long minIntervalMs;
+
+    @Value("${geo.nominatim.max-queue-wait-ms:10000}")
+    private long maxQueueWaitMs;
+
+    // geohash → 주소 (access-order LRU)
+    private final Map<String, String> cache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > GeoService.this.cacheMaxSize;
+        }
+    });
+    private final Map<String, Mono<String>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong nextSlot = new AtomicLong();
+    private volatile boolean dirty;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder upstreamCalls = new LongAdder();
+    private final LongAdder queueRejected = new LongAdder();
+
     /**
      * 좌표를 주소로 변환 (Reverse Geocoding)
      * @param latitude 위도
      * @param longitude 경도
-     * @return 주소 문자열
+     * @return 주소 문자열 (캐시 적중 시 즉시, 아니면 외부 호출 완료 시 발행)
+     */
+    public Mono<String> reverseGeocode(double latitude, double longitude) {
+        String cell = GeoHash.encode(latitude, longitude, precision);
+
+        String cached = cache.get(cell);
+        if (cached != null) {
+            hits.increment();
+            return Mono.just(cached);
+        }
+        misses.increment();
+
+        return inFlight.computeIfAbsent(cell, this::fetch)
+                .defaultIfEmpty("주소를 찾을 수 없습니다")
+                .onErrorResume(e -> {
+                    log.warn("Geocoding 오류: {}", e.getMessage());
+                    return Mono.just("주소 변환 중 오류 발생: " + e.getMessage());
+                });
+    }
+
+    // 격자 중심 좌표로 조회 → 성공 결과만 캐시, 완료 시 single-flight 항목 제거
+    private Mono<String> fetch(String cell) {
+        double[] center = GeoHash.center(cell);
+        // Nominatim API URL (한국어 응답)
+        String url = String.format(Locale.ROOT,
+            "https://nominatim.openstreetmap.org/reverse?format=json&lat=%f&lon=%f&zoom=18&addressdetails=1&accept-language=ko",
+            center[0], center[1]
+        );
+
+        Mono<String> call = outboundHttpClient.call(OutboundTarget.GEO, client -> client.get()
+                .uri(url)
+                // User-Agent 헤더 필수 (Nominatim 정책)
+                .header(HttpHeaders.USER_AGENT, "DdangDdangAuction/1.0")
+                .retrieve()
+                .bodyToMono(String.class));
+
+        return Mono.defer(() -> throttle(call))
+                .map(this::toAddress)
+                .doOnNext(address -> {
+                    cache.put(cell, address);
+                    dirty = true;
+                })
+                .doFinally(signal -> inFlight.remove(cell))
+                .cache();
+    }
+
+    // 호출 시각 예약: 이전 예약 + 최소 간격 이후로 지연, 대기 한도 초과 시 거절
+    private Mono<String> throttle(Mono<String> call) {
+        long now = System.currentTimeMillis();
+        while (true) {
+            long reserved = nextSlot.get();
+            long slot = Math.max(reserved, now);
+            if (slot - now > maxQueueWaitMs) {
+                queueRejected.increment();
+                return Mono.error(new IllegalStateException("주소 변환 요청이 많습니다. 잠시 후 다시 시도해주세요."));
+            }
+            if (nextSlot.compareAndSet(reserved, slot + minIntervalMs)) {
+                upstreamCalls.increment();
+                long delay = slot - now;
+                return delay <= 0 ? call : Mono.delay(Duration.ofMillis(delay)).then(call);
+            }
+        }
+    }
+
+    // ===================== 캐시 파일 저장/적재 =====================
+
+    /**
+     * 저장된 캐시 파일 적재 (오래된 항목부터 기록되어 있으므로 순서대로 넣으면 LRU 순서 유지)
      */
-    public String reverseGeocode(double latitude, double longitude) {
+    public void loadCache() {
+        if (cacheFile.isBlank()) return;
+        Path path = Path.of(cacheFile);
+        if (!Files.exists(path)) return;
+
+        try (Stream<String> lines = Files.lines(path, StandardCharsets.UTF_8)) {
+            lines.forEach(line -> {
+                int tab = line.indexOf('\t');
+                if (tab > 0) cache.put(line.substring(0, tab), line.substring(tab + 1));
+            });
+            log.info("Geocoding 캐시 적재: {}건", cache.size());
+        } catch (IOException e) {
+            log.warn("Geocoding 캐시 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 변경분이 있으면 캐시를 파일로 저장 (임시 파일 작성 후 교체)
+     */
+    public void persistCache() {
+        if (cacheFile.isBlank() || !dirty) return;
+        dirty = false;
+
+        List<String> lines;
+        synchronized (cache) {
+            lines = new ArrayList<>(cache.size());
+            cache.forEach((cell, address) -> lines.add(cell + "\t" + address.replaceAll("[\t\r\n]", " ")));
+        }
+
+        Path path = Path.of(cacheFile);
         try {
-            // Nominatim API URL (한국어 응답)
-            String url = String.format(
-                "https://nominatim.openstreetmap.org/reverse?format=json&lat=%f&lon=%f&zoom=18&addressdetails=1&accept-language=ko",
-                latitude, longitude
-            );
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+            Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+            Files.write(tmp, lines, StandardCharsets.UTF_8);
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty = true;
+            log.warn("Geocoding 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
 
-            // User-Agent 헤더 필수 (Nominatim 정책)
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("User-Agent", "DdangDdangAuction/1.0");
+    // 캐시 통계 (관리자 지표 조회용)
+    public Map<String, Object> cacheStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", cache.size());
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("inFlight", inFlight.size());
+        stats.put("upstreamCalls", upstreamCalls.sum());
+        stats.put("queueRejected", queueRejected.sum());
+        stats.put("precision", precision);
+        return stats;
+    }
 
-            HttpEntity<String> entity = new HttpEntity<>(headers);
+    // Nominatim 응답 → 한국 주소 문자열
+    private String toAddress(String body) {
+        try {
+            JsonNode root = objectMapper.readTree(body);
+            JsonNode address = root.path("address");
             
-            ResponseEntity<String> response = restTemplate.exchange(
-                url,
-                HttpMethod.GET,
-                entity,
-                String.class
-            );
-
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                JsonNode root = objectMapper.readTree(response.getBody());
-                JsonNode address = root.path("address");
-                
-                // 한국 주소 구성 요소 추출
-                String province = address.path("province").asText("");  // 서울특별시, 경기도
-                String city = address.path("city").asText("");  // 서울시, 수원시
-                String county = address.path("county").asText("");  // 구
-                String suburb = address.path("suburb").asText("");  // 동/읍/면
-                String neighbourhood = address.path("neighbourhood").asText("");  // 세부 동
-                String road = address.path("road").asText("");  // 도로명
-                String houseNumber = address.path("house_number").asText("");  // 번지
-                
-                // 한국 주소 형식: 대한민국 서울특별시 강남구 역삼동 테헤란로 123
-                StringBuilder sb = new StringBuilder();
-                
-                // 1. 국가 (optional, 보통 생략)
-                // if (!country.isEmpty()) sb.append(country).append(" ");
-                
-                // 2. 시/도
-                if (!province.isEmpty()) {
-                    sb.append(province).append(" ");
-                } else if (!city.isEmpty()) {
-                    sb.append(city).append(" ");
-                }
-                
-                // 3. 구/군
-                if (!county.isEmpty()) {
-                    sb.append(county).append(" ");
-                }
-                
-                // 4. 동/읍/면
-                if (!neighbourhood.isEmpty()) {
-                    sb.append(neighbourhood).append(" ");
-                } else if (!suburb.isEmpty()) {
-                    sb.append(suburb).append(" ");
-                }
-                
-                // 5. 도로명
-                if (!road.isEmpty()) {
-                    sb.append(road);
-                    // 6. 번지
-                    if (!houseNumber.isEmpty()) {
-                        sb.append(" ").append(houseNumber);
-                    }
-                }
-                
-                String result = sb.toString().trim();
-                return result.isEmpty() ? "주소 변환 실패" : result;
+            // 한국 주소 구성 요소 추출
+            String province = address.path("province").asText("");  // 서울특별시, 경기도
+            String city = address.path("city").asText("");  // 서울시, 수원시
+            String county = address.path("county").asText("");  // 구
+            String suburb = address.path("suburb").asText("");  // 동/읍/면
+            String neighbourhood = address.path("neighbourhood").asText("");  // 세부 동
+            String road = address.path("road").asText("");  // 도로명
+            String houseNumber = address.path("house_number").asText("");  // 번지
+            
+            // 한국 주소 형식: 대한민국 서울특별시 강남구 역삼동 테헤란로 123
+            StringBuilder sb = new StringBuilder();
+            
+            // 1. 국가 (optional, 보통 생략)
+            // if (!country.isEmpty()) sb.append(country).append(" ");
+            
+            // 2. 시/도
+            if (!province.isEmpty()) {
+                sb.append(province).append(" ");
+            } else if (!city.isEmpty()) {
+                sb.append(city).append(" ");
             }
             
-            return "주소를 찾을 수 없습니다";
+            // 3. 구/군
+            if (!county.isEmpty()) {
+                sb.append(county).append(" ");
+            }
+            
+            // 4. 동/읍/면
+            if (!neighbourhood.isEmpty()) {
+                sb.append(neighbourhood).append(" ");
+            } else if (!suburb.isEmpty()) {
+                sb.append(suburb).append(" ");
+            }
+            
+            // 5. 도로명
+            if (!road.isEmpty()) {
+                sb.append(road);
+                // 6. 번지
+                if (!houseNumber.isEmpty()) {
+                    sb.append(" ").append(houseNumber);
+                }
+            }
             
-        } catch (Exception e) {
-            System.err.println("Geocoding 오류: " + e.getMessage());
-            return "주소 변환 중 오류 발생: " + e.getMessage();
+            String result = sb.toString().trim();
+            return result.isEmpty() ? "주소 변환 실패" : result;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Geocoding 응답 파싱 실패", e);
         }
     }
 }
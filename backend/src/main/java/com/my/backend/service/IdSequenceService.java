@@ -0,0 +1,29 @@
+package com.my.backend.service;
+
+import com.my.backend.repository.IdSequenceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class IdSequenceService {
+
+    private final IdSequenceRepository idSequenceRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void seed(String name, long nextVal) {
+        idSequenceRepository.seed(name, nextVal);
+    }
+
+    // size 개 id 블록 예약 → 블록의 끝(미포함) 반환, 호출자 트랜잭션과 무관하게 즉시 커밋
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserve(String name, int size) {
+        if (idSequenceRepository.advance(name, size) == 0) {
+            throw new IllegalStateException("id 시퀀스가 초기화되지 않았습니다: " + name);
+        }
+        return idSequenceRepository.findNextVal(name)
+                .orElseThrow(() -> new IllegalStateException("id 시퀀스를 찾을 수 없습니다: " + name));
+    }
+}
@@ -0,0 +1,295 @@
+package com.my.backend.service;
+
+import com.amazonaws.AmazonServiceException;
+import com.my.backend.entity.Image;
+import com.my.backend.repository.ImageRepository;
+import com.my.backend.util.ExifOrientation;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이미지 축소본(썸네일/중간 크기) 생성
+ *
+ * - 이미지 저장 커밋 후 ImageDerivativeListener 가 등록 → 고정 크기 작업 풀에서 처리 (업로드 응답 지연 없음)
+ * - 대기열이 가득 차거나 일시 오류로 빠진 이미지는 ImageDerivativeScheduler 가 주기적으로 다시 등록
+ * - 일시 오류는 실패 횟수 + 백오프 시각을 기록 (백오프 중인 이미지는 재처리 대상에서 빠져 새 이미지를 막지 않음)
+ * - 원본이 목표 크기 이하, 읽을 수 없는 형식/손상된 파일, 원본 없음(404), 재시도 한도 초과 시 원본 URL 로 확정
+ * - 큰 원본은 디코딩 시 서브샘플링하고, EXIF 방향을 적용한 뒤 축소
+ */
+@Slf4j
+@Service
+public class ImageDerivativeService {
+
+    private static final String CONTENT_TYPE = "image/jpeg";
+    private static final int SWEEP_BATCH_SIZE = 100;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long MAX_BACKOFF_SECONDS = 3600;
+
+    private final ImageRepository imageRepository;
+    private final S3Uploader s3Uploader;
+    private final ThreadPoolExecutor executor;
+
+    private final int thumbnailSize;
+    private final int mediumSize;
+    private final float quality;
+
+    // 등록~처리 완료 사이 이미지 (중복 등록 방지)
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder fallback = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public ImageDerivativeService(ImageRepository imageRepository,
+                                  S3Uploader s3Uploader,
+                                  @Value("${image.derivative.threads:2}") int threads,
+                                  @Value("${image.derivative.queue-capacity:500}") int queueCapacity,
+                                  @Value("${image.derivative.thumbnail-size:320}") int thumbnailSize,
+                                  @Value("${image.derivative.medium-size:960}") int mediumSize,
+                                  @Value("${image.derivative.quality:0.8}") float quality) {
+        this.imageRepository = imageRepository;
+        this.s3Uploader = s3Uploader;
+        this.thumbnailSize = thumbnailSize;
+        this.mediumSize = mediumSize;
+        this.quality = quality;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-derivative-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 축소본 생성 등록 (대기열이 가득 차면 건너뛰고 스케줄러 재처리에 맡김)
+     */
+    public void enqueue(Long imageId) {
+        if (imageId == null || !pending.add(imageId)) return;
+        try {
+            executor.execute(() -> {
+                try {
+                    process(imageId);
+                } finally {
+                    pending.remove(imageId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(imageId);
+            rejected.increment();
+        }
+    }
+
+    /**
+     * 축소본이 없는 이미지 재등록 (주기 실행)
+     */
+    public void enqueueMissing() {
+        if (executor.getQueue().remainingCapacity() == 0) return;
+        for (Long imageId : imageRepository.findDerivativeTargetIds(LocalDateTime.now(), PageRequest.of(0, SWEEP_BATCH_SIZE))) {
+            enqueue(imageId);
+        }
+    }
+
+    public Map<String, Object> stats() {
+        return Map.of(
+                "processed", processed.sum(),
+                "reused", reused.sum(),
+                "failed", failed.sum(),
+                "fallback", fallback.sum(),
+                "rejected", rejected.sum(),
+                "queued", executor.getQueue().size(),
+                "active", executor.getActiveCount()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void process(Long imageId) {
+        Optional<Image> found = imageRepository.findById(imageId);
+        if (found.isEmpty() || found.get().getThumbnailPath() != null) return;
+        Image image = found.get();
+        String originalUrl = image.getImagePath();
+
+        // 같은 원본으로 이미 만든 축소본이 있으면 재사용
+        Optional<Image> existing = imageRepository.findFirstByImagePathAndThumbnailPathIsNotNull(originalUrl);
+        if (existing.isPresent()) {
+            imageRepository.updateDerivatives(imageId, existing.get().getThumbnailPath(), existing.get().getMediumPath());
+            reused.increment();
+            return;
+        }
+
+        String key = s3Uploader.keyOf(originalUrl);
+        if (key == null) {
+            // 외부 URL 이미지는 원본 그대로 사용
+            imageRepository.updateDerivatives(imageId, originalUrl, originalUrl);
+            return;
+        }
+
+        byte[] bytes;
+        try (InputStream in = s3Uploader.download(key)) {
+            bytes = in.readAllBytes();
+        } catch (AmazonServiceException e) {
+            if (e.getStatusCode() == 404) {
+                useOriginal(imageId, originalUrl, "원본 없음");
+            } else {
+                retryLater(image, e.getMessage());
+            }
+            return;
+        } catch (IOException | RuntimeException e) {
+            retryLater(image, e.getMessage());
+            return;
+        }
+
+        BufferedImage source;
+        try {
+            source = decode(bytes, mediumSize);
+        } catch (IOException e) {
+            // 손상된 파일 (IIOException 등): 다시 읽어도 같으므로 원본 사용으로 확정
+            useOriginal(imageId, originalUrl, "디코딩 실패 " + e.getMessage());
+            return;
+        } catch (RuntimeException e) {
+            retryLater(image, e.getMessage());
+            return;
+        }
+
+        if (source == null) {
+            // 지원하지 않는 형식: 원본 사용으로 확정
+            imageRepository.updateDerivatives(imageId, originalUrl, originalUrl);
+            return;
+        }
+        source = ExifOrientation.apply(source, ExifOrientation.read(bytes));
+
+        try {
+            String baseKey = key.contains(".") ? key.substring(0, key.lastIndexOf('.')) : key;
+            String thumbnailUrl = resizeAndUpload(source, thumbnailSize, baseKey + "_w" + thumbnailSize + ".jpg", originalUrl);
+            String mediumUrl = resizeAndUpload(source, mediumSize, baseKey + "_w" + mediumSize + ".jpg", originalUrl);
+            imageRepository.updateDerivatives(imageId, thumbnailUrl, mediumUrl);
+            processed.increment();
+        } catch (IOException | RuntimeException e) {
+            retryLater(image, e.getMessage());
+        }
+    }
+
+    // 일시 오류: 실패 횟수 + 지수 백오프 기록 (한도 초과 시 원본 사용으로 확정)
+    private void retryLater(Image image, String error) {
+        failed.increment();
+        int attempts = image.getDerivativeAttempts() + 1;
+        if (attempts >= MAX_ATTEMPTS) {
+            useOriginal(image.getImageId(), image.getImagePath(), "재시도 한도 초과 " + error);
+            return;
+        }
+        long backoff = Math.min(MAX_BACKOFF_SECONDS, 60L << attempts);
+        imageRepository.recordDerivativeFailure(image.getImageId(), attempts, LocalDateTime.now().plusSeconds(backoff));
+        log.warn("이미지 축소본 생성 실패 ({}회): imageId={}, {}", attempts, image.getImageId(), error);
+    }
+
+    // 축소본 없이 원본 URL 로 확정 (재처리 대상에서 제외)
+    private void useOriginal(Long imageId, String originalUrl, String reason) {
+        fallback.increment();
+        imageRepository.updateDerivatives(imageId, originalUrl, originalUrl);
+        log.warn("이미지 축소본 생략, 원본 사용: imageId={}, {}", imageId, reason);
+    }
+
+    // 긴 변이 targetSize 를 넘으면 축소하여 JPEG 로 업로드, 아니면 원본 URL
+    private String resizeAndUpload(BufferedImage source, int targetSize, String key, String originalUrl) throws IOException {
+        int longest = Math.max(source.getWidth(), source.getHeight());
+        if (longest <= targetSize) return originalUrl;
+
+        double scale = (double) targetSize / longest;
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = resized.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setColor(Color.WHITE); // 투명 배경(PNG) → 흰색
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+
+        return s3Uploader.putBytes(key, encodeJpeg(resized), CONTENT_TYPE);
+    }
+
+    // 디코딩 시 긴 변이 maxSize * 2 이상이면 서브샘플링 (지원하지 않는 형식이면 null, 손상된 파일은 IIOException)
+    private BufferedImage decode(byte[] bytes, int maxSize) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            if (input == null) return null;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, longest / (maxSize * 2));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT); // 점진적 표시
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
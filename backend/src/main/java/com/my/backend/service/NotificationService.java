@@ -2,17 +2,25 @@ package com.my.backend.service;
 
 import com.my.backend.dto.NotificationDto;
 import com.my.backend.entity.Notification;
+import com.my.backend.entity.NotificationOutbox;
 import com.my.backend.entity.Users;
 import com.my.backend.enums.NotificationStatus;
+import com.my.backend.repository.NotificationOutboxRepository;
 import com.my.backend.repository.NotificationRepository;
 import com.my.backend.repository.UserRepository;
 import com.my.backend.websocket.NotificationWebSocketHandler;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,6 +30,12 @@ public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final NotificationWebSocketHandler webSocketHandler;
     private final UserRepository usersRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+
+    private static final int MAX_OUTBOX_ATTEMPTS = 10;
+    private static final long OUTBOX_MAX_BACKOFF_SECONDS = 600;
+    // 선점 후 이 시간 안에 처리되지 않으면(인스턴스 종료 등) 다른 디스패처가 다시 가져감
+    private static final long OUTBOX_CLAIM_TIMEOUT_SECONDS = 300;
 
     // ✅ 알림 조회
     @Transactional(readOnly = true)
@@ -41,23 +55,90 @@ public class NotificationService {
         });
     }
 
+    // ✅ 알림 발행: 호출자 트랜잭션 안에서 outbox 행만 기록 (실제 저장/전송은 NotificationOutboxScheduler)
     @Transactional
     public void send(Long userId, NotificationStatus status, String content) {
-        Users user = usersRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found: " + userId));
-
-        Notification notification = Notification.builder()
-                .user(user)
+        notificationOutboxRepository.save(NotificationOutbox.builder()
+                .userId(userId)
                 .notificationStatus(status)
                 .content(content)
-                .isRead(false)
-                .createdAt(LocalDateTime.now())
-                .build();
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+    }
+
+    // ===================== Outbox 디스패치 =====================
+
+    // 처리할 이벤트 선점 후 조회 (선점에 성공한 행만 반환)
+    @Transactional
+    public List<NotificationOutbox> claimDueOutbox(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minusSeconds(OUTBOX_CLAIM_TIMEOUT_SECONDS);
+        List<Long> ids = notificationOutboxRepository.findDueIds(
+                MAX_OUTBOX_ATTEMPTS, now, staleBefore, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) return List.of();
+
+        String token = UUID.randomUUID().toString();
+        if (notificationOutboxRepository.claim(ids, token, now, staleBefore) == 0) return List.of();
+        return notificationOutboxRepository.findByClaimTokenOrderByOutboxIdAsc(token);
+    }
+
+    // 배치 단위로 Notification 저장 + outbox 삭제 (한 트랜잭션)
+    @Transactional
+    public List<NotificationDto> persistOutbox(List<NotificationOutbox> batch) {
+        Set<Long> userIds = batch.stream().map(NotificationOutbox::getUserId).collect(Collectors.toSet());
+        Map<Long, Users> users = usersRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(Users::getUserId, Function.identity()));
+
+        List<Notification> notifications = new ArrayList<>();
+        List<Long> doneIds = new ArrayList<>();
+        List<Long> orphanIds = new ArrayList<>();
+        for (NotificationOutbox event : batch) {
+            Users user = users.get(event.getUserId());
+            if (user == null) {
+                orphanIds.add(event.getOutboxId());
+                continue;
+            }
+            notifications.add(Notification.builder()
+                    .user(user)
+                    .notificationStatus(event.getNotificationStatus())
+                    .content(event.getContent())
+                    .isRead(false)
+                    .createdAt(event.getCreatedAt())
+                    .build());
+            doneIds.add(event.getOutboxId());
+        }
+
+        List<Notification> saved = notificationRepository.saveAll(notifications);
+        notificationOutboxRepository.deleteAllByIdInBatch(doneIds);
+
+        // 수신자가 없는 이벤트는 재시도하지 않음
+        notificationOutboxRepository.findAllById(orphanIds).forEach(event -> {
+            event.setAttempts(MAX_OUTBOX_ATTEMPTS);
+            event.setLastError("User not found: " + event.getUserId());
+            event.setClaimToken(null);
+        });
+
+        return saved.stream().map(NotificationDto::fromEntity).collect(Collectors.toList());
+    }
 
-        Notification saved = notificationRepository.save(notification);
-        System.out.println("✅ [DB] 알림 저장 완료: ID=" + saved.getNotificationId() + ", userId=" + userId);
+    // 처리 실패 시 지수 백오프로 재시도 예약 (선점 해제)
+    @Transactional
+    public void rescheduleOutbox(List<NotificationOutbox> batch, String error) {
+        List<Long> ids = batch.stream().map(NotificationOutbox::getOutboxId).collect(Collectors.toList());
+        LocalDateTime now = LocalDateTime.now();
+        notificationOutboxRepository.findAllById(ids).forEach(event -> {
+            int attempts = event.getAttempts() + 1;
+            long delaySeconds = Math.min(OUTBOX_MAX_BACKOFF_SECONDS, 5L << Math.min(attempts, 16));
+            event.setAttempts(attempts);
+            event.setNextAttemptAt(now.plusSeconds(delaySeconds));
+            event.setLastError(error != null && error.length() > 500 ? error.substring(0, 500) : error);
+            event.setClaimToken(null);
+            event.setClaimedAt(null);
+        });
+    }
 
-        NotificationDto dto = NotificationDto.fromEntity(saved);
+    // 접속 중인 사용자에게 실시간 전송
+    public void push(Long userId, NotificationDto dto) {
         webSocketHandler.sendNotificationToUser(userId, dto);
     }
 
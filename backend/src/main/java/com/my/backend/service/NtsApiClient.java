@@ -1,9 +1,11 @@
 package com.my.backend.service;
 
+import com.my.backend.httpclient.OutboundHttpClient;
+import com.my.backend.httpclient.OutboundTarget;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
@@ -11,35 +13,36 @@ import java.util.Map;
 @Component
 public class NtsApiClient {
 
-    private final RestTemplate restTemplate;
+    private final OutboundHttpClient outboundHttpClient;
     private final String apiKey;
     private final String URL = "https://api.odcloud.kr/api/nts-businessman/v1/status";
 
     // 생성자 주입으로 apiKey 넣기
-    public NtsApiClient(@Value("${nts.api.key}") String apiKey) {
-        this.restTemplate = new RestTemplate();
+    public NtsApiClient(OutboundHttpClient outboundHttpClient, @Value("${nts.api.key}") String apiKey) {
+        this.outboundHttpClient = outboundHttpClient;
         this.apiKey = apiKey;
     }
 
+    // 동기 호출 (트랜잭션 내부 사용) - 대기 시간은 NTS 대상 타임아웃/동시 호출 한도로 제한됨
     public boolean verify(String businessNumber) {
+        return Boolean.TRUE.equals(verifyAsync(businessNumber).block());
+    }
+
+    public Mono<Boolean> verifyAsync(String businessNumber) {
         Map<String, Object> requestBody = Map.of(
                 "b_no", List.of(businessNumber)
         );
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-
-        ResponseEntity<Map> response = restTemplate.exchange(
-                URL + "?serviceKey=" + apiKey,
-                HttpMethod.POST,
-                entity,
-                Map.class
-        );
-
-        List<Map<String, Object>> data = (List<Map<String, Object>>) response.getBody().get("data");
-        String statusCode = (String) data.get(0).get("b_stt_cd");
-        return "01".equals(statusCode);
+        return outboundHttpClient.call(OutboundTarget.NTS, client -> client.post()
+                        .uri(URL + "?serviceKey=" + apiKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(requestBody)
+                        .retrieve()
+                        .bodyToMono(Map.class))
+                .map(body -> {
+                    List<Map<String, Object>> data = (List<Map<String, Object>>) body.get("data");
+                    String statusCode = (String) data.get(0).get("b_stt_cd");
+                    return "01".equals(statusCode);
+                });
     }
 }
@@ -4,11 +4,15 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import com.my.backend.dto.CursorPageDto;
 import com.my.backend.dto.PaymentHistoryResponse;
 import com.my.backend.enums.*;
 import com.my.backend.repository.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -42,6 +46,7 @@ public class PortOnePaymentService {
     private final RestTemplate restTemplate;
     private final ImageRepository imageRepository;
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 50;
     private static final String PORTONE_API_BASE = "https://api.iamport.kr";
     private static final String GET_TOKEN_URL = PORTONE_API_BASE + "/users/getToken";
     private static final String VERIFY_PAYMENT_URL = PORTONE_API_BASE + "/payments/";
@@ -253,9 +258,70 @@ public class PortOnePaymentService {
     //  콜백 / 웹훅
     // ============================
 
-    public ResponseEntity<String> handleCallback(Map<String, Object> payload) {
-        log.info("[PortOne] handleCallback 호출: {}", payload);
-        return ResponseEntity.ok("Callback received");
+    /**
+     * 웹훅 결제 상태 동기화 (PortOneWebhookProcessor 작업 스레드에서 호출)
+     *
+     * 웹훅 본문은 신뢰하지 않고 PortOne 에 직접 조회한 상태를 기준으로 합니다.
+     * - paid: 결제 완료 처리는 클라이언트의 검증 요청(verifyAndComplete*)에서 수행하므로 기록만
+     * - cancelled: 우리 쪽 결제가 아직 취소 전이면 취소 흐름과 같이 결제/상품 상태 반영 (이미 취소면 무시)
+     */
+    public void syncWebhookPayment(String impUid, String merchantUid) {
+        Long[] ids = parseMerchantUid(merchantUid);
+        if (ids == null) {
+            log.warn("[PortOne] 알 수 없는 주문번호 형식: merchantUid={}", merchantUid);
+            return;
+        }
+
+        PortOnePaymentResponse paymentInfo = getPaymentInfo(impUid, getAccessToken());
+        var resp = paymentInfo.getResponse();
+        if (resp == null) {
+            throw new IllegalStateException("포트원 결제 응답이 비어 있습니다.");
+        }
+        if (!merchantUid.equals(resp.getMerchantUid())) {
+            log.warn("[PortOne] 웹훅 주문번호 불일치: impUid={}, merchantUid={}", impUid, merchantUid);
+            return;
+        }
+        if (!"cancelled".equalsIgnoreCase(resp.getStatus())) {
+            log.info("[PortOne] 웹훅 수신: impUid={}, merchantUid={}, status={}", impUid, merchantUid, resp.getStatus());
+            return;
+        }
+
+        Product p = productRepository.findById(ids[0]).orElse(null);
+        Payment payment = p != null ? p.getPayment() : null;
+        if (payment == null
+                || payment.getPaymentStatus() == PaymentStatus.CANCELLED
+                || payment.getUser() == null
+                || !payment.getUser().getUserId().equals(ids[1])) {
+            return;
+        }
+
+        payment.setPaymentStatus(PaymentStatus.CANCELLED);
+        paymentRepository.save(payment);
+
+        p.setPaymentStatus(PaymentStatus.CANCELLED);
+        p.setProductStatus(ProductStatus.ACTIVE);
+        productRepository.save(p);
+
+        log.info("[PortOne] 웹훅 결제 취소 반영: productId={}, userId={}", ids[0], ids[1]);
+    }
+
+    // ORDER-{productId}-{userId}-{ts} / ORDER-DIRECT-{productId}-{userId}-{ts} → [productId, userId]
+    private Long[] parseMerchantUid(String merchantUid) {
+        String rest;
+        if (merchantUid.startsWith("ORDER-DIRECT-")) {
+            rest = merchantUid.substring("ORDER-DIRECT-".length());
+        } else if (merchantUid.startsWith("ORDER-")) {
+            rest = merchantUid.substring("ORDER-".length());
+        } else {
+            return null;
+        }
+        String[] parts = rest.split("-");
+        if (parts.length < 3) return null;
+        try {
+            return new Long[]{Long.parseLong(parts[0]), Long.parseLong(parts[1])};
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
     // ============================
@@ -520,27 +586,7 @@ public class PortOnePaymentService {
     // ============================
     @Transactional(readOnly = true)
     public List<PaymentHistoryResponse> getBuyingHistory(Long userId) {
-        // N+1 문제 방지를 위해 paymentRepository.findByUser_UserId(userId) 호출 시
-        // Product, User, Seller 엔티티를 Fetch Join하는 쿼리를 사용하는 것이 좋습니다.
-
-        List<Payment> payments = paymentRepository.findByUser_UserId(userId);
-
-        return payments.stream()
-                .map(payment -> {
-                    Long productId = payment.getProduct().getProductId();
-
-                    // 1. Image 엔티티 조회 (상품 ID와 타입 이용)
-                    String mainImageUrl = imageRepository
-                            // ImageType.PRODUCT는 이미지 엔티티에서 정의된 Enum이어야 합니다.
-                            .findTopByRefIdAndImageTypeOrderByCreatedAtAsc(productId, ImageType.PRODUCT)
-                            .map(com.my.backend.entity.Image::getImagePath)
-                            .orElse(null); // 이미지가 없을 경우 null
-
-                    // 2. DTO 변환 시 조회한 이미지 URL을 함께 전달
-                    //    (PaymentHistoryResponse.fromEntityWithImage 메서드가 필요합니다. 이전 답변 참고)
-                    return PaymentHistoryResponse.fromEntityWithImage(payment, mainImageUrl);
-                })
-                .collect(Collectors.toList());
+        return withMainImages(paymentRepository.findBuyingHistory(userId, Long.MAX_VALUE, Pageable.unpaged()));
     }
 
     /**
@@ -548,24 +594,57 @@ public class PortOnePaymentService {
      */
     @Transactional(readOnly = true)
     public List<PaymentHistoryResponse> getSellingHistory(Long userId) {
-        // N+1 문제 방지를 위해 Fetch Join 권장
+        return withMainImages(paymentRepository.findSellingHistory(userId, Long.MAX_VALUE, Pageable.unpaged()));
+    }
+
+    /**
+     * 구매 내역 커서 페이지 (최신순, cursorId 미만)
+     * 내역 건수와 관계없이 내역 1회 + 이미지 1회 조회
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<PaymentHistoryResponse> getBuyingHistoryPage(Long userId, Long cursorId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+        List<PaymentHistoryResponse> rows = paymentRepository.findBuyingHistory(
+                userId, cursorId != null ? cursorId : Long.MAX_VALUE, PageRequest.of(0, pageSize + 1));
+        return toHistoryPage(rows, pageSize);
+    }
+
+    /**
+     * 판매 내역 커서 페이지 (최신순, cursorId 미만)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<PaymentHistoryResponse> getSellingHistoryPage(Long userId, Long cursorId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+        List<PaymentHistoryResponse> rows = paymentRepository.findSellingHistory(
+                userId, cursorId != null ? cursorId : Long.MAX_VALUE, PageRequest.of(0, pageSize + 1));
+        return toHistoryPage(rows, pageSize);
+    }
 
-        List<Payment> payments = paymentRepository.findByProduct_Seller_UserId(userId);
+    // 다음 페이지 확인용 1개를 잘라내고 대표 이미지 채움
+    private CursorPageDto<PaymentHistoryResponse> toHistoryPage(List<PaymentHistoryResponse> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<PaymentHistoryResponse> page = withMainImages(hasNext ? rows.subList(0, pageSize) : rows);
+        return CursorPageDto.<PaymentHistoryResponse>builder()
+                .content(page)
+                .hasNext(hasNext)
+                .nextCursorId(hasNext ? page.get(page.size() - 1).getPaymentId() : null)
+                .build();
+    }
 
-        return payments.stream()
-                .map(payment -> {
-                    Long productId = payment.getProduct().getProductId();
+    // 상품별 대표 이미지(가장 먼저 등록된 이미지)를 한 번에 조회하여 채움
+    private List<PaymentHistoryResponse> withMainImages(List<PaymentHistoryResponse> histories) {
+        if (histories.isEmpty()) return histories;
 
-                    // 1. Image 엔티티 조회
-                    String mainImageUrl = imageRepository
-                            .findTopByRefIdAndImageTypeOrderByCreatedAtAsc(productId, ImageType.PRODUCT)
-                            .map(com.my.backend.entity.Image::getImagePath)
-                            .orElse(null);
+        Set<Long> productIds = histories.stream()
+                .map(PaymentHistoryResponse::getProductId)
+                .collect(Collectors.toSet());
+        Map<Long, String> mainImages = new HashMap<>();
+        for (Object[] row : imageRepository.findImagePathRows(ImageType.PRODUCT, productIds)) {
+            mainImages.putIfAbsent((Long) row[0], (String) row[1]);
+        }
 
-                    // 2. DTO 변환 시 조회한 이미지 URL을 함께 전달
-                    return PaymentHistoryResponse.fromEntityWithImage(payment, mainImageUrl);
-                })
-                .collect(Collectors.toList());
+        histories.forEach(history -> history.setProductImage(mainImages.get(history.getProductId())));
+        return histories;
     }
 
     // ============================
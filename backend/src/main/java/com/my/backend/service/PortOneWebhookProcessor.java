@@ -0,0 +1,117 @@
+package com.my.backend.service;
+
+import com.my.backend.entity.PortOneWebhook;
+import com.my.backend.repository.PortOneWebhookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PortOne 웹훅/콜백 처리 (portone_webhook 테이블 기반 대기열)
+ *
+ * - 요청 스레드는 수신 기록만 저장하고 응답 → 저장에 실패하면 예외(5xx)로 PortOne 재전송에 맡김
+ * - (imp_uid, status) 유니크 키로 같은 알림 재전송은 한 번만 기록
+ * - PortOneWebhookScheduler 가 선점 후 처리: 성공 시 삭제, 실패 시 지수 백오프로 재시도
+ * - 재기동/다른 인스턴스에서도 기록이 남아 있으므로 처리되지 않은 알림이 사라지지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PortOneWebhookProcessor {
+
+    private static final int MAX_ATTEMPTS = 10;
+    private static final long MAX_BACKOFF_SECONDS = 600;
+    // 선점 후 이 시간 안에 처리되지 않으면(인스턴스 종료 등) 다른 인스턴스가 다시 가져감
+    private static final long CLAIM_TIMEOUT_SECONDS = 300;
+
+    private final PortOneWebhookRepository portOneWebhookRepository;
+    private final PortOnePaymentService portOnePaymentService;
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * 웹훅 수신 기록 (필수 값이 없으면 기록하지 않음)
+     */
+    @Transactional
+    public void record(Map<String, Object> payload) {
+        received.increment();
+        String impUid = asString(payload.get("imp_uid"));
+        String merchantUid = asString(payload.get("merchant_uid"));
+        String status = asString(payload.get("status"));
+        if (impUid == null || merchantUid == null) {
+            log.warn("[PortOne] 웹훅 필수 값 누락: {}", payload);
+            return;
+        }
+
+        if (portOneWebhookRepository.insertIfAbsent(impUid, merchantUid, status == null ? "" : status,
+                LocalDateTime.now()) == 0) {
+            duplicates.increment();
+        }
+    }
+
+    // 처리할 웹훅 선점 후 조회 (선점에 성공한 행만 반환)
+    @Transactional
+    public List<PortOneWebhook> claimDue(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minusSeconds(CLAIM_TIMEOUT_SECONDS);
+        List<Long> ids = portOneWebhookRepository.findDueIds(
+                MAX_ATTEMPTS, now, staleBefore, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) return List.of();
+
+        String token = UUID.randomUUID().toString();
+        if (portOneWebhookRepository.claim(ids, token, now, staleBefore) == 0) return List.of();
+        return portOneWebhookRepository.findByClaimTokenOrderByWebhookIdAsc(token);
+    }
+
+    /**
+     * PortOne 에서 결제를 다시 조회해 반영 → 성공 시 기록 삭제, 실패 시 재시도 예약
+     */
+    public void process(PortOneWebhook webhook) {
+        try {
+            portOnePaymentService.syncWebhookPayment(webhook.getImpUid(), webhook.getMerchantUid());
+        } catch (Exception e) {
+            failed.increment();
+            reschedule(webhook, e.getMessage());
+            return;
+        }
+        portOneWebhookRepository.deleteById(webhook.getWebhookId());
+        completed.increment();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("received", received.sum());
+        stats.put("duplicates", duplicates.sum());
+        stats.put("completed", completed.sum());
+        stats.put("failed", failed.sum());
+        stats.put("backlog", portOneWebhookRepository.count());
+        stats.put("parked", portOneWebhookRepository.countByAttemptsGreaterThanEqual(MAX_ATTEMPTS));
+        return stats;
+    }
+
+    // 지수 백오프 (한도에 도달하면 더 이상 선점되지 않음 → parked)
+    private void reschedule(PortOneWebhook webhook, String error) {
+        int attempts = webhook.getAttempts() + 1;
+        long backoff = Math.min(MAX_BACKOFF_SECONDS, 5L << Math.min(attempts, 16));
+        String message = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        portOneWebhookRepository.reschedule(webhook.getWebhookId(), attempts,
+                LocalDateTime.now().plusSeconds(backoff), message);
+        log.warn("[PortOne] 웹훅 처리 실패 ({}회): impUid={}, {}", attempts, webhook.getImpUid(), error);
+    }
+
+    private String asString(Object value) {
+        return value == null ? null : value.toString();
+    }
+}
@@ -0,0 +1,108 @@
+package com.my.backend.service;
+
+import com.my.backend.util.GeoHash;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 판매중(ACTIVE) 상품 위치 메모리 색인
+ *
+ * - 키: geohash(9자리) + productId → 같은 격자 접두사를 가진 상품이 정렬되어 모여 있음
+ * - 반경 검색: 반경을 덮는 격자 (최대 3x3) 접두사 범위만 탐색 → O(log n + k)
+ * - 기동 시 ProductService 가 적재하고, 상품 저장/수정/삭제 시 ProductIndexListener 가 커밋 후 갱신
+ */
+@Component
+public class ProductLocationIndex {
+
+    private static final int KEY_PRECISION = 9;
+    private static final int MAX_SEARCH_PRECISION = 8;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Hit {
+        private final Long productId;
+        private final double distanceKm;
+    }
+
+    private record Location(Long productId, double latitude, double longitude) {
+    }
+
+    private final NavigableMap<String, Location> byGeohash = new ConcurrentSkipListMap<>();
+    private final Map<Long, String> keysByProduct = new ConcurrentHashMap<>();
+
+    /**
+     * 상품 위치 반영 (판매중이 아니거나 좌표가 없으면 색인에서 제거)
+     */
+    public void put(Long productId, Double latitude, Double longitude, boolean active) {
+        if (!active || latitude == null || longitude == null) {
+            remove(productId);
+            return;
+        }
+        String key = GeoHash.encode(latitude, longitude, KEY_PRECISION) + ":" + productId;
+        synchronized (this) {
+            String previous = keysByProduct.put(productId, key);
+            if (previous != null && !previous.equals(key)) {
+                byGeohash.remove(previous);
+            }
+            byGeohash.put(key, new Location(productId, latitude, longitude));
+        }
+    }
+
+    public void remove(Long productId) {
+        synchronized (this) {
+            String key = keysByProduct.remove(productId);
+            if (key != null) byGeohash.remove(key);
+        }
+    }
+
+    public void clear() {
+        synchronized (this) {
+            byGeohash.clear();
+            keysByProduct.clear();
+        }
+    }
+
+    public int size() {
+        return keysByProduct.size();
+    }
+
+    /**
+     * 반경 내 상품 (거리 → productId 순 정렬)
+     */
+    public List<Hit> within(double latitude, double longitude, double radiusKm) {
+        double latDelta = Math.toDegrees(radiusKm / 6371.0088);
+        double cosLat = Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+        double lonDelta = Math.min(180, latDelta / cosLat);
+
+        // 격자 한 칸이 반경 이상인 가장 세밀한 정밀도 → 범위가 축마다 최대 3칸
+        int precision = 1;
+        while (precision < MAX_SEARCH_PRECISION
+                && GeoHash.cellHeight(precision + 1) >= latDelta
+                && GeoHash.cellWidth(precision + 1) >= lonDelta) {
+            precision++;
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        for (String cell : GeoHash.covering(latitude - latDelta, latitude + latDelta,
+                longitude - lonDelta, longitude + lonDelta, precision)) {
+            // '{' 는 base32 문자('z')와 ':' 보다 뒤 → cell 접두사 범위 전체
+            for (Location location : byGeohash.subMap(cell, true, cell + "{", false).values()) {
+                double distance = GeoHash.distanceKm(latitude, longitude, location.latitude(), location.longitude());
+                if (distance <= radiusKm) {
+                    hits.add(new Hit(location.productId(), distance));
+                }
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::getDistanceKm).thenComparing(Hit::getProductId));
+        return hits;
+    }
+}
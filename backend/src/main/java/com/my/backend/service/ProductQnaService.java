@@ -1,5 +1,6 @@
 package com.my.backend.service;
 
+import com.my.backend.dto.CursorPageDto;
 import com.my.backend.dto.ProductQnaDto;
 import com.my.backend.dto.auth.CustomUserDetails;
 import com.my.backend.entity.ProductQna;
@@ -7,8 +8,10 @@ import com.my.backend.entity.Users;
 import com.my.backend.enums.ProductType;
 import com.my.backend.repository.ProductQnaRepository;
 import com.my.backend.repository.UserRepository;
+import com.my.backend.service.BoardPageCache.Board;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -16,8 +19,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import static com.my.backend.util.TransactionHooks.afterCommit;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -25,12 +32,50 @@ public class ProductQnaService {
 
     private final ProductQnaRepository productQnaRepository;
     private final UserRepository userRepository;
+    private final BoardPageCache boardPageCache;
+
+    private static final int MAX_QNA_PAGE_SIZE = 50;
+    // 1:1 문의는 refId = 0 으로 저장
+    private static final long USER_QNA_REF_ID = 0L;
 
     // 전체 문의 조회
     public List<ProductQnaDto> getAllProductQnas() {
-        return productQnaRepository.findAll().stream()
-                .map(ProductQnaDto::fromEntity)
-                .toList();
+        return listQnas(null, null, null);
+    }
+
+    /**
+     * 문의 커서 페이지 (최신순, cursorId 미만, 상품/타입/작성자 필터 선택)
+     * - 첫 페이지는 게시판 캐시에서 응답
+     */
+    public CursorPageDto<ProductQnaDto> getProductQnaCursorPage(Long refId, ProductType productType, Long userId,
+                                                               Long cursorId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_QNA_PAGE_SIZE));
+        if (cursorId != null) {
+            return loadQnaPage(refId, productType, userId, cursorId, pageSize);
+        }
+        return boardPageCache.get(Board.PRODUCT_QNA, refId + ":" + productType + ":" + userId + ":" + pageSize,
+                () -> loadQnaPage(refId, productType, userId, null, pageSize));
+    }
+
+    private CursorPageDto<ProductQnaDto> loadQnaPage(Long refId, ProductType productType, Long userId,
+                                                     Long cursorId, int pageSize) {
+        List<ProductQnaDto> rows = productQnaRepository.findQnaRows(refId, productType, userId, cursorId,
+                PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<ProductQnaDto> page = hasNext ? rows.subList(0, pageSize) : rows;
+        return CursorPageDto.<ProductQnaDto>builder()
+                .content(page)
+                .hasNext(hasNext)
+                .nextCursorId(hasNext ? page.get(page.size() - 1).getProductQnaId() : null)
+                .build();
+    }
+
+    // 전체 목록 (프로젝션, 기존 응답 순서인 등록순 유지)
+    private List<ProductQnaDto> listQnas(Long refId, ProductType productType, Long userId) {
+        List<ProductQnaDto> rows = new ArrayList<>(
+                productQnaRepository.findQnaRows(refId, productType, userId, null, Pageable.unpaged()));
+        Collections.reverse(rows);
+        return rows;
     }
 
     // 페이징 조회
@@ -48,30 +93,22 @@ public class ProductQnaService {
 
     // 사용자별 문의 조회
     public List<ProductQnaDto> getProductQnasByUserId(Long userId) {
-        return productQnaRepository.findByUserUserId(userId).stream()
-                .map(ProductQnaDto::fromEntity)
-                .toList();
+        return listQnas(null, null, userId);
     }
 
     // 상품 타입별 문의 조회
     public List<ProductQnaDto> getProductQnasByType(ProductType productType) {
-        return productQnaRepository.findByProductType(productType).stream()
-                .map(ProductQnaDto::fromEntity)
-                .toList();
+        return listQnas(null, productType, null);
     }
 
     // refId로 문의 조회 (특정 상품에 대한 모든 문의)
     public List<ProductQnaDto> getProductQnasByRefId(Long refId) {
-        return productQnaRepository.findByRefId(refId).stream()
-                .map(ProductQnaDto::fromEntity)
-                .toList();
+        return listQnas(refId, null, null);
     }
 
     // refId + ProductType으로 문의 조회
     public List<ProductQnaDto> getProductQnasByRefIdAndType(Long refId, ProductType productType) {
-        return productQnaRepository.findByRefIdAndProductType(refId, productType).stream()
-                .map(ProductQnaDto::fromEntity)
-                .toList();
+        return listQnas(refId, productType, null);
     }
 
     // 문의 등록 ⭐ 수정됨
@@ -95,6 +132,7 @@ public class ProductQnaService {
 
         ProductQna productQna = productQnaDto.toEntity(user);
         ProductQna saved = productQnaRepository.save(productQna);
+        afterCommit(() -> boardPageCache.invalidate(Board.PRODUCT_QNA));
         return ProductQnaDto.fromEntity(saved);
     }
 
@@ -134,6 +172,7 @@ public class ProductQnaService {
         }
 
         ProductQna updated = productQnaRepository.save(productQna);
+        afterCommit(() -> boardPageCache.invalidate(Board.PRODUCT_QNA));
         return ProductQnaDto.fromEntity(updated);
     }
 
@@ -154,6 +193,7 @@ public class ProductQnaService {
         }
 
         productQnaRepository.deleteById(id);
+        afterCommit(() -> boardPageCache.invalidate(Board.PRODUCT_QNA));
     }
 
     //  1:1 문의 등록
@@ -174,23 +214,19 @@ public class ProductQnaService {
             user = Users.builder().userId(1L).build();
         }
         ProductQna productQna = productQnaDto.toEntity(user);
-        productQna.setRefId(0L);
+        productQna.setRefId(USER_QNA_REF_ID);
         productQna.setProductType(ProductType.STORE);
         ProductQna saved = productQnaRepository.save(productQna);
+        afterCommit(() -> boardPageCache.invalidate(Board.PRODUCT_QNA));
         return ProductQnaDto.fromEntity(saved);
     }
     //  사용자 1:1 문의 조회
     public List<ProductQnaDto> getUserQnasByUserId(Long userId) {
-        return productQnaRepository.findByUserUserId(userId).stream()
-                .filter(qna -> qna.getRefId() != null && qna.getRefId().equals(0L))
-                .map(ProductQnaDto::fromEntity)
-                .toList();
+        return listQnas(USER_QNA_REF_ID, null, userId);
     }
 
     //  모든 1:1 문의 조회 (관리자용)
     public List<ProductQnaDto> getAllUserQnas() {
-        return productQnaRepository.findByRefId(0L).stream()
-                .map(ProductQnaDto::fromEntity)
-                .toList();
+        return listQnas(USER_QNA_REF_ID, null, null);
     }
 }
\ No newline at end of file
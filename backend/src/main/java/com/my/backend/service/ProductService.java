@@ -1,8 +1,16 @@
 package com.my.backend.service;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 
@@ -15,10 +23,12 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.my.backend.dto.BidDto;
 import com.my.backend.dto.ImageDto;
+import com.my.backend.dto.NearbyProductPageDto;
 import com.my.backend.dto.ProductDto;
 import com.my.backend.entity.Bid;
 import com.my.backend.entity.Image;
@@ -44,7 +54,13 @@ public class ProductService {
     private final ImageRepository imageRepository;
     private final EntityManager em;
     private final ProductViewLogRepository productViewLogRepository;
-    private final ReviewRepository reviewRepository;
+    private final ProductLocationIndex productLocationIndex;
+    private final SellerRatingIndex sellerRatingIndex;
+    private final S3Uploader s3Uploader;
+
+    private static final double MAX_NEARBY_RADIUS_KM = 50;
+    private static final int MAX_NEARBY_PAGE_SIZE = 50;
+    private static final int LOCATION_LOAD_BATCH = 1000;
 
     // ========================================
     // 🔹 헬퍼 메서드: Product → ProductDto 변환 + 이미지 추가
@@ -59,6 +75,9 @@ public class ProductService {
                 .map(ImageDto::fromEntity)
                 .collect(Collectors.toList());
         dto.setImages(images);
+        if (!images.isEmpty()) {
+            dto.setThumbnailUrl(images.get(0).getThumbnailPath());
+        }
 
         // 판매자 프로필 이미지 조회 및 추가
         if (product.getSeller() != null) {
@@ -67,7 +86,9 @@ public class ProductService {
                     ImageType.USER
             );
             if (!profileImages.isEmpty()) {
-                dto.setSellerProfileImage(profileImages.get(0).getImagePath());
+                Image profileImage = profileImages.get(0);
+                dto.setSellerProfileImage(profileImage.getThumbnailPath() != null
+                        ? profileImage.getThumbnailPath() : profileImage.getImagePath());
             }
         }
 
@@ -97,10 +118,12 @@ public class ProductService {
 
     // 북마크 여부 업데이트 헬퍼
     private void updateBookmarkStatus(List<ProductDto> products, Long userId) {
-        if (userId == null) return;
+        if (userId == null || products.isEmpty()) return;
+        // 상품마다 조회하지 않고 한 번에 조회
+        Set<Long> bookmarked = new HashSet<>(bookMarkRepository.findBookmarkedProductIds(
+                userId, products.stream().map(ProductDto::getProductId).toList()));
         for (ProductDto dto : products) {
-            boolean isBookmarked = bookMarkRepository.existsByUserUserIdAndProductProductId(userId, dto.getProductId());
-            dto.setBookmarked(isBookmarked);
+            dto.setBookmarked(bookmarked.contains(dto.getProductId()));
         }
     }
 
@@ -162,6 +185,46 @@ public class ProductService {
         return convertToDto(saved);
     }
 
+    /**
+     * 상품 이미지 세트 업로드 + 등록
+     * 파일을 동시에 전송하고 모두 끝난 뒤 입력 순서대로 이미지 행을 저장합니다.
+     * 저장에 실패하면 올라간 파일을 정리합니다.
+     */
+    public CompletableFuture<List<ImageDto>> uploadProductImages(Long productId, List<MultipartFile> files,
+                                                                 String dirName, Long authenticatedUserId) throws IOException {
+        Product product = findProductOrThrow(productId);
+        Users user = findUserOrThrow(authenticatedUserId);
+        boolean isAdmin = user.getRole() == Role.ADMIN;
+        boolean isOwner = product.getSeller().getUserId().equals(authenticatedUserId);
+        if (!isAdmin && !isOwner) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "수정 권한이 없습니다. 해당 상품의 판매자가 아닙니다.");
+        }
+        if (files == null || files.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "업로드할 이미지가 없습니다.");
+        }
+
+        ProductType productType = product.getProductType();
+        return s3Uploader.uploadAllAsync(files, dirName)
+                .thenApply(urls -> {
+                    List<Image> images = urls.stream()
+                            .map(url -> Image.builder()
+                                    .imagePath(url)
+                                    .imageType(ImageType.PRODUCT)
+                                    .productType(productType)
+                                    .refId(productId)
+                                    .build())
+                            .toList();
+                    try {
+                        return imageRepository.saveAll(images).stream()
+                                .map(ImageDto::fromEntity)
+                                .toList();
+                    } catch (RuntimeException e) {
+                        urls.forEach(s3Uploader::deleteQuietly);
+                        throw e;
+                    }
+                });
+    }
+
     // 상품 수정
     public ProductDto updateProduct(Long id, ProductDto dto, Long authenticatedUserId) {
         Product product = findProductOrThrow(id);
@@ -441,6 +504,78 @@ public class ProductService {
         return convertToDto(product);
     }
 
+    // ========================================
+    // 🔹 주변 상품 (위치 색인)
+    // ========================================
+
+    // 기동 시 판매중 상품 위치 적재
+    public void loadLocationIndex() {
+        productLocationIndex.clear();
+        Long afterId = 0L;
+        while (true) {
+            List<Object[]> rows = productRepository.findLocationRowsAfter(
+                    ProductStatus.ACTIVE, afterId, PageRequest.of(0, LOCATION_LOAD_BATCH));
+            for (Object[] row : rows) {
+                productLocationIndex.put((Long) row[0], (Double) row[1], (Double) row[2], true);
+            }
+            if (rows.size() < LOCATION_LOAD_BATCH) break;
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+        }
+    }
+
+    // 반경 내 판매중 상품 (거리 가까운 순, keyset 페이지)
+    public NearbyProductPageDto getNearbyProducts(double latitude, double longitude, double radiusKm,
+                                                  Double cursorDistance, Long cursorId, int size) {
+        // NaN/Infinity 는 범위 비교를 모두 통과하므로 먼저 거름
+        if (!Double.isFinite(latitude) || !Double.isFinite(longitude)
+                || latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 좌표입니다.");
+        }
+        if (!Double.isFinite(radiusKm) || radiusKm <= 0 || radiusKm > MAX_NEARBY_RADIUS_KM) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "반경은 0 초과 " + (int) MAX_NEARBY_RADIUS_KM + "km 이하로 지정해주세요.");
+        }
+        if (cursorDistance != null && !Double.isFinite(cursorDistance)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_NEARBY_PAGE_SIZE);
+
+        List<ProductLocationIndex.Hit> hits = productLocationIndex.within(latitude, longitude, radiusKm);
+
+        // 커서 이후 항목부터 pageSize + 1 개 (다음 페이지 여부 확인용)
+        List<ProductLocationIndex.Hit> page = hits.stream()
+                .filter(hit -> cursorDistance == null || cursorId == null
+                        || hit.getDistanceKm() > cursorDistance
+                        || (hit.getDistanceKm() == cursorDistance && hit.getProductId() > cursorId))
+                .limit(pageSize + 1L)
+                .collect(Collectors.toList());
+
+        boolean hasNext = page.size() > pageSize;
+        if (hasNext) page = page.subList(0, pageSize);
+
+        Map<Long, Product> products = productRepository.findByProductIdIn(
+                        page.stream().map(ProductLocationIndex.Hit::getProductId).toList())
+                .stream()
+                .collect(Collectors.toMap(Product::getProductId, p -> p));
+
+        List<ProductDto> content = new ArrayList<>(page.size());
+        for (ProductLocationIndex.Hit hit : page) {
+            Product product = products.get(hit.getProductId());
+            if (product == null || product.getProductStatus() != ProductStatus.ACTIVE) continue;
+            ProductDto dto = convertToDto(product);
+            dto.setDistanceKm(hit.getDistanceKm());
+            content.add(dto);
+        }
+
+        ProductLocationIndex.Hit last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return NearbyProductPageDto.builder()
+                .content(content)
+                .hasNext(hasNext)
+                .nextCursorDistance(hasNext ? last.getDistanceKm() : null)
+                .nextCursorId(hasNext ? last.getProductId() : null)
+                .build();
+    }
+
     // 랭킹 조회
     public List<ProductDto> getRank(String category) {
         Pageable limit = PageRequest.of(0, 100);
@@ -542,18 +677,20 @@ public class ProductService {
         product.setPayment(payment);
     }
 
-    // ★ 평균 평점 4.5 이상 상품 가져오기
+    // ★ 평균 평점 4.5 이상 판매자의 판매중 상품 가져오기
+    // (리뷰 refId 는 판매자 userId → 판매자 평점 색인의 기준 이상 판매자로 조회)
     public List<Product> getTopRatedProducts() {
-        // 수정포인트: 평균 4.5 이상인 상품 ID 조회
-        List<Long> productIds = reviewRepository.findProductIdsByAverageRating(4.5);
-
-        if (productIds.isEmpty()) {
-            return List.of();   // 수정포인트: 빈 리스트 반환
+        Set<Long> sellerIds = sellerRatingIndex.topRatedUsers();
+        if (sellerIds.isEmpty()) {
+            return List.of();
         }
-
-        // 수정포인트: 상품 리스트 조회
-        return productRepository.findByProductIdIn(productIds);
+        return productRepository.findBySellerUserIdInAndProductStatus(sellerIds, ProductStatus.ACTIVE);
     }
+
+    /**
+     * 종료 시각이 지난 판매중 경매 일괄 종료
+     * 입찰 여부/결제 상태를 상품마다 조회하지 않고 묶음 단위로 한 번에 확인합니다.
+     */
     @Transactional
     public void closeExpiredAuctions() {
 
@@ -565,29 +702,24 @@ public class ProductService {
                         ProductStatus.ACTIVE,
                         now
                 );
+        if (expiredAuctions.isEmpty()) return;
 
-        for (Product product : expiredAuctions) {
+        List<Long> productIds = expiredAuctions.stream().map(Product::getProductId).toList();
+        Set<Long> withBids = new HashSet<>(bidRepository.findProductIdsWithBids(productIds));
+        Map<Long, PaymentStatus> paymentStatuses = resolvePaymentStatuses(withBids);
 
-            // 최고 입찰 조회
-            Bid topBid = bidRepository.findTopByProductOrderByBidPriceDesc(product)
-                    .orElse(null);
+        for (Product product : expiredAuctions) {
 
             // 입찰 없음 → 경매 종료
-            if (topBid == null) {
+            if (!withBids.contains(product.getProductId())) {
                 product.setProductStatus(ProductStatus.CLOSED);
                 continue;
             }
 
-            // 결제 조회 (상품 기준)
-            Payment payment = paymentRepository
-                    .findByProduct_ProductId(product.getProductId())
-                    .orElse(null);
+            PaymentStatus paymentStatus = paymentStatuses.get(product.getProductId());
 
             // 결제 완료 or 구매 확정 → 판매 완료
-            if (payment != null &&
-                    (payment.getPaymentStatus() == PaymentStatus.PAID
-                            || payment.getPaymentStatus() == PaymentStatus.CONFIRMED)) {
-
+            if (isCompleted(paymentStatus)) {
                 product.setProductStatus(ProductStatus.SOLD);
             } else {
                 // 결제 안 함 / 실패 / 대기 → 종료
@@ -596,4 +728,21 @@ public class ProductService {
         }
     }
 
-}
\ No newline at end of file
+    // 종료 대상 상품의 결제 상태를 한 번의 IN 조회로 확인 (SOLD/CLOSED 판정은 항상 DB 기준)
+    private Map<Long, PaymentStatus> resolvePaymentStatuses(Collection<Long> productIds) {
+        if (productIds.isEmpty()) return Map.of();
+
+        Map<Long, PaymentStatus> statuses = new HashMap<>();
+        for (Object[] row : paymentRepository.findPaymentStatuses(ProductType.AUCTION, productIds)) {
+            // 결제가 여러 건이면 완료 상태 우선
+            statuses.merge((Long) row[0], (PaymentStatus) row[1],
+                    (current, next) -> isCompleted(current) ? current : next);
+        }
+        return statuses;
+    }
+
+    private boolean isCompleted(PaymentStatus status) {
+        return status == PaymentStatus.PAID || status == PaymentStatus.CONFIRMED;
+    }
+
+}
@@ -0,0 +1,170 @@
+package com.my.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.my.backend.dto.PublicChatDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * 공개 채팅 최근 N개 메시지 링 버퍼 + DB 저장 대기열
+ *
+ * - append 는 lock 없이 시퀀스를 증가시켜 슬롯에 기록 (가장 오래된 메시지를 덮어씀)
+ * - 슬롯에는 직렬화가 끝난 JSON 프레임을 함께 저장 → 브로드캐스트/최근 메시지 조회 시 재직렬화 없음
+ * - 삭제/밴 반영 시에는 해당 슬롯만 새 프레임으로 교체
+ * - DB 저장은 대기열에 쌓아 두고 스케줄러가 배치로 처리
+ * - 대기열은 pending-limit 까지만 받고, 가득 차면 append 가 null 을 반환 (DB 장애 시 메모리 무한 증가 방지)
+ */
+@Component
+public class PublicChatHistory {
+
+    public static final String DELETED_CONTENT = "관리자에 의해 삭제된 메시지입니다.";
+    public static final String BANNED_CONTENT = "밴 처리된 사용자";
+    private static final String FRAME_TYPE = "PUBLIC";
+
+    // 메시지와 그 JSON 프레임 ({"type":"PUBLIC", ...PublicChatDto})
+    public record Entry(PublicChatDto dto, String frame) {
+    }
+
+    // 버퍼 슬롯 (시퀀스와 함께 저장해 덮어쓰기 여부 확인)
+    private record Slot(long seq, Entry entry) {
+    }
+
+    // DB 저장 대기 메시지 (attempts: 건별 저장 실패 횟수)
+    @Getter
+    @AllArgsConstructor
+    public static final class PendingChat {
+        private final Long publicChatId;
+        private final Long userId;
+        private final String content;
+        private final LocalDateTime createdAt;
+        private final int attempts;
+
+        public PendingChat retried() {
+            return new PendingChat(publicChatId, userId, content, createdAt, attempts + 1);
+        }
+    }
+
+    private final int capacity;
+    private final ObjectMapper objectMapper;
+    private final AtomicReferenceArray<Slot> slots;
+    private final AtomicLong head = new AtomicLong();
+    private final Queue<PendingChat> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final int pendingLimit;
+
+    public PublicChatHistory(@Value("${chat.public.history-size:50}") int capacity,
+                             @Value("${chat.public.pending-limit:10000}") int pendingLimit,
+                             ObjectMapper objectMapper) {
+        this.capacity = Math.max(1, capacity);
+        this.pendingLimit = Math.max(1, pendingLimit);
+        this.objectMapper = objectMapper;
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    // 버퍼에만 추가 (기동 시 DB 최근 메시지 적재용)
+    public Entry load(PublicChatDto dto) {
+        Entry entry = entryOf(dto);
+        long seq = head.getAndIncrement();
+        slots.set((int) (seq % capacity), new Slot(seq, entry));
+        return entry;
+    }
+
+    // 새 메시지: 버퍼 추가 + DB 저장 대기열 등록 (id/발행 시각은 호출자가 부여, 대기열이 가득 차면 null)
+    public Entry append(PublicChatDto dto) {
+        if (pendingCount.incrementAndGet() > pendingLimit) {
+            pendingCount.decrementAndGet();
+            return null;
+        }
+        Entry entry = load(dto);
+        pending.add(new PendingChat(dto.getPublicChatId(), dto.getUserId(), dto.getContent(), dto.getCreatedAt(), 0));
+        return entry;
+    }
+
+    // 최근 메시지 JSON 배열 (시간 오름차순)
+    public String recentJson() {
+        long end = head.get();
+        long start = Math.max(0, end - capacity);
+        StringJoiner json = new StringJoiner(",", "[", "]");
+        for (long seq = start; seq < end; seq++) {
+            Slot slot = slots.get((int) (seq % capacity));
+            // 아직 기록 중이거나 이미 덮어쓴 슬롯은 건너뜀
+            if (slot != null && slot.seq() == seq) {
+                json.add(slot.entry().frame());
+            }
+        }
+        return json.toString();
+    }
+
+    // 저장 대기 메시지 꺼내기 (최대 max개)
+    public List<PendingChat> drainPending(int max) {
+        List<PendingChat> batch = new ArrayList<>();
+        PendingChat next;
+        while (batch.size() < max && (next = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    // 저장 실패 메시지 재등록 (이미 받은 메시지이므로 한도와 무관하게 다시 넣음)
+    public void requeue(List<PendingChat> chats) {
+        pendingCount.addAndGet(chats.size());
+        pending.addAll(chats);
+    }
+
+    public boolean hasPending() {
+        return !pending.isEmpty();
+    }
+
+    public int pendingSize() {
+        return pendingCount.get();
+    }
+
+    // 관리자 삭제 반영
+    public void markDeleted(Long publicChatId) {
+        rewrite(dto -> publicChatId.equals(dto.getPublicChatId()),
+                dto -> dto.toBuilder().content(DELETED_CONTENT).isDeleted(true).build());
+    }
+
+    // 밴 처리된 사용자 메시지 가리기
+    public void maskUser(Long userId) {
+        rewrite(dto -> userId.equals(dto.getUserId()) && !Boolean.TRUE.equals(dto.getIsDeleted()),
+                dto -> dto.toBuilder().content(BANNED_CONTENT).build());
+    }
+
+    private void rewrite(Predicate<PublicChatDto> target, UnaryOperator<PublicChatDto> change) {
+        for (int i = 0; i < capacity; i++) {
+            Slot slot = slots.get(i);
+            if (slot != null && target.test(slot.entry().dto())) {
+                // 그 사이 새 메시지로 덮어쓴 슬롯은 건너뜀
+                slots.compareAndSet(i, slot, new Slot(slot.seq(), entryOf(change.apply(slot.entry().dto()))));
+            }
+        }
+    }
+
+    private Entry entryOf(PublicChatDto dto) {
+        ObjectNode frame = objectMapper.createObjectNode();
+        frame.put("type", FRAME_TYPE);
+        frame.setAll((ObjectNode) objectMapper.valueToTree(dto));
+        return new Entry(dto, frame.toString());
+    }
+}
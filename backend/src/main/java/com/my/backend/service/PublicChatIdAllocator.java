@@ -0,0 +1,39 @@
+package com.my.backend.service;
+
+import com.my.backend.repository.PublicChatRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공개 채팅 id 발급기
+ *
+ * - 발행 시점에 id 를 부여해 브로드캐스트 프레임에 publicChatId 를 포함 (DB 저장은 이후 배치)
+ * - id_sequence 에서 블록 단위로 예약하므로 인스턴스 간 중복 없음
+ * - 프로세스의 첫 예약 전에 시퀀스를 기존 최대 id 이후로 맞춤 (AUTO_INCREMENT 시절 데이터 포함)
+ */
+@Component
+@RequiredArgsConstructor
+public class PublicChatIdAllocator {
+
+    private static final String SEQUENCE = "public_chat";
+    private static final int BLOCK_SIZE = 100;
+
+    private final IdSequenceService idSequenceService;
+    private final PublicChatRepository publicChatRepository;
+
+    private long next;
+    private long limit;
+    private boolean seeded;
+
+    public synchronized long nextId() {
+        if (next >= limit) {
+            if (!seeded) {
+                idSequenceService.seed(SEQUENCE, publicChatRepository.findMaxId() + 1);
+                seeded = true;
+            }
+            limit = idSequenceService.reserve(SEQUENCE, BLOCK_SIZE);
+            next = limit - BLOCK_SIZE;
+        }
+        return next++;
+    }
+}
@@ -5,26 +5,111 @@ import com.google.zxing.WriterException;
 import com.google.zxing.client.j2se.MatrixToImageWriter;
 import com.google.zxing.common.BitMatrix;
 import com.google.zxing.qrcode.QRCodeWriter;
+import com.my.backend.util.MonochromePngWriter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * QR 코드 PNG 생성
+ *
+ * 같은 productId / 크기의 결과는 항상 같으므로 인코딩된 PNG 바이트를 LRU 캐시에 보관합니다.
+ */
 @Service
 public class QRCodeService {
 
+    /**
+     * 인코딩된 PNG + 내용 기반 ETag
+     */
+    public record QrImage(byte[] png, String etag) {
+    }
+
+    private record QrKey(Long productId, int width, int height) {
+    }
+
+    private final int cacheMaxEntries;
+    private final boolean directPng;
+
+    // (productId, width, height) → PNG (access-order LRU)
+    private final Map<QrKey, QrImage> cache;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public QRCodeService(@Value("${qrcode.cache.max-entries:2000}") int cacheMaxEntries,
+                         @Value("${qrcode.png.direct:true}") boolean directPng) {
+        this.cacheMaxEntries = cacheMaxEntries;
+        this.directPng = directPng;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<QrKey, QrImage> eldest) {
+                return size() > QRCodeService.this.cacheMaxEntries;
+            }
+        });
+    }
+
     /**
      * productId를 QR 코드 바이트 배열로 변환
      * @param productId 상품 ID
      * @param width QR 코드 가로 크기
      * @param height QR 코드 세로 크기
-     * @return QR 코드 PNG 바이트 배열
+     * @return QR 코드 PNG 바이트 배열 (캐시 공유 배열이므로 수정하지 말 것)
      */
     public byte[] generateQRCodeBytes(Long productId, int width, int height)
             throws WriterException, IOException {
+        return getQRCode(productId, width, height).png();
+    }
 
+    /**
+     * QR 코드 PNG + ETag (캐시 우선)
+     */
+    public QrImage getQRCode(Long productId, int width, int height)
+            throws WriterException, IOException {
+
+        QrKey key = new QrKey(productId, width, height);
+        QrImage cached = cache.get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        byte[] png = render(productId, width, height);
+        QrImage image = new QrImage(png, etagOf(png));
+        cache.put(key, image);
+        return image;
+    }
+
+    public Map<String, Object> cacheStats() {
+        return Map.of(
+                "size", cache.size(),
+                "hits", hits.sum(),
+                "misses", misses.sum()
+        );
+    }
+
+    // 강한 ETag: PNG 내용 해시 (인코딩 방식이 바뀌면 자동으로 달라짐)
+    private String etagOf(byte[] png) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(png);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] render(Long productId, int width, int height) throws WriterException, IOException {
         // QR 코드에 담을 데이터 (productId만)
         String qrContent = String.valueOf(productId);
 
@@ -37,6 +122,11 @@ public class QRCodeService {
                 height
         );
 
+        // 1비트 PNG 직접 인코딩 (BufferedImage/ImageIO 생략)
+        if (directPng) {
+            return MonochromePngWriter.write(bitMatrix);
+        }
+
         // BufferedImage로 변환
         BufferedImage qrImage = MatrixToImageWriter.toBufferedImage(bitMatrix);
 
@@ -46,4 +136,4 @@ public class QRCodeService {
 
         return baos.toByteArray();
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.my.backend.service;
 
+import com.my.backend.dto.CursorPageDto;
 import com.my.backend.dto.QnaReviewDto;
 import com.my.backend.dto.auth.CustomUserDetails;
 import com.my.backend.entity.ProductQna;
@@ -8,15 +9,22 @@ import com.my.backend.entity.Users;
 import com.my.backend.repository.ProductQnaRepository;
 import com.my.backend.repository.QnaReviewRepository;
 import com.my.backend.repository.UserRepository;
+import com.my.backend.service.BoardPageCache.Board;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import static com.my.backend.util.TransactionHooks.afterCommit;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -25,12 +33,46 @@ public class QnaReviewService {
     private final QnaReviewRepository qnaReviewRepository;
     private final ProductQnaRepository productQnaRepository;
     private final UserRepository userRepository;
+    private final BoardPageCache boardPageCache;
+
+    private static final int MAX_REVIEW_PAGE_SIZE = 50;
 
     // 전체 답변 조회
     public List<QnaReviewDto> getAllQnaReviews() {
-        return qnaReviewRepository.findAll().stream()
-                .map(QnaReviewDto::fromEntity)
-                .toList();
+        return listReviews(null, null);
+    }
+
+    /**
+     * 답변 커서 페이지 (최신순, cursorId 미만, 문의/작성자 필터 선택)
+     * - 첫 페이지는 게시판 캐시에서 응답
+     */
+    public CursorPageDto<QnaReviewDto> getQnaReviewCursorPage(Long productQnaId, Long userId, Long cursorId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_REVIEW_PAGE_SIZE));
+        if (cursorId != null) {
+            return loadReviewPage(productQnaId, userId, cursorId, pageSize);
+        }
+        return boardPageCache.get(Board.QNA_REVIEW, productQnaId + ":" + userId + ":" + pageSize,
+                () -> loadReviewPage(productQnaId, userId, null, pageSize));
+    }
+
+    private CursorPageDto<QnaReviewDto> loadReviewPage(Long productQnaId, Long userId, Long cursorId, int pageSize) {
+        List<QnaReviewDto> rows = qnaReviewRepository.findReviewRows(productQnaId, userId, cursorId,
+                PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<QnaReviewDto> page = hasNext ? rows.subList(0, pageSize) : rows;
+        return CursorPageDto.<QnaReviewDto>builder()
+                .content(page)
+                .hasNext(hasNext)
+                .nextCursorId(hasNext ? page.get(page.size() - 1).getQnaReviewId() : null)
+                .build();
+    }
+
+    // 전체 목록 (프로젝션, 기존 응답 순서인 등록순 유지)
+    private List<QnaReviewDto> listReviews(Long productQnaId, Long userId) {
+        List<QnaReviewDto> rows = new ArrayList<>(
+                qnaReviewRepository.findReviewRows(productQnaId, userId, null, Pageable.unpaged()));
+        Collections.reverse(rows);
+        return rows;
     }
 
     // 단건 조회
@@ -42,16 +84,12 @@ public class QnaReviewService {
 
     // 특정 ProductQna에 대한 모든 답변 조회
     public List<QnaReviewDto> getQnaReviewsByProductQnaId(Long productQnaId) {
-        return qnaReviewRepository.findByQnaProductQnaId(productQnaId).stream()
-                .map(QnaReviewDto::fromEntity)
-                .toList();
+        return listReviews(productQnaId, null);
     }
 
     // 특정 사용자(판매자)가 작성한 모든 답변 조회
     public List<QnaReviewDto> getQnaReviewsByUserId(Long userId) {
-        return qnaReviewRepository.findByQnaUserUserId(userId).stream()
-                .map(QnaReviewDto::fromEntity)
-                .toList();
+        return listReviews(null, userId);
     }
 
     // 답변 등록 ⭐ 수정됨
@@ -74,6 +112,7 @@ public class QnaReviewService {
 
         QnaReview qnaReview = qnaReviewDto.toEntity(qnaUser, productQna);
         QnaReview saved = qnaReviewRepository.save(qnaReview);
+        afterCommit(() -> boardPageCache.invalidate(Board.QNA_REVIEW));
         return QnaReviewDto.fromEntity(saved);
     }
 
@@ -97,6 +136,7 @@ public class QnaReviewService {
         }
 
         QnaReview updated = qnaReviewRepository.save(qnaReview);
+        afterCommit(() -> boardPageCache.invalidate(Board.QNA_REVIEW));
         return QnaReviewDto.fromEntity(updated);
     }
 
@@ -117,5 +157,6 @@ public class QnaReviewService {
         }
 
         qnaReviewRepository.deleteById(id);
+        afterCommit(() -> boardPageCache.invalidate(Board.QNA_REVIEW));
     }
 }
\ No newline at end of file
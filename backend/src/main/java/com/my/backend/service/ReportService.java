@@ -1,18 +1,26 @@
 package com.my.backend.service;
 
+import com.my.backend.dto.CursorPageDto;
 import com.my.backend.dto.ReportDto;
 import com.my.backend.entity.Report;
 import com.my.backend.entity.Users;
 import com.my.backend.enums.ReportType;
 import com.my.backend.repository.ReportRepository;
 import com.my.backend.repository.UserRepository;
+import com.my.backend.service.BoardPageCache.Board;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import static com.my.backend.util.TransactionHooks.afterCommit;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -20,6 +28,9 @@ public class ReportService {
 
     private final ReportRepository reportRepository;
     private final UserRepository userRepository;
+    private final BoardPageCache boardPageCache;
+
+    private static final int MAX_REPORT_PAGE_SIZE = 100;
 
     // 신고 생성
     @Transactional
@@ -36,14 +47,13 @@ public class ReportService {
                 .build();
 
         Report saved = reportRepository.save(report);
+        afterCommit(() -> boardPageCache.invalidate(Board.REPORT));
         return ReportDto.fromEntity(saved);
     }
 
     // 특정 대상(refId)에 대한 신고 조회
     public List<ReportDto> getReportsByTarget(Long refId) {
-        return reportRepository.findByRefId(refId).stream()
-                .map(ReportDto::fromEntity)
-                .toList();
+        return listReports(null, null, refId, null);
     }
 
     // 신고 상태 변경 (관리자용)
@@ -52,6 +62,7 @@ public class ReportService {
         Report report = reportRepository.findById(reportId)
                 .orElseThrow(() -> new EntityNotFoundException("신고가 존재하지 않습니다. id=" + reportId));
         report.setStatus(status);
+        afterCommit(() -> boardPageCache.invalidate(Board.REPORT));
     }
 
     // 신고 답변 등록 (관리자용)
@@ -61,33 +72,61 @@ public class ReportService {
                 .orElseThrow(() -> new EntityNotFoundException("신고가 존재하지 않습니다. id=" + reportId));
         report.setAnswer(answer);
         report.setStatus(true); // 답변 시 자동으로 처리 완료
+        afterCommit(() -> boardPageCache.invalidate(Board.REPORT));
     }
 
     // 내가 신고한 목록 조회 (마이페이지용)
     public List<ReportDto> getReportsByReporter(Long reporterId) {
-        return reportRepository.findByUserUserId(reporterId).stream()
-                .map(ReportDto::fromEntity)
-                .toList();
+        return listReports(null, null, null, reporterId);
     }
 
     // 관리자용 전체 신고 목록 조회
     public List<ReportDto> getAllReports() {
-        return reportRepository.findAll().stream()
-                .map(ReportDto::fromEntity)
-                .toList();
+        return listReports(null, null, null, null);
+    }
+
+    /**
+     * 관리자 신고 커서 페이지 (최신순, cursorId 미만, 처리 상태/타입/대상 필터 선택)
+     * - 첫 페이지는 게시판 캐시에서 응답
+     */
+    public CursorPageDto<ReportDto> getReportCursorPage(Boolean status, ReportType reportType, Long refId,
+                                                        Long cursorId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_REPORT_PAGE_SIZE));
+        if (cursorId != null) {
+            return loadReportPage(status, reportType, refId, cursorId, pageSize);
+        }
+        return boardPageCache.get(Board.REPORT, status + ":" + reportType + ":" + refId + ":" + pageSize,
+                () -> loadReportPage(status, reportType, refId, null, pageSize));
+    }
+
+    private CursorPageDto<ReportDto> loadReportPage(Boolean status, ReportType reportType, Long refId,
+                                                    Long cursorId, int pageSize) {
+        List<ReportDto> rows = reportRepository.findReportRows(status, reportType, refId, null, cursorId,
+                PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<ReportDto> page = hasNext ? rows.subList(0, pageSize) : rows;
+        return CursorPageDto.<ReportDto>builder()
+                .content(page)
+                .hasNext(hasNext)
+                .nextCursorId(hasNext ? page.get(page.size() - 1).getReportId() : null)
+                .build();
+    }
+
+    // 전체 목록 (프로젝션, 기존 응답 순서인 등록순 유지)
+    private List<ReportDto> listReports(Boolean status, ReportType reportType, Long refId, Long userId) {
+        List<ReportDto> rows = new ArrayList<>(
+                reportRepository.findReportRows(status, reportType, refId, userId, null, Pageable.unpaged()));
+        Collections.reverse(rows);
+        return rows;
     }
 
     // 신고 타입별 조회
     public List<ReportDto> getReportsByType(ReportType reportType) {
-        return reportRepository.findByReportType(reportType).stream()
-                .map(ReportDto::fromEntity)
-                .toList();
+        return listReports(null, reportType, null, null);
     }
 
     // 처리 상태별 조회
     public List<ReportDto> getReportsByStatus(boolean status) {
-        return reportRepository.findByStatus(status).stream()
-                .map(ReportDto::fromEntity)
-                .toList();
+        return listReports(status, null, null, null);
     }
 }
\ No newline at end of file
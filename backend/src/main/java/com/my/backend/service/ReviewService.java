@@ -1,5 +1,6 @@
 package com.my.backend.service;
 
+import com.my.backend.dto.RatingSummaryDto;
 import com.my.backend.dto.ReviewDto;
 import com.my.backend.entity.Product;
 import com.my.backend.entity.Review;
@@ -13,6 +14,8 @@ import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static com.my.backend.util.TransactionHooks.afterCommit;
+
 @Service
 @RequiredArgsConstructor
 public class ReviewService {
@@ -20,6 +23,7 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final SellerRatingIndex sellerRatingIndex;
 
     // 리뷰 작성
     public ReviewDto createReview(ReviewDto dto) {
@@ -43,6 +47,8 @@ public class ReviewService {
         Product product = productRepository.findById(refId).orElse(null);
 
         Review saved = reviewRepository.save(review);
+        Integer rating = saved.getRating();
+        afterCommit(() -> sellerRatingIndex.add(targetUserId, rating));
         return ReviewDto.fromEntity(saved);
     }
 
@@ -58,16 +64,20 @@ public class ReviewService {
                 .collect(Collectors.toList());
     }
 
-    // 특정 유저 평균 평점
+    // 특정 유저 평균 평점 (메모리 집계)
     public double getAverageRating(Long userId) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("대상 유저 없음"));
+        return sellerRatingIndex.average(userId);
+    }
 
-        return reviewRepository.findByRefId(userId)
-                .stream()
-                .mapToInt(Review::getRating)
-                .average()
-                .orElse(0.0);
+    // 특정 유저 평점 요약 (리뷰 수, 평균, 평점별 개수)
+    public RatingSummaryDto getRatingSummary(Long userId) {
+        return sellerRatingIndex.summary(userId);
+    }
+
+    // 평점 집계 적재 (기동 시 + SellerRatingIndexScheduler 주기 교체)
+    public int loadRatingIndex() {
+        sellerRatingIndex.replaceAll(reviewRepository.findRatingCounts());
+        return sellerRatingIndex.size();
     }
 
     // productType 별 대상 유저 찾기
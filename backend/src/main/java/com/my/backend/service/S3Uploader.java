@@ -1,22 +1,46 @@
 package com.my.backend.service;
 
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.event.ProgressEventType;
 import com.amazonaws.services.s3.AmazonS3;
 
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.Upload;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+/**
+ * S3 업로드
+ *
+ * - 요청 파일을 임시 파일로 옮긴 뒤 TransferManager 로 전송 (임계값 이상은 멀티파트 + part 병렬 전송)
+ * - 전송 스레드 풀은 모든 요청이 공유 (AwsS3Config) → 동시 전송량 제한
+ * - 여러 파일은 동시에 전송 시작 후 모두 끝날 때까지 대기 (상품 이미지 세트, ProductService.uploadProductImages)
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3Uploader {
 
     private final AmazonS3 amazonS3;
+    private final TransferManager transferManager;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
@@ -29,7 +53,98 @@ public class S3Uploader {
     }
 
     public String upload(MultipartFile file, String dirName, String customFileName) throws IOException {
-        String fileName;
+        try {
+            return uploadAsync(file, dirName, customFileName).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : new RuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * 비동기 업로드: 임시 파일 저장까지만 호출 스레드에서 수행하고, 전송 완료 시 URL 로 완료
+     */
+    public CompletableFuture<String> uploadAsync(MultipartFile file, String dirName, String customFileName) throws IOException {
+        String fileName = buildKey(file, dirName, customFileName);
+
+        // 파일 소스여야 part 병렬 전송이 가능하므로 임시 파일로 이동 (대부분 같은 디스크 내 이동)
+        Path tempFile = Files.createTempFile("s3-upload-", ".tmp");
+        try {
+            file.transferTo(tempFile);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        // ObjectMetadata 설정
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(file.getContentType());
+
+        PutObjectRequest request = new PutObjectRequest(bucket, fileName, tempFile.toFile())
+                .withMetadata(metadata);
+        return transfer(request, tempFile);
+    }
+
+    /**
+     * 여러 파일 동시 업로드 (입력 순서대로 URL 반환)
+     * 하나라도 실패하면 이미 올라간 파일을 정리하고 실패로 완료
+     */
+    public CompletableFuture<List<String>> uploadAllAsync(List<MultipartFile> files, String dirName) throws IOException {
+        List<CompletableFuture<String>> uploads = new ArrayList<>(files.size());
+        try {
+            for (MultipartFile file : files) {
+                uploads.add(uploadAsync(file, dirName, null));
+            }
+        } catch (IOException | RuntimeException e) {
+            // 이미 시작된 전송은 끝나는 대로 정리
+            uploads.forEach(upload -> upload.thenAccept(this::deleteQuietly));
+            throw e;
+        }
+
+        return CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new))
+                .handle((ignored, error) -> {
+                    if (error == null) {
+                        return uploads.stream().map(CompletableFuture::join).toList();
+                    }
+                    uploads.stream()
+                            .filter(upload -> !upload.isCompletedExceptionally())
+                            .map(CompletableFuture::join)
+                            .forEach(this::deleteQuietly);
+                    throw error instanceof CompletionException ce ? ce : new CompletionException(error);
+                });
+    }
+
+    public void delete(String fileUrl) {
+        try {
+            amazonS3.deleteObject(bucket, keyOf(fileUrl));
+        } catch (Exception e) {
+            throw new RuntimeException("S3 파일 삭제 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 버킷 URL → 객체 키 (URL 인코딩 해제). 이 버킷의 URL 이 아니면 null
+     */
+    public String keyOf(String fileUrl) {
+        int index = fileUrl.indexOf(bucket);
+        if (index < 0) return null;
+        return URLDecoder.decode(fileUrl.substring(index + bucket.length() + 1), StandardCharsets.UTF_8);
+    }
+
+    // 원본 다운로드 (호출 측에서 close)
+    public InputStream download(String key) {
+        return amazonS3.getObject(bucket, key).getObjectContent();
+    }
+
+    // 서버에서 생성한 파일 업로드 (이미지 축소본 등)
+    public String putBytes(String key, byte[] bytes, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(bytes.length);
+        metadata.setContentType(contentType);
+        amazonS3.putObject(new PutObjectRequest(bucket, key, new ByteArrayInputStream(bytes), metadata));
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
+    private String buildKey(MultipartFile file, String dirName, String customFileName) {
         String envPrefix = (activeProfile != null && !activeProfile.isEmpty()) ? activeProfile + "_" : "local_";
 
         if (customFileName != null && !customFileName.isBlank()) {
@@ -39,38 +154,63 @@ public class S3Uploader {
             if (originalName != null && originalName.contains(".")) {
                 extension = originalName.substring(originalName.lastIndexOf("."));
             }
-            fileName = dirName + "/" + envPrefix + customFileName + extension;
-        } else {
-            fileName = dirName + "/" + envPrefix + UUID.randomUUID() + "_" + file.getOriginalFilename();
+            return dirName + "/" + envPrefix + customFileName + extension;
         }
+        return dirName + "/" + envPrefix + UUID.randomUUID() + "_" + file.getOriginalFilename();
+    }
 
-        // ObjectMetadata 설정 (스트림 버퍼 문제 해결)
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentLength(file.getSize());
-        metadata.setContentType(file.getContentType());
+    // 전송 완료/실패 이벤트 → CompletableFuture (임시 파일은 종료 시 삭제)
+    private CompletableFuture<String> transfer(PutObjectRequest request, Path tempFile) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        request.setGeneralProgressListener(event -> {
+            ProgressEventType type = event.getEventType();
+            if (type == ProgressEventType.TRANSFER_COMPLETED_EVENT) {
+                done.complete(null);
+            } else if (type == ProgressEventType.TRANSFER_FAILED_EVENT
+                    || type == ProgressEventType.TRANSFER_CANCELED_EVENT) {
+                done.completeExceptionally(new IllegalStateException(type.name()));
+            }
+        });
 
+        Upload upload;
         try {
-            // metadata 추가
-            amazonS3.putObject(new PutObjectRequest(
-                    bucket,
-                    fileName,
-                    file.getInputStream(),
-                    metadata
-            ));
-
-            String url = amazonS3.getUrl(bucket, fileName).toString();
-            return url;
-        } catch (Exception e) {
-            throw new RuntimeException("S3 업로드 실패: " + e.getMessage(), e);
+            upload = transferManager.upload(request);
+        } catch (RuntimeException e) {
+            deleteTempFile(tempFile);
+            return CompletableFuture.failedFuture(new RuntimeException("S3 업로드 실패: " + e.getMessage(), e));
         }
+
+        return done.handle((ignored, error) -> {
+            deleteTempFile(tempFile);
+            if (error != null) {
+                Throwable cause = error;
+                try {
+                    // 이미 종료된 전송이므로 즉시 반환
+                    AmazonClientException exception = upload.waitForException();
+                    if (exception != null) cause = exception;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new RuntimeException("S3 업로드 실패: " + cause.getMessage(), cause);
+            }
+            return amazonS3.getUrl(bucket, request.getKey()).toString();
+        });
     }
 
-    public void delete(String fileUrl) {
+    private void deleteTempFile(Path tempFile) {
         try {
-            String fileName = fileUrl.substring(fileUrl.indexOf(bucket) + bucket.length() + 1);
-            amazonS3.deleteObject(bucket, fileName);
-        } catch (Exception e) {
-            throw new RuntimeException("S3 파일 삭제 실패: " + e.getMessage(), e);
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            log.warn("임시 업로드 파일 삭제 실패: {}", tempFile);
+        }
+    }
+
+    // 업로드 실패 정리용 삭제 (실패해도 예외 없음)
+    public void deleteQuietly(String fileUrl) {
+        try {
+            delete(fileUrl);
+        } catch (RuntimeException e) {
+            log.warn("업로드 실패 정리 중 삭제 실패: {}", fileUrl);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,133 @@
+package com.my.backend.service;
+
+import com.my.backend.dto.RatingSummaryDto;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 판매자(리뷰 대상 유저)별 평점 집계 메모리 색인
+ *
+ * - 유저별 리뷰 수 / 평점 합 / 평점별(1~5) 개수를 유지 → 평균 평점 조회 시 리뷰를 읽지 않음
+ * - 평균이 기준 이상인 판매자 집합을 함께 유지 (인기 상품 조회용)
+ * - 기동 시 ReviewService 가 (대상 유저, 평점)별 개수로 적재하고, 리뷰 작성 커밋 후 반영
+ * - 주기적으로 DB 집계로 새 색인을 만들어 통째로 교체 → 다른 인스턴스에서 작성된 리뷰도 수렴
+ */
+@Component
+public class SellerRatingIndex {
+
+    public static final double TOP_RATED_MIN_AVERAGE = 4.5;
+
+    private static final int MIN_RATING = 1;
+    private static final int MAX_RATING = 5;
+
+    // 변경은 synchronized 메서드에서만, 조회는 복사본으로
+    private static class Aggregate {
+        private long count;
+        private long sum;
+        private final long[] histogram = new long[MAX_RATING - MIN_RATING + 1];
+
+        synchronized void add(int rating, long times) {
+            count += times;
+            sum += (long) rating * times;
+            histogram[rating - MIN_RATING] += times;
+        }
+
+        synchronized double average() {
+            return count == 0 ? 0.0 : (double) sum / count;
+        }
+
+        synchronized RatingSummaryDto toDto(Long userId) {
+            Map<Integer, Long> counts = new LinkedHashMap<>();
+            for (int rating = MAX_RATING; rating >= MIN_RATING; rating--) {
+                counts.put(rating, histogram[rating - MIN_RATING]);
+            }
+            return RatingSummaryDto.builder()
+                    .userId(userId)
+                    .reviewCount(count)
+                    .averageRating(average())
+                    .histogram(counts)
+                    .build();
+        }
+    }
+
+    // 집계 + 상위 판매자 집합을 한 번에 교체하기 위해 묶어서 보관
+    private record State(Map<Long, Aggregate> aggregates, Set<Long> topRatedUsers) {
+        static State empty() {
+            return new State(new ConcurrentHashMap<>(), ConcurrentHashMap.newKeySet());
+        }
+
+        void add(Long userId, int rating, long times) {
+            Aggregate aggregate = aggregates.computeIfAbsent(userId, id -> new Aggregate());
+            synchronized (aggregate) {
+                aggregate.add(rating, times);
+                if (aggregate.average() >= TOP_RATED_MIN_AVERAGE) {
+                    topRatedUsers.add(userId);
+                } else {
+                    topRatedUsers.remove(userId);
+                }
+            }
+        }
+    }
+
+    private volatile State state = State.empty();
+
+    /**
+     * 리뷰 평점 반영 (times: 같은 평점 리뷰 개수, 적재 시 사용)
+     */
+    public void add(Long userId, Integer rating, long times) {
+        if (userId == null || rating == null || times <= 0) return;
+        state.add(userId, clamp(rating), times);
+    }
+
+    public void add(Long userId, Integer rating) {
+        add(userId, rating, 1);
+    }
+
+    /**
+     * DB 집계 (대상 유저, 평점, 리뷰 수) 로 새 색인을 만든 뒤 교체
+     * 교체 전 조회는 기존 색인을 그대로 사용하며, 교체 중 반영된 리뷰는 다음 교체 때 DB 값으로 수렴합니다.
+     */
+    public void replaceAll(List<Object[]> ratingCounts) {
+        State next = State.empty();
+        for (Object[] row : ratingCounts) {
+            Long userId = (Long) row[0];
+            Integer rating = (Integer) row[1];
+            Long times = (Long) row[2];
+            if (userId == null || rating == null || times == null || times <= 0) continue;
+            next.add(userId, clamp(rating), times);
+        }
+        state = next;
+    }
+
+    public double average(Long userId) {
+        Aggregate aggregate = state.aggregates().get(userId);
+        return aggregate == null ? 0.0 : aggregate.average();
+    }
+
+    public RatingSummaryDto summary(Long userId) {
+        Aggregate aggregate = state.aggregates().get(userId);
+        return aggregate == null ? new Aggregate().toDto(userId) : aggregate.toDto(userId);
+    }
+
+    // 평균 평점이 기준 이상인 판매자
+    public Set<Long> topRatedUsers() {
+        return Set.copyOf(state.topRatedUsers());
+    }
+
+    public void clear() {
+        state = State.empty();
+    }
+
+    public int size() {
+        return state.aggregates().size();
+    }
+
+    private static int clamp(int rating) {
+        return Math.max(MIN_RATING, Math.min(MAX_RATING, rating));
+    }
+}
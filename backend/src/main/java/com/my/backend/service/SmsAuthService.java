@@ -2,30 +2,37 @@ package com.my.backend.service;
 
 import com.my.backend.dto.SmsVerificationResponse;
 import com.my.backend.entity.PhoneVerification;
+import com.my.backend.httpclient.OutboundHttpClient;
+import com.my.backend.httpclient.OutboundTarget;
+import com.my.backend.ratelimit.RateLimitService;
 import com.my.backend.repository.PhoneVerificationRepository;
 import com.my.backend.repository.UserRepository;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.*;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SmsAuthService {
 
     private final PhoneVerificationRepository phoneVerificationRepository;
     private final UserRepository usersRepository;
+    private final RateLimitService rateLimitService;
+    private final OutboundHttpClient outboundHttpClient;
 
     @Value("${solapi.api-key}") 
     private String apiKey;
@@ -36,19 +43,6 @@ public class SmsAuthService {
     @Value("${solapi.from-number}")
     private String fromNumber;
 
-    // 인메모리 캐시 (실제 서비스에서는 Redis 권장)
-    private Map<String, VerificationAttempt> attemptCache = new HashMap<>();
-
-    static class VerificationAttempt {
-        int count;
-        LocalDateTime firstAttemptTime;
-
-        VerificationAttempt() {
-            this.count = 1;
-            this.firstAttemptTime = LocalDateTime.now();
-        }
-    }
-
     /**
      * 6자리 랜덤 인증번호 생성
      */
@@ -145,35 +139,34 @@ public class SmsAuthService {
      * 실제 SMS 발송 로직
      */
     private boolean sendSms(String phone, String code) {
+        String date = Instant.now().toString();
+        String salt = UUID.randomUUID().toString().replace("-", "");
+        String message = date + salt;
+
         try {
-            String date = Instant.now().toString();
-            String salt = UUID.randomUUID().toString().replace("-", "");
-            String message = date + salt;
             String signature = generateSignature(message);
 
-            URL url = new URL("https://api.solapi.com/messages/v4/send");
-            HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-            conn.setRequestMethod("POST");
-            conn.setRequestProperty("Content-Type", "application/json");
-            conn.setRequestProperty("Authorization",
-                    String.format("HMAC-SHA256 apiKey=%s, date=%s, salt=%s, signature=%s",
-                            apiKey, date, salt, signature));
-            conn.setDoOutput(true);
-
-            String jsonBody = String.format(
-                    "{\"message\":{\"to\":\"%s\",\"from\":\"%s\",\"text\":\"[인증번호] %s\\n인증번호를 입력해주세요. (유효시간 3분)\"}}",
-                    phone, fromNumber, code
-            );
-
-            try (OutputStream os = conn.getOutputStream()) {
-                os.write(jsonBody.getBytes("UTF-8"));
-            }
-
-            int responseCode = conn.getResponseCode();
-            return responseCode == 200;
+            Map<String, Object> body = Map.of("message", Map.of(
+                    "to", phone,
+                    "from", fromNumber,
+                    "text", "[인증번호] " + code + "\n인증번호를 입력해주세요. (유효시간 3분)"
+            ));
+
+            // 공용 커넥션 풀 사용, 대기 시간은 SMS 대상 타임아웃/동시 호출 한도로 제한됨
+            return Boolean.TRUE.equals(outboundHttpClient.call(OutboundTarget.SMS, client -> client.post()
+                            .uri("https://api.solapi.com/messages/v4/send")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .header(HttpHeaders.AUTHORIZATION,
+                                    String.format("HMAC-SHA256 apiKey=%s, date=%s, salt=%s, signature=%s",
+                                            apiKey, date, salt, signature))
+                            .bodyValue(body)
+                            .retrieve()
+                            .toBodilessEntity()
+                            .map(response -> response.getStatusCode().value() == 200))
+                    .block());
 
         } catch (Exception e) {
-            e.printStackTrace();
+            log.warn("SMS 발송 실패: {}", e.getMessage());
             return false;
         }
     }
@@ -237,24 +230,9 @@ public class SmsAuthService {
      * 발송 제한 확인 (1시간에 5회)
      */
     private void checkSendLimit(String phone) {
-        VerificationAttempt attempt = attemptCache.get(phone);
-
-        if (attempt == null) {
-            attemptCache.put(phone, new VerificationAttempt());
-            return;
-        }
-
-        // 1시간 경과 시 초기화
-        if (attempt.firstAttemptTime.plusHours(1).isBefore(LocalDateTime.now())) {
-            attemptCache.put(phone, new VerificationAttempt());
-            return;
-        }
-
-        // 5회 초과 시 제한
-        if (attempt.count >= 5) {
+        // Redis 슬라이딩 윈도우 (인스턴스 간 공유)
+        if (!rateLimitService.tryAcquire("sms-phone", phone, 5, Duration.ofHours(1))) {
             throw new IllegalStateException("인증번호 발송 횟수를 초과했습니다. 1시간 후 다시 시도해주세요.");
         }
-
-        attempt.count++;
     }
-}
\ No newline at end of file
+}
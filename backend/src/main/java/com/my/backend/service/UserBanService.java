@@ -5,11 +5,9 @@ import com.my.backend.dto.BanRequestDto;
 import com.my.backend.dto.BanResponseDto;
 import com.my.backend.dto.BanStatusDto;
 import com.my.backend.dto.NotificationDto;
-import com.my.backend.entity.Notification;
 import com.my.backend.entity.UserBan;
 import com.my.backend.entity.Users;
 import com.my.backend.enums.NotificationStatus;
-import com.my.backend.repository.NotificationRepository;
 import com.my.backend.repository.UserRepository;
 import com.my.backend.repository.UserBanRepository;
 import com.my.backend.websocket.NotificationWebSocketHandler;
@@ -20,9 +18,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import static com.my.backend.util.TransactionHooks.afterCommit;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -31,7 +33,8 @@ public class UserBanService {
     private final UserBanRepository userBanRepository;
     private final UserRepository usersRepository;
     private final NotificationWebSocketHandler notificationWebSocketHandler;
-    private final NotificationRepository notificationRepository;
+    private final NotificationService notificationService;
+    private final BanRegistry banRegistry;
 
     private static final int DEFAULT_BAN_HOURS = 24; // 기본 24시간 제재
 
@@ -69,6 +72,8 @@ public class UserBanService {
                 .build();
 
         UserBan savedBan = userBanRepository.save(ban);
+        Long bannedUserId = user.getUserId();
+        afterCommit(() -> banRegistry.put(bannedUserId, banUntil, reason));
 
         log.info("유저 제재: userId={}, bannedBy={}, until={}",
                 user.getUserId(), admin.getUserId(), banUntil);
@@ -80,28 +85,12 @@ public class UserBanService {
     }
 
     /**
-     * 공개채팅 전송 가능 여부 확인
+     * 공개채팅 전송 가능 여부 확인 (메모리 레지스트리 조회, DB 접근 없음)
      */
-    @Transactional
     public BanStatusDto checkBanStatus(Long userId) {
-        var activeBan = userBanRepository.findActiveByUserId(userId);
-
-        if (activeBan.isEmpty()) {
-            return BanStatusDto.builder()
-                    .isBanned(false)
-                    .build();
-        }
-
-        UserBan ban = activeBan.get();
-
-        // 만료 확인 후 자동 해제
-        if (ban.isExpired()) {
-            ban.setActive(false);
-            userBanRepository.save(ban);
-
-            log.info("제재 자동 해제: userId={}, banId={}", userId, ban.getId());
-            sendBanLiftedNotification(userId);
+        BanRegistry.ActiveBan ban = banRegistry.find(userId);
 
+        if (ban == null) {
             return BanStatusDto.builder()
                     .isBanned(false)
                     .build();
@@ -118,6 +107,42 @@ public class UserBanService {
                 .build();
     }
 
+    /**
+     * 활성 제재를 레지스트리에 동기화 (기동 시 + BanExpiryScheduler)
+     * 한 유저에게 활성 제재가 여러 건이면 가장 늦게 끝나는 제재 기준
+     */
+    @Transactional(readOnly = true)
+    public int syncBanRegistry() {
+        // 조회 전 기준 번호: 이후 이 인스턴스에서 커밋된 제재/해제는 동기화가 덮어쓰지 않음
+        long snapshotVersion = banRegistry.version();
+        Map<Long, BanRegistry.ActiveBan> active = new HashMap<>();
+        for (UserBan ban : userBanRepository.findAllActiveBans()) {
+            active.merge(ban.getUser().getUserId(), new BanRegistry.ActiveBan(ban.getBanUntil(), ban.getReason()),
+                    (a, b) -> a.getBanUntil().isAfter(b.getBanUntil()) ? a : b);
+        }
+        banRegistry.replaceAll(active, snapshotVersion);
+        return active.size();
+    }
+
+    /**
+     * 만료된 제재 일괄 해제 (BanExpiryScheduler)
+     * 모든 인스턴스가 실행하므로 조건부 UPDATE 로 선점한 제재만 해제 알림 (커밋 후)
+     */
+    @Transactional
+    public void expireBans() {
+        List<UserBan> expired = userBanRepository.findExpiredBans(LocalDateTime.now());
+        for (UserBan ban : expired) {
+            if (userBanRepository.deactivateIfActive(ban.getId()) == 0) continue;
+            Long userId = ban.getUser().getUserId();
+            afterCommit(() -> {
+                banRegistry.remove(userId);
+                sendBanLiftedNotification(userId);
+            });
+
+            log.info("제재 자동 해제: userId={}, banId={}", userId, ban.getId());
+        }
+    }
+
     /**
      * 관리자가 수동으로 제재 해제
      */
@@ -126,17 +151,19 @@ public class UserBanService {
         UserBan ban = userBanRepository.findById(banId)
                 .orElseThrow(() -> new RuntimeException("제재 내역을 찾을 수 없습니다."));
 
-        if (!ban.isActive()) {
+        // 만료 처리와 동시에 해제되면 한 쪽만 성공
+        if (!ban.isActive() || userBanRepository.deactivateIfActive(banId) == 0) {
             throw new RuntimeException("이미 해제된 제재입니다.");
         }
 
-        ban.setActive(false);
-        userBanRepository.save(ban);
+        Long liftedUserId = ban.getUser().getUserId();
+        afterCommit(() -> {
+            banRegistry.remove(liftedUserId);
+            sendBanLiftedNotification(liftedUserId);
+        });
 
         log.info("제재 수동 해제: userId={}, banId={}, by={}",
-                ban.getUser().getUserId(), banId, adminId);
-
-        sendBanLiftedNotification(ban.getUser().getUserId());
+                liftedUserId, banId, adminId);
     }
 
     /**
@@ -173,27 +200,10 @@ public class UserBanService {
                 .build();
     }
 
-    // 경고 등록 시
+    // 경고 등록 시 (outbox 기록 → 디스패처가 저장/전송)
     private void sendBanNotification(Long userId, LocalDateTime banUntil, String reason) {
-        // 1️⃣ Notification DTO 생성 (WebSocket용)
-        NotificationDto notiDto = NotificationDto.builder()
-                .userId(userId)
-                .content(reason)
-                .build();
-
-        // 2️⃣ WebSocket으로 실시간 전송
-        notificationWebSocketHandler.sendNotificationToUser(userId, notiDto);
-
-        // 3️⃣ DB 저장용 Notification 엔티티 생성
-        Notification notification = Notification.builder()
-                .user(usersRepository.findById(userId).orElseThrow())
-                .content(reason)
-                .isRead(false)
-                .notificationStatus(NotificationStatus.NOTICE) // enum 맞게 설정
-                .build();
-
-        // 4️⃣ DB 저장
-        notificationRepository.save(notification);
+        notificationService.send(userId, NotificationStatus.NOTICE,
+                reason != null && !reason.isBlank() ? reason : "관리자에 의해 이용이 제한되었습니다.");
     }
 
     // 경고 해제 시
@@ -1,7 +1,10 @@
 package com.my.backend.service;
 
 import java.io.IOException;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.my.backend.websocket.PublicChatWebSocketHandler;
@@ -9,12 +12,16 @@ import com.my.backend.entity.Report;
 import com.my.backend.enums.ReportType;
 import com.my.backend.enums.Role;
 import com.my.backend.repository.ReportRepository;
+import com.my.backend.util.LikePatterns;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.my.backend.dto.CursorPageDto;
 import com.my.backend.dto.ImageDto;
 import com.my.backend.dto.UsersDto;
 import com.my.backend.entity.Address;
@@ -28,6 +35,8 @@ import com.my.backend.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
+import static com.my.backend.util.TransactionHooks.afterCommit;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
@@ -39,17 +48,56 @@ public class UserService {
     private final S3Uploader s3Uploader;
     private final ReportRepository reportRepository;
     private final PublicChatWebSocketHandler publicChatWebSocketHandler;
+    private final PublicChatHistory publicChatHistory;
+    private final BoardPageCache boardPageCache;
+
+    private static final int MAX_USER_PAGE_SIZE = 100;
 
     // 모든 유저 조회
+    // - 엔티티 대신 프로젝션 + 이미지 일괄 조회 (대량 조회는 getUserPage 사용)
     public List<UsersDto> getAllUsers() {
-        return userRepository.findAll()
+        List<UsersDto> users = userRepository.findUserPage(0L, Pageable.unpaged());
+        withUserImages(users);
+        return users;
+    }
+
+    /**
+     * 유저 목록 커서 페이지 (관리자용, userId 오름차순, cursorId 초과)
+     * - 필요한 컬럼만 프로젝션, 닉네임은 접두사 검색
+     * - 접두사 검색은 (nickName, userId) 오름차순, 다음 페이지는 cursorNickName + cursorId
+     */
+    public CursorPageDto<UsersDto> getUserPage(String nickNamePrefix, String cursorNickName, Long cursorId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_USER_PAGE_SIZE));
+        String prefix = LikePatterns.prefix(nickNamePrefix);
+        long cursor = cursorId != null ? cursorId : 0L;
+        // 접두사 검색은 (nickName, userId) 커서, 두 값이 모두 있어야 이어서 조회
+        String cursorKey = cursorId != null ? cursorNickName : null;
+        PageRequest pageable = PageRequest.of(0, pageSize + 1);
+
+        List<UsersDto> rows = prefix == null
+                ? userRepository.findUserPage(cursor, pageable)
+                : userRepository.findUserPageByNickNamePrefix(prefix, cursorKey, cursor, pageable);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<UsersDto> page = hasNext ? rows.subList(0, pageSize) : rows;
+        withUserImages(page);
+        return CursorPageDto.<UsersDto>builder()
+                .content(page)
+                .hasNext(hasNext)
+                .nextCursorKey(hasNext && prefix != null ? page.get(page.size() - 1).getNickName() : null)
+                .nextCursorId(hasNext ? page.get(page.size() - 1).getUserId() : null)
+                .build();
+    }
+
+    // 페이지 유저들의 프로필 이미지를 한 번에 조회하여 채움
+    private void withUserImages(List<UsersDto> users) {
+        if (users.isEmpty()) return;
+        Set<Long> userIds = users.stream().map(UsersDto::getUserId).collect(Collectors.toSet());
+        Map<Long, List<ImageDto>> images = imageRepository.findByImageTypeAndRefIdIn(ImageType.USER, userIds)
                 .stream()
-                .map(user -> {
-                    UsersDto dto = UsersDto.fromEntity(user);
-                    dto.setImages(getUserImages(user.getUserId()));
-                    return dto;
-                })
-                .collect(Collectors.toList());
+                .collect(Collectors.groupingBy(Image::getRefId,
+                        Collectors.mapping(ImageDto::fromEntity, Collectors.toList())));
+        users.forEach(user -> user.setImages(images.getOrDefault(user.getUserId(), List.of())));
     }
 
     // 단일 유저 조회
@@ -263,13 +311,8 @@ public class UserService {
         List<Image> existingImages = imageRepository.findByRefIdAndImageType(userId, ImageType.USER);
         if (!existingImages.isEmpty()) {
             Image existingImage = existingImages.get(0);
-            // S3에서 삭제
-            try {
-                s3Uploader.delete(existingImage.getImagePath());
-            } catch (Exception e) {
-                // S3 삭제 실패해도 DB는 삭제
-                System.err.println("S3 이미지 삭제 실패: " + e.getMessage());
-            }
+            // S3에서 삭제 (원본 + 축소본), 실패해도 DB는 삭제
+            deleteImageFiles(existingImage);
             imageRepository.delete(existingImage);
         }
 
@@ -289,6 +332,21 @@ public class UserService {
         return imageUrl;
     }
 
+    // 원본과 축소본 S3 파일 삭제 (축소본이 원본 URL 인 경우 중복 삭제하지 않음)
+    private void deleteImageFiles(Image image) {
+        Set<String> urls = new LinkedHashSet<>();
+        urls.add(image.getImagePath());
+        if (image.getThumbnailPath() != null) urls.add(image.getThumbnailPath());
+        if (image.getMediumPath() != null) urls.add(image.getMediumPath());
+        for (String url : urls) {
+            try {
+                s3Uploader.delete(url);
+            } catch (Exception e) {
+                System.err.println("S3 이미지 삭제 실패: " + e.getMessage());
+            }
+        }
+    }
+
     // 프로필 이미지 목록 조회 (List<ImageDto>)
     private List<ImageDto> getUserImages(Long userId) {
         return imageRepository.findByRefIdAndImageType(userId, ImageType.USER)
@@ -307,12 +365,8 @@ public class UserService {
         List<Image> existingImages = imageRepository.findByRefIdAndImageType(userId, ImageType.USER);
         if (!existingImages.isEmpty()) {
             Image existingImage = existingImages.get(0);
-            // S3에서 삭제
-            try {
-                s3Uploader.delete(existingImage.getImagePath());
-            } catch (Exception e) {
-                System.err.println("S3 이미지 삭제 실패: " + e.getMessage());
-            }
+            // S3에서 삭제 (원본 + 축소본)
+            deleteImageFiles(existingImage);
             imageRepository.delete(existingImage);
         }
     }
@@ -335,6 +389,10 @@ public class UserService {
                 .user(userRepository.findById(adminId).orElse(null))
                 .build();
         reportRepository.save(report);
+        afterCommit(() -> boardPageCache.invalidate(BoardPageCache.Board.REPORT));
+
+        // 최근 공개 채팅 버퍼의 메시지도 가림 처리 (롤백되면 가리지 않도록 커밋 후)
+        afterCommit(() -> publicChatHistory.maskUser(userId));
 
         // 기존 WebSocketHandler 이용해서 메시지 보내기
         publicChatWebSocketHandler.sendMessageToUser(userId, "관리자에 의해 밴 처리되었습니다."); // sendMessageToUser는 핸들러에 직접 만들어야 함
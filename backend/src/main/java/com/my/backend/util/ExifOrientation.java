@@ -0,0 +1,126 @@
+package com.my.backend.util;
+
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * JPEG EXIF 방향(Orientation, 0x0112) 읽기/적용
+ *
+ * 휴대폰 사진은 픽셀을 회전하지 않고 EXIF 방향값만 기록하는 경우가 많아,
+ * 축소본을 새로 인코딩하면(EXIF 없음) 옆으로 누운 이미지가 됩니다.
+ *
+ * 예시:
+ * - read(세로로 찍은 사진) → 6 (시계 방향 90도 회전 필요)
+ * - read(PNG 또는 EXIF 없음) → 1
+ */
+public class ExifOrientation {
+
+    public static final int NORMAL = 1;
+    private static final int TAG_ORIENTATION = 0x0112;
+
+    private ExifOrientation() {
+    }
+
+    /**
+     * JPEG 바이트에서 방향값 (1~8, 없거나 읽을 수 없으면 1)
+     */
+    public static int read(byte[] jpeg) {
+        if (jpeg == null || jpeg.length < 4 || u8(jpeg, 0) != 0xFF || u8(jpeg, 1) != 0xD8) return NORMAL;
+
+        int pos = 2;
+        while (pos + 4 <= jpeg.length) {
+            if (u8(jpeg, pos) != 0xFF) return NORMAL;
+            int marker = u8(jpeg, pos + 1);
+            if (marker == 0xFF) { // 채움 바이트
+                pos++;
+                continue;
+            }
+            if (marker == 0xD9 || marker == 0xDA) return NORMAL; // EOI / 이미지 데이터 시작
+
+            int length = u16(jpeg, pos + 2, false);
+            int end = pos + 2 + length;
+            if (length < 2 || end > jpeg.length) return NORMAL;
+            if (marker == 0xE1 && isExifHeader(jpeg, pos + 4, end)) {
+                return readTiffOrientation(jpeg, pos + 10, end);
+            }
+            pos = end;
+        }
+        return NORMAL;
+    }
+
+    /**
+     * 방향값에 맞게 회전/반전한 이미지 (1이면 원본 그대로)
+     */
+    public static BufferedImage apply(BufferedImage source, int orientation) {
+        if (orientation <= NORMAL || orientation > 8) return source;
+
+        int w = source.getWidth();
+        int h = source.getHeight();
+        boolean swap = orientation >= 5;
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);  // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h); // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);  // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);   // 전치
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);  // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w); // 역전치
+            default -> new AffineTransform(0, -1, 1, 0, 0, w); // 반시계 방향 90도
+        };
+
+        BufferedImage oriented = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = oriented.createGraphics();
+        try {
+            g.drawImage(source, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return oriented;
+    }
+
+    // "Exif\0\0"
+    private static boolean isExifHeader(byte[] b, int pos, int end) {
+        return pos + 6 <= end
+                && b[pos] == 'E' && b[pos + 1] == 'x' && b[pos + 2] == 'i' && b[pos + 3] == 'f'
+                && b[pos + 4] == 0 && b[pos + 5] == 0;
+    }
+
+    // TIFF 헤더(II/MM) → IFD0 에서 방향 태그 검색
+    private static int readTiffOrientation(byte[] b, int start, int end) {
+        if (start + 8 > end) return NORMAL;
+        boolean little;
+        if (b[start] == 'I' && b[start + 1] == 'I') little = true;
+        else if (b[start] == 'M' && b[start + 1] == 'M') little = false;
+        else return NORMAL;
+
+        long offset = u32(b, start + 4, little);
+        if (offset < 8 || start + offset + 2 > end) return NORMAL;
+        int ifd = (int) (start + offset);
+        int count = u16(b, ifd, little);
+        for (int i = 0; i < count; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) return NORMAL;
+            if (u16(b, entry, little) == TAG_ORIENTATION) {
+                int value = u16(b, entry + 8, little);
+                return value >= 1 && value <= 8 ? value : NORMAL;
+            }
+        }
+        return NORMAL;
+    }
+
+    private static int u8(byte[] b, int pos) {
+        return b[pos] & 0xFF;
+    }
+
+    private static int u16(byte[] b, int pos, boolean little) {
+        return little
+                ? u8(b, pos) | (u8(b, pos + 1) << 8)
+                : (u8(b, pos) << 8) | u8(b, pos + 1);
+    }
+
+    private static long u32(byte[] b, int pos, boolean little) {
+        return little
+                ? (long) u16(b, pos, true) | ((long) u16(b, pos + 2, true) << 16)
+                : ((long) u16(b, pos, false) << 16) | u16(b, pos + 2, false);
+    }
+}
@@ -0,0 +1,42 @@
+package com.my.backend.util;
+
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * MySQL ngram FULLTEXT 검색식 생성 (ngram_token_size = 2 기준)
+ *
+ * 한글은 형태소 분석 없이도 부분 문자열 검색이 되도록 ngram 파서 색인을 사용합니다.
+ * 단어마다 필수 구문(+"...")으로 만들어 단어 내부의 bigram 이 연속으로 일치해야 후보가 됩니다.
+ *
+ * 예시:
+ * - booleanQuery("니트 원피스") → +"니트" +"원피스"
+ * - booleanQuery("니") → null (토큰보다 짧은 단어는 FULLTEXT 로 찾을 수 없음 → LIKE 검색)
+ */
+public class FulltextQueries {
+
+    public static final int TOKEN_SIZE = 2;
+
+    private FulltextQueries() {
+    }
+
+    /**
+     * BOOLEAN MODE 검색식 (검색할 단어가 없거나 토큰보다 짧은 단어가 있으면 null)
+     * 최종 일치 여부는 원문 contains 로 확인합니다.
+     */
+    public static String booleanQuery(String keyword) {
+        StringJoiner query = new StringJoiner(" ");
+        for (String word : normalize(keyword).split("\\s+")) {
+            if (word.isEmpty()) continue;
+            // 구문 안에서는 따옴표만 특수문자
+            String phrase = word.replace("\"", "");
+            if (phrase.length() < TOKEN_SIZE) return null;
+            query.add("+\"" + phrase + "\"");
+        }
+        return query.length() == 0 ? null : query.toString();
+    }
+
+    public static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT).trim();
+    }
+}
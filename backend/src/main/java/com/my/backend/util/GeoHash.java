@@ -0,0 +1,170 @@
+package com.my.backend.util;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Geohash 인코딩/디코딩
+ *
+ * 위도/경도를 번갈아 이분하여 base32 문자열로 표현합니다.
+ * 같은 접두사를 공유하는 좌표는 같은 격자 안에 있으므로 캐시 키/공간 버킷으로 사용합니다.
+ *
+ * 정밀도별 격자 크기 (적도 기준, 대략):
+ * - 5 → 4.9km x 4.9km
+ * - 6 → 1.2km x 0.6km
+ * - 7 → 153m x 153m
+ * - 8 → 38m x 19m
+ */
+public class GeoHash {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final int[] DECODE = new int[128];
+
+    static {
+        Arrays.fill(DECODE, -1);
+        for (int i = 0; i < BASE32.length; i++) {
+            DECODE[BASE32[i]] = i;
+        }
+    }
+
+    private GeoHash() {
+    }
+
+    /**
+     * 좌표 → geohash (precision 자리)
+     */
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+        StringBuilder sb = new StringBuilder(precision);
+        boolean evenBit = true; // 짝수 비트는 경도
+        int bit = 0, ch = 0;
+
+        while (sb.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLon = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                sb.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * geohash 격자 범위 [minLat, maxLat, minLon, maxLon]
+     */
+    public static double[] bounds(String geohash) {
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+        boolean evenBit = true;
+
+        for (int i = 0; i < geohash.length(); i++) {
+            char c = geohash.charAt(i);
+            int value = c < DECODE.length ? DECODE[c] : -1;
+            if (value < 0) {
+                throw new IllegalArgumentException("잘못된 geohash: " + geohash);
+            }
+            for (int mask = 16; mask > 0; mask >>= 1) {
+                if (evenBit) {
+                    double mid = (minLon + maxLon) / 2;
+                    if ((value & mask) != 0) minLon = mid;
+                    else maxLon = mid;
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if ((value & mask) != 0) minLat = mid;
+                    else maxLat = mid;
+                }
+                evenBit = !evenBit;
+            }
+        }
+        return new double[]{minLat, maxLat, minLon, maxLon};
+    }
+
+    /**
+     * geohash 격자 중심 좌표 [lat, lon]
+     */
+    public static double[] center(String geohash) {
+        double[] b = bounds(geohash);
+        return new double[]{(b[0] + b[1]) / 2, (b[2] + b[3]) / 2};
+    }
+
+    /**
+     * 정밀도별 격자 높이 (위도, 도)
+     */
+    public static double cellHeight(int precision) {
+        int latBits = (5 * precision) / 2;
+        return 180.0 / (1L << latBits);
+    }
+
+    /**
+     * 정밀도별 격자 너비 (경도, 도)
+     */
+    public static double cellWidth(int precision) {
+        int lonBits = (5 * precision + 1) / 2;
+        return 360.0 / (1L << lonBits);
+    }
+
+    /**
+     * 범위(bounding box)와 겹치는 모든 격자
+     *
+     * 격자 크기 이하 간격으로 양 끝을 포함해 표본을 찍으므로 범위와 겹치는 격자를 빠짐없이 포함합니다.
+     * 유한하지 않은 값(NaN/Infinity)은 순회가 끝나지 않으므로 거부합니다.
+     */
+    public static Set<String> covering(double minLat, double maxLat, double minLon, double maxLon, int precision) {
+        if (!Double.isFinite(minLat) || !Double.isFinite(maxLat)
+                || !Double.isFinite(minLon) || !Double.isFinite(maxLon)) {
+            throw new IllegalArgumentException("잘못된 범위: " + minLat + ", " + maxLat + ", " + minLon + ", " + maxLon);
+        }
+        minLat = Math.max(-90, minLat);
+        maxLat = Math.min(90, maxLat);
+        minLon = Math.max(-180, minLon);
+        maxLon = Math.min(180, maxLon);
+
+        double height = cellHeight(precision);
+        double width = cellWidth(precision);
+        Set<String> cells = new LinkedHashSet<>();
+        for (double lat = minLat; ; lat = Math.min(lat + height, maxLat)) {
+            for (double lon = minLon; ; lon = Math.min(lon + width, maxLon)) {
+                cells.add(encode(lat, lon, precision));
+                if (lon >= maxLon) break;
+            }
+            if (lat >= maxLat) break;
+        }
+        return cells;
+    }
+
+    /**
+     * 두 좌표 사이 거리 (km, haversine)
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,35 @@
+package com.my.backend.util;
+
+/**
+ * JPQL LIKE 패턴 생성 (escape '!' 와 함께 사용)
+ *
+ * 사용자 입력의 %, _ 를 문자 그대로 취급합니다.
+ */
+public class LikePatterns {
+
+    public static final char ESCAPE = '!';
+
+    private LikePatterns() {
+    }
+
+    // 접두사 일치 패턴 (공백이면 null → 검색 조건 없음)
+    public static String prefix(String keyword) {
+        if (keyword == null || keyword.isBlank()) return null;
+        return escape(keyword.trim()) + "%";
+    }
+
+    // 부분 일치 패턴 (공백이면 null)
+    public static String contains(String keyword) {
+        if (keyword == null || keyword.isBlank()) return null;
+        return "%" + escape(keyword.trim()) + "%";
+    }
+
+    public static String escape(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 4);
+        for (char c : value.toCharArray()) {
+            if (c == ESCAPE || c == '%' || c == '_') sb.append(ESCAPE);
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,82 @@
+package com.my.backend.util;
+
+import com.google.zxing.common.BitMatrix;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * BitMatrix → 1비트 흑백 PNG 직접 인코딩
+ *
+ * AWT BufferedImage / ImageIO 를 거치지 않고 IHDR(grayscale, bit depth 1) + IDAT + IEND 만 기록합니다.
+ * 픽셀 값 1 = 흰색, 0 = 검정 (BitMatrix 의 true 는 검정)
+ */
+public class MonochromePngWriter {
+
+    private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    private MonochromePngWriter() {
+    }
+
+    public static byte[] write(BitMatrix matrix) throws IOException {
+        int width = matrix.getWidth();
+        int height = matrix.getHeight();
+        int rowBytes = (width + 7) / 8;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256 + rowBytes * height / 8);
+        out.write(SIGNATURE);
+
+        // IHDR: width, height, bit depth 1, color type 0 (grayscale), deflate, 기본 필터, 인터레이스 없음
+        ByteArrayOutputStream header = new ByteArrayOutputStream(13);
+        DataOutputStream headerData = new DataOutputStream(header);
+        headerData.writeInt(width);
+        headerData.writeInt(height);
+        headerData.writeByte(1);
+        headerData.writeByte(0);
+        headerData.writeByte(0);
+        headerData.writeByte(0);
+        headerData.writeByte(0);
+        writeChunk(out, "IHDR", header.toByteArray());
+
+        // IDAT: 행마다 필터 바이트(0) + 8픽셀/바이트
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(compressed, deflater)) {
+            byte[] row = new byte[rowBytes + 1];
+            for (int y = 0; y < height; y++) {
+                Arrays.fill(row, (byte) 0);
+                for (int x = 0; x < width; x++) {
+                    if (!matrix.get(x, y)) {
+                        row[1 + (x >> 3)] |= (byte) (0x80 >>> (x & 7));
+                    }
+                }
+                deflate.write(row);
+            }
+        } finally {
+            deflater.end();
+        }
+        writeChunk(out, "IDAT", compressed.toByteArray());
+        writeChunk(out, "IEND", new byte[0]);
+
+        return out.toByteArray();
+    }
+
+    private static void writeChunk(ByteArrayOutputStream out, String type, byte[] data) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data);
+
+        DataOutputStream chunk = new DataOutputStream(out);
+        chunk.writeInt(data.length);
+        chunk.write(typeBytes);
+        chunk.write(data);
+        chunk.writeInt((int) crc.getValue());
+    }
+}
@@ -1,6 +1,7 @@
 package com.my.backend.websocket;
 
 import com.my.backend.dto.NotificationDto;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.*;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
@@ -9,6 +10,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
+@Slf4j
 @Component
 public class NotificationWebSocketHandler extends TextWebSocketHandler {
 
@@ -45,27 +47,21 @@ public class NotificationWebSocketHandler extends TextWebSocketHandler {
 
     // 특정 사용자에게만 보내기
     public void sendNotificationToUser(Long userId, NotificationDto noti) {
-        System.out.println("📢 [알림] 전송 시도: userId=" + userId + ", 내용=" + noti.getContent());
-
         TextMessage msg = new TextMessage(noti.toJson());
+        int sentCount = 0;
         synchronized (sessions) {
-            int sentCount = 0;
             for (WebSocketSession session : sessions) {
                 try {
                     Long sessionUserId = (Long) session.getAttributes().get("userId");
-                    System.out.println("  - 세션 체크: sessionId=" + session.getId() + ", userId=" + sessionUserId);
-
-                    if (session.isOpen() && sessionUserId != null && sessionUserId.equals(userId)) {
+                    if (session.isOpen() && userId.equals(sessionUserId)) {
                         session.sendMessage(msg);
                         sentCount++;
-                        System.out.println("  ✅ 알림 전송 성공!");
                     }
                 } catch (Exception e) {
-                    System.err.println("  ❌ 알림 전송 실패: " + e.getMessage());
-                    e.printStackTrace();
+                    log.warn("알림 전송 실패: sessionId={}, {}", session.getId(), e.getMessage());
                 }
             }
-            System.out.println("📊 총 " + sentCount + "개 세션에 알림 전송됨");
         }
+        log.debug("알림 전송: userId={}, sessions={}", userId, sentCount);
     }
-}
\ No newline at end of file
+}
@@ -3,48 +3,52 @@ package com.my.backend.websocket;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.my.backend.dto.PublicChatDto;
 import com.my.backend.service.ChattingService;
+import com.my.backend.service.PublicChatHistory;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.*;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class PublicChatWebSocketHandler extends TextWebSocketHandler {
 
+    private static final int SEND_TIME_LIMIT_MS = 5000;
+    private static final int SEND_BUFFER_LIMIT = 512 * 1024;
+    private static final String NICKNAME_ATTR = "nickName";
+
     private final ChattingService chatService;
 
     private final ObjectMapper objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule())
             .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
-    // 세션 관리: 모든 접속자
-    private final List<WebSocketSession> sessions = Collections.synchronizedList(new ArrayList<>());
+    // 세션 관리: 모든 접속자 (copy-on-write 스냅샷 순회, 전송은 세션별 decorator 가 직렬화)
+    private final List<WebSocketSession> sessions = new CopyOnWriteArrayList<>();
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
         Object userIdAttr = session.getAttributes().get("userId");
-        System.out.println("[공개채팅] 연결됨, 세션ID=" + session.getId() + ", userId=" + userIdAttr);
-
         if (userIdAttr == null) {
-            System.err.println("[공개채팅] userId 없음, 연결 종료, 세션ID=" + session.getId());
+            log.warn("[공개채팅] userId 없음, 연결 종료, 세션ID={}", session.getId());
             session.close(CloseStatus.BAD_DATA);
             return;
         }
 
-        sessions.add(session);
-        System.out.println("[공개채팅] 현재 접속 세션 수: " + sessions.size());
+        sessions.add(new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS, SEND_BUFFER_LIMIT));
+        log.debug("[공개채팅] 연결됨, 세션ID={}, userId={}, 접속 세션 수={}", session.getId(), userIdAttr, sessions.size());
     }
 
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws IOException {
-        System.out.println("[공개채팅] 수신 메시지: " + message.getPayload() + ", 세션ID=" + session.getId());
-
         Map<String, Object> map = objectMapper.readValue(message.getPayload(), Map.class);
         String content = (String) map.get("content");
         Long userId = null;
@@ -52,11 +56,10 @@ public class PublicChatWebSocketHandler extends TextWebSocketHandler {
         try {
             if (map.get("userId") != null) userId = Long.valueOf(map.get("userId").toString());
         } catch (Exception e) {
-            System.err.println("[공개채팅] userId 형식 오류: " + map.get("userId"));
+            log.warn("[공개채팅] userId 형식 오류: {}", map.get("userId"));
         }
 
         if (userId == null || content == null || content.trim().isEmpty()) {
-            System.err.println("[공개채팅] userId 또는 내용 누락, 메시지 무시, 세션ID=" + session.getId());
             return;
         }
 
@@ -68,62 +71,59 @@ public class PublicChatWebSocketHandler extends TextWebSocketHandler {
             return;
         }
 
-        // 공개채팅 저장
-        PublicChatDto saved = chatService.savePublicChat(userId, PublicChatDto.builder()
-                .content(content)
-                .build()
-        );
-
-        // 브로드캐스트용 JSON 생성
-        Map<String, Object> jsonMap = new HashMap<>();
-        jsonMap.put("type", "PUBLIC");
-        jsonMap.put("userId", saved.getUserId());
-        jsonMap.put("content", saved.getContent());
-        jsonMap.put("nickName", saved.getNickName());
+        // 버퍼 반영 + 비동기 저장 (닉네임은 세션에 캐시)
+        PublicChatHistory.Entry published = chatService.publishPublicChat(userId, cachedNickName(session, userId), content);
+        if (published == null) {
+            // 저장 대기열 초과 (DB 저장 지연) → 발신자에게만 알리고 버림
+            sendMessageToUser(userId, "메시지가 많아 전송하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+            return;
+        }
+        session.getAttributes().put(NICKNAME_ATTR, published.dto().getNickName());
 
-        String json = objectMapper.writeValueAsString(jsonMap);
+        // 모든 접속자에게 브로드캐스트 (버퍼에 저장된 프레임 재사용, publicChatId/createdAt 포함)
+        broadcastToAll(new TextMessage(published.frame()));
+    }
 
-        // 모든 접속자에게 브로드캐스트
-        broadcastToAll(json);
+    // 세션 소유자와 발신자가 같을 때만 캐시된 닉네임 사용
+    private String cachedNickName(WebSocketSession session, Long userId) {
+        Object sessionUserId = session.getAttributes().get("userId");
+        if (sessionUserId != null && userId.equals(Long.valueOf(sessionUserId.toString()))) {
+            return (String) session.getAttributes().get(NICKNAME_ATTR);
+        }
+        return null;
     }
 
-    private void broadcastToAll(String message) throws IOException {
-        synchronized (sessions) {
-            Iterator<WebSocketSession> iter = sessions.iterator();
-            while (iter.hasNext()) {
-                WebSocketSession s = iter.next();
-                if (s.isOpen()) {
-                    System.out.println("[공개채팅] 메시지 전송, 세션ID=" + s.getId());
-                    s.sendMessage(new TextMessage(message));
-                } else {
-                    System.out.println("[공개채팅] 닫힌 세션 제거, 세션ID=" + s.getId());
-                    iter.remove();
-                }
+    private void broadcastToAll(TextMessage message) {
+        for (WebSocketSession s : sessions) {
+            if (!s.isOpen()) {
+                sessions.remove(s);
+                continue;
+            }
+            try {
+                s.sendMessage(message);
+            } catch (Exception e) {
+                log.warn("[공개채팅] 전송 실패, 세션ID={}: {}", s.getId(), e.getMessage());
             }
         }
     }
 
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
-        sessions.remove(session);
-        System.out.println("[공개채팅] 연결 종료, 세션ID=" + session.getId() + ", 상태: " + status);
-        System.out.println("[공개채팅] 현재 접속 세션 수: " + sessions.size());
+        sessions.removeIf(s -> s.getId().equals(session.getId()));
+        log.debug("[공개채팅] 연결 종료, 세션ID={}, 상태={}, 접속 세션 수={}", session.getId(), status, sessions.size());
     }
 
 
     public void sendMessageToUser(Long userId, String message) {
-        synchronized (sessions) {
-            for (WebSocketSession s : sessions) {
-                Object sessionUserId = s.getAttributes().get("userId");
-                if (sessionUserId != null && userId.equals(Long.valueOf(sessionUserId.toString())) && s.isOpen()) {
-                    try {
-                        s.sendMessage(new TextMessage(message));
-                        System.out.println("[공개채팅] 밴 알림 전송, userId=" + userId);
-                    } catch (IOException e) {
-                        e.printStackTrace();
-                    }
-                    break; // userId는 하나뿐이므로 전송 후 종료
+        for (WebSocketSession s : sessions) {
+            Object sessionUserId = s.getAttributes().get("userId");
+            if (sessionUserId != null && userId.equals(Long.valueOf(sessionUserId.toString())) && s.isOpen()) {
+                try {
+                    s.sendMessage(new TextMessage(message));
+                } catch (IOException e) {
+                    log.warn("[공개채팅] 사용자 전송 실패, userId={}: {}", userId, e.getMessage());
                 }
+                break; // userId는 하나뿐이므로 전송 후 종료
             }
         }
     }
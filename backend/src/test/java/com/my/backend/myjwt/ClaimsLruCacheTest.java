@@ -0,0 +1,52 @@
+package com.my.backend.myjwt;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClaimsLruCacheTest {
+
+    @Test
+    void 가득_차면_가장_오래_쓰지_않은_항목을_내보냄() {
+        ClaimsLruCache<Integer, String> cache = new ClaimsLruCache<>(3, 1);
+        cache.put(1, "a", Long.MAX_VALUE);
+        cache.put(2, "b", Long.MAX_VALUE);
+        cache.put(3, "c", Long.MAX_VALUE);
+        cache.get(1, 0);
+
+        cache.put(4, "d", Long.MAX_VALUE);
+
+        assertThat(cache.get(2, 0)).isNull();
+        assertThat(cache.get(1, 0)).isEqualTo("a");
+        assertThat(cache.get(4, 0)).isEqualTo("d");
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void 대량_유입_후에도_크기는_제한되고_새_항목은_캐시됨() {
+        ClaimsLruCache<Integer, String> cache = new ClaimsLruCache<>(1000, 16);
+
+        for (int i = 0; i < 100_000; i++) {
+            cache.put(i, "v" + i, Long.MAX_VALUE);
+        }
+
+        // stripe 마다 올림한 용량 → 최대 maxSize + stripe 수
+        assertThat(cache.size()).isLessThanOrEqualTo(1000 + 16);
+        assertThat(cache.get(99_999, 0)).isEqualTo("v99999");
+    }
+
+    @Test
+    void 유효기간이_지난_항목은_조회되지_않고_정리됨() {
+        ClaimsLruCache<Integer, String> cache = new ClaimsLruCache<>(10, 4);
+        cache.put(1, "a", 100);
+        cache.put(2, "b", 200);
+
+        assertThat(cache.get(1, 99)).isEqualTo("a");
+        assertThat(cache.get(1, 100)).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+
+        assertThat(cache.evictExpired(200)).isEqualTo(1);
+        assertThat(cache.size()).isZero();
+    }
+}
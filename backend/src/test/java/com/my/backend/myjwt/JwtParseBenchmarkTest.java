@@ -0,0 +1,49 @@
+package com.my.backend.myjwt;
+
+import com.my.backend.enums.Role;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * JWTFilter 요청당 토큰 처리 비용 비교 (./gradlew benchmark, 기본 test 에서는 제외)
+ *
+ * - 이전 방식: isExpired/getUserId/getEmail/getRole 마다 파싱 + 서명 검증 (4회)
+ * - 캐시 미스: 1회 파싱
+ * - 캐시 히트: 토큰 해시 + LRU 조회
+ */
+@Tag("benchmark")
+class JwtParseBenchmarkTest {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    private static volatile Object sink;
+
+    @Test
+    void 요청당_토큰_처리_비용() {
+        JWTUtil uncached = new JWTUtil(SECRET, 0, 300);
+        JWTUtil cached = new JWTUtil(SECRET, 10_000, 300);
+        String token = cached.createJwt(12345L, "user@example.com", Role.USER, "nick", null, 3_600_000L);
+
+        Runnable fourParses = () -> {
+            sink = uncached.isExpired(token);
+            sink = uncached.getUserId(token);
+            sink = uncached.getEmail(token);
+            sink = uncached.getRole(token);
+        };
+        Runnable singleParse = () -> sink = uncached.parseClaims(token);
+        Runnable cacheHit = () -> sink = cached.parseClaims(token);
+
+        System.out.printf("4회 파싱(이전)  : %,d ns/req%n", measure(fourParses));
+        System.out.printf("1회 파싱(미스)  : %,d ns/req%n", measure(singleParse));
+        System.out.printf("캐시 히트       : %,d ns/req%n", measure(cacheHit));
+    }
+
+    private static long measure(Runnable task) {
+        for (int i = 0; i < WARMUP; i++) task.run();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) task.run();
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+}
@@ -0,0 +1,88 @@
+package com.my.backend.myjwt;
+
+import com.my.backend.config.JwtProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class PublicRouteMatcherTest {
+
+    private static PublicRouteMatcher matcher(String... patterns) {
+        JwtProperties properties = new JwtProperties();
+        properties.setPublicRoutes(List.of(patterns));
+        return new PublicRouteMatcher(properties);
+    }
+
+    @Test
+    void 디렉터리_접두사_규칙() {
+        PublicRouteMatcher matcher = matcher("/api/articles/**");
+
+        assertThat(matcher.match("/api/articles/")).isZero();
+        assertThat(matcher.match("/api/articles/1/comments")).isZero();
+        assertThat(matcher.match("/api/articles")).isEqualTo(-1);
+        assertThat(matcher.match("/api/articlesx")).isEqualTo(-1);
+    }
+
+    @Test
+    void 문자열_접두사_규칙() {
+        PublicRouteMatcher matcher = matcher("/api/autocomplete**");
+
+        assertThat(matcher.match("/api/autocomplete")).isZero();
+        assertThat(matcher.match("/api/autocomplete/popular")).isZero();
+        assertThat(matcher.match("/api/autocompletes")).isZero();
+        assertThat(matcher.match("/api/auto")).isEqualTo(-1);
+    }
+
+    @Test
+    void 정확히_일치하는_규칙() {
+        PublicRouteMatcher matcher = matcher("/api/auth/signup", "/api/auth/login");
+
+        assertThat(matcher.match("/api/auth/signup")).isZero();
+        assertThat(matcher.match("/api/auth/login")).isEqualTo(1);
+        assertThat(matcher.match("/api/auth/signup/extra")).isEqualTo(-1);
+        assertThat(matcher.match("/api/auth")).isEqualTo(-1);
+        assertThat(matcher.match(null)).isEqualTo(-1);
+    }
+
+    @Test
+    void 가장_짧은_접두사_규칙이_우선() {
+        PublicRouteMatcher matcher = matcher("/api/products/search", "/api/**");
+
+        assertThat(matcher.match("/api/products/search")).isEqualTo(1);
+        assertThat(matcher.match("/api/anything")).isEqualTo(1);
+    }
+
+    @Test
+    void 공백_규칙은_무시하고_앞뒤_공백은_제거() {
+        PublicRouteMatcher matcher = matcher(" ", " /ws/** ");
+
+        assertThat(matcher.match("/ws/chat")).isZero();
+        assertThat(matcher.skipCounts()).containsOnlyKeys("/ws/**");
+    }
+
+    @Test
+    void matches_는_요청_URI_기준() {
+        PublicRouteMatcher matcher = matcher("/ws/**");
+
+        assertThat(matcher.matches(new MockHttpServletRequest("GET", "/ws/chat"))).isTrue();
+        assertThat(matcher.matches(new MockHttpServletRequest("GET", "/api/users"))).isFalse();
+    }
+
+    @Test
+    void matchAndCount_규칙별_스킵_횟수_집계() {
+        PublicRouteMatcher matcher = matcher("/ws/**", "/api/auth/login");
+
+        matcher.matchAndCount("/ws/a");
+        matcher.matchAndCount("/ws/b");
+        matcher.matchAndCount("/api/auth/login");
+        assertThat(matcher.matchAndCount("/api/users")).isFalse();
+
+        assertThat(matcher.skipCounts()).containsExactly(
+                entry("/ws/**", 2L),
+                entry("/api/auth/login", 1L));
+    }
+}
@@ -0,0 +1,87 @@
+package com.my.backend.ratelimit;
+
+import jakarta.servlet.GenericServlet;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.apache.catalina.filters.RemoteIpFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockFilterConfig;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 운영과 같은 구성: 신뢰 프록시 처리(RemoteIpFilter = RemoteIpValve 와 같은 규칙) → RateLimitFilter
+class RateLimitFilterTest {
+
+    private static final String NGINX = "172.18.0.5";
+    private static final String CLIENT = "198.51.100.7";
+
+    private final RateLimitService rateLimitService = mock(RateLimitService.class);
+    private final RateLimitFilter rateLimitFilter = new RateLimitFilter(rateLimitService);
+    private final RemoteIpFilter remoteIpFilter = new RemoteIpFilter();
+
+    @BeforeEach
+    void setUp() throws ServletException {
+        // internal-proxies 기본값 (사설/루프백 대역)
+        remoteIpFilter.init(new MockFilterConfig());
+        when(rateLimitService.tryAcquire(any(), any(), anyInt(), any(Duration.class))).thenReturn(true);
+    }
+
+    @Test
+    void 조작한_X_Forwarded_For_는_키를_바꾸지_못함() throws Exception {
+        // 클라이언트가 보낸 값 뒤에 nginx 가 실제 접속 주소를 덧붙임
+        login(NGINX, "1.2.3.4, " + CLIENT);
+        login(NGINX, "5.6.7.8, " + CLIENT);
+        login(NGINX, "10.0.0.1, " + CLIENT);
+
+        verify(rateLimitService, times(3))
+                .tryAcquire(eq("login"), eq(CLIENT), anyInt(), any(Duration.class));
+    }
+
+    @Test
+    void 신뢰하지_않는_주소에서_온_X_Forwarded_For_는_무시() throws Exception {
+        login(CLIENT, "1.2.3.4");
+
+        verify(rateLimitService).tryAcquire(eq("login"), eq(CLIENT), anyInt(), any(Duration.class));
+    }
+
+    @Test
+    void 제한_초과_시_429() throws Exception {
+        when(rateLimitService.tryAcquire(any(), any(), anyInt(), any(Duration.class))).thenReturn(false);
+
+        MockHttpServletResponse response = login(NGINX, CLIENT);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("60");
+    }
+
+    private MockHttpServletResponse login(String remoteAddr, String forwardedFor) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new MockFilterChain(new NoOpServlet(), remoteIpFilter, rateLimitFilter)
+                .doFilter(request, response);
+        return response;
+    }
+
+    private static class NoOpServlet extends GenericServlet {
+        @Override
+        public void service(ServletRequest request, ServletResponse response) {
+        }
+    }
+}
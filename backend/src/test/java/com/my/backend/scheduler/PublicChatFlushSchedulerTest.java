@@ -0,0 +1,101 @@
+package com.my.backend.scheduler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.backend.dto.PublicChatDto;
+import com.my.backend.service.ChattingService;
+import com.my.backend.service.PublicChatHistory;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class PublicChatFlushSchedulerTest {
+
+    private static final long POISON_ID = 2L;
+
+    private final ChattingService chattingService = mock(ChattingService.class);
+    private final PublicChatHistory history = new PublicChatHistory(50, 3, new ObjectMapper().findAndRegisterModules());
+    private final PublicChatFlushScheduler scheduler = new PublicChatFlushScheduler(chattingService, history);
+
+    private final List<Long> saved = new ArrayList<>();
+    private boolean dbDown;
+
+    private PublicChatHistory.Entry publish(long publicChatId) {
+        return history.append(PublicChatDto.builder()
+                .publicChatId(publicChatId)
+                .userId(100L)
+                .content("message " + publicChatId)
+                .createdAt(LocalDateTime.now())
+                .isDeleted(false)
+                .build());
+    }
+
+    private void stubPersist() {
+        doAnswer(invocation -> {
+            List<PublicChatHistory.PendingChat> batch = invocation.getArgument(0);
+            if (dbDown) {
+                throw new CannotCreateTransactionException("커넥션 없음");
+            }
+            if (batch.stream().anyMatch(c -> c.getPublicChatId() == POISON_ID)) {
+                throw new DataIntegrityViolationException("제약 위반");
+            }
+            batch.forEach(c -> saved.add(c.getPublicChatId()));
+            return null;
+        }).when(chattingService).persistPublicChats(anyList());
+    }
+
+    @Test
+    void 대기열이_가득_차면_발행하지_않음() {
+        assertThat(publish(1)).isNotNull();
+        assertThat(publish(2)).isNotNull();
+        assertThat(publish(3)).isNotNull();
+
+        assertThat(publish(4)).isNull();
+        assertThat(history.pendingSize()).isEqualTo(3);
+        assertThat(history.recentJson()).doesNotContain("message 4");
+    }
+
+    @Test
+    void 실패한_메시지만_재시도하고_횟수_초과_시_포기() {
+        stubPersist();
+        publish(1);
+        publish(POISON_ID);
+        publish(3);
+
+        scheduler.flush();
+
+        assertThat(saved).containsExactly(1L, 3L);
+        assertThat(history.pendingSize()).isEqualTo(1);
+
+        for (int i = 0; i < 10; i++) scheduler.flush();
+
+        assertThat(history.pendingSize()).isZero();
+        assertThat(saved).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void DB_장애_중에는_버리지_않고_복구_후_저장() {
+        stubPersist();
+        dbDown = true;
+        publish(1);
+        publish(3);
+
+        for (int i = 0; i < 10; i++) scheduler.flush();
+
+        assertThat(history.pendingSize()).isEqualTo(2);
+
+        dbDown = false;
+        scheduler.flush();
+
+        assertThat(saved).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(history.pendingSize()).isZero();
+    }
+}
@@ -0,0 +1,60 @@
+package com.my.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BanRegistryTest {
+
+    private static final LocalDateTime UNTIL = LocalDateTime.now().plusDays(1);
+
+    private final BanRegistry registry = new BanRegistry();
+
+    @Test
+    void DB_활성_제재_목록으로_추가와_제거() {
+        registry.put(1L, UNTIL, "old");
+        long snapshot = registry.version();
+
+        registry.replaceAll(Map.of(2L, new BanRegistry.ActiveBan(UNTIL, "db")), snapshot);
+
+        assertThat(registry.isBanned(1L)).isFalse();
+        assertThat(registry.isBanned(2L)).isTrue();
+    }
+
+    @Test
+    void 스냅샷_이후_제재는_동기화로_지워지지_않음() {
+        long snapshot = registry.version();
+        // DB 조회 후 반영 전에 커밋된 제재
+        registry.put(1L, UNTIL, "new");
+
+        registry.replaceAll(Map.of(), snapshot);
+
+        assertThat(registry.isBanned(1L)).isTrue();
+    }
+
+    @Test
+    void 스냅샷_이후_해제는_동기화로_되살아나지_않음() {
+        registry.put(1L, UNTIL, "ban");
+        long snapshot = registry.version();
+        registry.remove(1L);
+
+        registry.replaceAll(Map.of(1L, new BanRegistry.ActiveBan(UNTIL, "ban")), snapshot);
+
+        assertThat(registry.isBanned(1L)).isFalse();
+    }
+
+    @Test
+    void 다음_동기화부터는_DB_값을_따름() {
+        long first = registry.version();
+        registry.put(1L, UNTIL, "new");
+        registry.replaceAll(Map.of(), first);
+
+        // 다른 인스턴스에서 해제됨
+        registry.replaceAll(Map.of(), registry.version());
+
+        assertThat(registry.isBanned(1L)).isFalse();
+    }
+}
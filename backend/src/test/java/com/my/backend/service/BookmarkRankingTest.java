@@ -0,0 +1,100 @@
+package com.my.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookmarkRankingTest {
+
+    private final BookmarkRanking ranking = new BookmarkRanking();
+
+    @Test
+    void top_찜수_내림차순_같으면_productId_오름차순() {
+        ranking.replaceAll(Map.of(1L, 3L, 2L, 5L, 3L, 3L), Set.of(1L, 2L, 3L));
+
+        assertThat(ranking.top(10)).containsExactly(2L, 1L, 3L);
+        assertThat(ranking.top(2)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void add_순위_갱신_및_0_미만으로_내려가지_않음() {
+        ranking.setActive(1L, true);
+        ranking.setActive(2L, true);
+        ranking.add(1L, 1);
+        ranking.add(2L, 1);
+        ranking.add(2L, 1);
+
+        assertThat(ranking.top(10)).containsExactly(2L, 1L);
+
+        ranking.add(1L, -1);
+        ranking.add(1L, -1);
+
+        assertThat(ranking.count(1L)).isZero();
+        assertThat(ranking.top(10)).containsExactly(2L);
+    }
+
+    @Test
+    void 판매중이_아닌_상품은_순위에서_제외되고_찜수는_유지() {
+        ranking.replaceAll(Map.of(1L, 4L, 2L, 2L), Set.of(1L, 2L));
+
+        ranking.setActive(1L, false);
+
+        assertThat(ranking.top(10)).containsExactly(2L);
+        assertThat(ranking.count(1L)).isEqualTo(4L);
+
+        ranking.setActive(1L, true);
+
+        assertThat(ranking.top(10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void drainDirty_변경된_상품을_한번만_반환() {
+        ranking.add(1L, 1);
+        ranking.add(1L, 1);
+        ranking.add(2L, 1);
+
+        assertThat(ranking.drainDirty()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ranking.drainDirty()).isEmpty();
+
+        ranking.restoreDirty(List.of(2L));
+
+        assertThat(ranking.drainDirty()).containsExactly(2L);
+    }
+
+    @Test
+    void replaceAll_DB_미반영_상품은_메모리_값_유지() {
+        ranking.replaceAll(Map.of(1L, 1L, 2L, 1L), Set.of(1L, 2L));
+        ranking.add(1L, 1);
+
+        // DB 에는 아직 1L 의 증가분이 없음
+        ranking.replaceAll(Map.of(1L, 1L, 2L, 3L), Set.of(1L, 2L));
+
+        assertThat(ranking.count(1L)).isEqualTo(2L);
+        assertThat(ranking.count(2L)).isEqualTo(3L);
+        assertThat(ranking.top(10)).containsExactly(2L, 1L);
+
+        // 반영 후에는 DB 값 기준
+        ranking.drainDirty();
+        ranking.replaceAll(Map.of(1L, 5L), Set.of(1L));
+
+        assertThat(ranking.count(1L)).isEqualTo(5L);
+        assertThat(ranking.count(2L)).isZero();
+        assertThat(ranking.top(10)).containsExactly(1L);
+    }
+
+    @Test
+    void remove_찜수와_순위에서_모두_제거() {
+        ranking.replaceAll(Map.of(1L, 2L), Set.of(1L));
+        ranking.add(1L, 1);
+
+        ranking.remove(1L);
+
+        assertThat(ranking.count(1L)).isZero();
+        assertThat(ranking.top(10)).isEmpty();
+        assertThat(ranking.drainDirty()).isEmpty();
+    }
+}
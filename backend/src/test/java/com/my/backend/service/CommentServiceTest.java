@@ -0,0 +1,84 @@
+package com.my.backend.service;
+
+import com.my.backend.dto.CommentDto;
+import com.my.backend.dto.CursorPageDto;
+import com.my.backend.repository.ArticleRepository;
+import com.my.backend.repository.CommentRepository;
+import com.my.backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 댓글 트리 조립 (buildTree) + 최상위 댓글 커서 페이지
+class CommentServiceTest {
+
+    private static final Long ARTICLE_ID = 1L;
+
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+    private final CommentService commentService = new CommentService(
+            commentRepository,
+            mock(ArticleRepository.class),
+            mock(UserRepository.class),
+            mock(NotificationService.class),
+            new CommentThreadCache(60_000, 10));
+
+    private static CommentDto row(long commentId, Long parentId) {
+        return new CommentDto(commentId, ARTICLE_ID, 100L, "user", "content " + commentId,
+                null, null, "title", parentId);
+    }
+
+    @Test
+    void 답글은_부모_아래로_연결되고_하위_답글_수를_누적() {
+        // 1 ─ 2 ─ 4
+        //   └ 3
+        // 5 ─ 6
+        // 7
+        when(commentRepository.findRowsByArticleId(ARTICLE_ID)).thenReturn(List.of(
+                row(1, null), row(2, 1L), row(3, 1L), row(4, 2L),
+                row(5, null), row(6, 5L), row(7, null)));
+
+        List<CommentDto> roots = commentService.getCommentThreadPage(ARTICLE_ID, null, 10).getContent();
+
+        assertThat(roots).extracting(CommentDto::getCommentId).containsExactly(1L, 5L, 7L);
+        assertThat(roots).extracting(CommentDto::getReplyCount).containsExactly(3, 1, 0);
+
+        CommentDto first = roots.get(0);
+        assertThat(first.getReplies()).extracting(CommentDto::getCommentId).containsExactly(2L, 3L);
+        assertThat(first.getReplies().get(0).getReplyCount()).isEqualTo(1);
+        assertThat(first.getReplies().get(0).getReplies()).extracting(CommentDto::getCommentId).containsExactly(4L);
+    }
+
+    @Test
+    void 부모가_없는_답글은_최상위로() {
+        // 부모 댓글이 목록에 없음 (삭제 등)
+        when(commentRepository.findRowsByArticleId(ARTICLE_ID)).thenReturn(List.of(
+                row(2, 1L), row(3, 2L)));
+
+        List<CommentDto> roots = commentService.getCommentThreadPage(ARTICLE_ID, null, 10).getContent();
+
+        assertThat(roots).extracting(CommentDto::getCommentId).containsExactly(2L);
+        assertThat(roots.get(0).getReplyCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 최상위_댓글_기준_커서_페이지() {
+        when(commentRepository.findRowsByArticleId(ARTICLE_ID)).thenReturn(List.of(
+                row(1, null), row(2, 1L), row(3, null), row(4, null), row(5, 3L), row(6, null)));
+
+        CursorPageDto<CommentDto> first = commentService.getCommentThreadPage(ARTICLE_ID, null, 2);
+
+        assertThat(first.getContent()).extracting(CommentDto::getCommentId).containsExactly(1L, 3L);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursorId()).isEqualTo(3L);
+
+        CursorPageDto<CommentDto> second = commentService.getCommentThreadPage(ARTICLE_ID, first.getNextCursorId(), 2);
+
+        assertThat(second.getContent()).extracting(CommentDto::getCommentId).containsExactly(4L, 6L);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursorId()).isNull();
+    }
+}
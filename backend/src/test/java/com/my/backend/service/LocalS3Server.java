@@ -0,0 +1,237 @@
+package com.my.backend.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.my.backend.config.AwsS3Config;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * S3 업로드 테스트용 로컬 S3 호환 서버 (단일 버킷, 메모리 저장)
+ *
+ * - PutObject / 멀티파트 업로드(생성, part 조회/전송, 완료, 취소) / DeleteObject 만 지원
+ * - HTTP 엔드포인트에서 SDK 가 보내는 aws-chunked 본문을 풀어서 저장
+ * - failKeyword 가 포함된 키로의 업로드는 403 으로 거절
+ * - uploader() 는 AwsS3Config 의 엔드포인트 오버라이드로 이 서버에 연결 (1MB 초과 파일은 멀티파트)
+ */
+class LocalS3Server {
+
+    static final String BUCKET = "test-bucket";
+
+    private final HttpServer server;
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    private final AtomicInteger uploadIds = new AtomicInteger();
+    private final AtomicInteger completedMultipartUploads = new AtomicInteger();
+    private volatile String failKeyword;
+    private TransferManager transferManager;
+
+    private LocalS3Server() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "local-s3");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    static LocalS3Server start() throws IOException {
+        LocalS3Server s3 = new LocalS3Server();
+        s3.server.start();
+        return s3;
+    }
+
+    S3Uploader uploader() {
+        AwsS3Config config = new AwsS3Config();
+        ReflectionTestUtils.setField(config, "accessKey", "test");
+        ReflectionTestUtils.setField(config, "secretKey", "test");
+        ReflectionTestUtils.setField(config, "region", "ap-northeast-2");
+        ReflectionTestUtils.setField(config, "endpoint", endpoint());
+        ReflectionTestUtils.setField(config, "transferThreads", 4);
+        ReflectionTestUtils.setField(config, "multipartThresholdMb", 1L);
+        ReflectionTestUtils.setField(config, "partSizeMb", 1L);
+
+        AmazonS3 amazonS3 = config.amazonS3Client();
+        transferManager = config.transferManager(amazonS3);
+        S3Uploader uploader = new S3Uploader(amazonS3, transferManager);
+        ReflectionTestUtils.setField(uploader, "bucket", BUCKET);
+        ReflectionTestUtils.setField(uploader, "activeProfile", "test");
+        return uploader;
+    }
+
+    void stop() {
+        if (transferManager != null) transferManager.shutdownNow(true);
+        server.stop(0);
+    }
+
+    String endpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    void failUploadsContaining(String keyword) {
+        this.failKeyword = keyword;
+    }
+
+    byte[] object(String key) {
+        return objects.get(key);
+    }
+
+    Set<String> keys() {
+        return objects.keySet();
+    }
+
+    int completedMultipartUploads() {
+        return completedMultipartUploads.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getRawPath();
+            String prefix = "/" + BUCKET + "/";
+            if (!path.startsWith(prefix)) {
+                reply(exchange, 404, error("NoSuchBucket"));
+                return;
+            }
+            String key = URLDecoder.decode(path.substring(prefix.length()), StandardCharsets.UTF_8);
+            Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+            String method = exchange.getRequestMethod();
+
+            if (("PUT".equals(method) || query.containsKey("uploads"))
+                    && failKeyword != null && key.contains(failKeyword)) {
+                exchange.getRequestBody().readAllBytes();
+                reply(exchange, 403, error("AccessDenied"));
+                return;
+            }
+
+            switch (method) {
+                case "PUT" -> {
+                    byte[] body = body(exchange);
+                    if (query.containsKey("uploadId")) {
+                        uploads.get(query.get("uploadId")).put(Integer.parseInt(query.get("partNumber")), body);
+                    } else {
+                        objects.put(key, body);
+                    }
+                    exchange.getResponseHeaders().add("ETag", "\"" + md5(body) + "\"");
+                    reply(exchange, 200, null);
+                }
+                case "GET" -> {
+                    // 멀티파트 업로드 시작 직후 SDK 가 이미 올라간 part 를 조회 (재개용) → 항상 없음
+                    if (!query.containsKey("uploadId")) {
+                        reply(exchange, 405, error("MethodNotAllowed"));
+                        return;
+                    }
+                    reply(exchange, 200, "<ListPartsResult><Bucket>" + BUCKET + "</Bucket><Key>" + key
+                            + "</Key><UploadId>" + query.get("uploadId") + "</UploadId><IsTruncated>false</IsTruncated></ListPartsResult>");
+                }
+                case "POST" -> {
+                    exchange.getRequestBody().readAllBytes();
+                    if (query.containsKey("uploads")) {
+                        String uploadId = "upload-" + uploadIds.incrementAndGet();
+                        uploads.put(uploadId, new TreeMap<>());
+                        reply(exchange, 200, "<InitiateMultipartUploadResult><Bucket>" + BUCKET + "</Bucket><Key>"
+                                + key + "</Key><UploadId>" + uploadId + "</UploadId></InitiateMultipartUploadResult>");
+                    } else {
+                        Map<Integer, byte[]> parts = uploads.remove(query.get("uploadId"));
+                        ByteArrayOutputStream object = new ByteArrayOutputStream();
+                        for (byte[] part : parts.values()) object.write(part);
+                        objects.put(key, object.toByteArray());
+                        completedMultipartUploads.incrementAndGet();
+                        reply(exchange, 200, "<CompleteMultipartUploadResult><Location>" + endpoint() + path
+                                + "</Location><Bucket>" + BUCKET + "</Bucket><Key>" + key + "</Key><ETag>\""
+                                + md5(object.toByteArray()) + "-" + parts.size() + "\"</ETag></CompleteMultipartUploadResult>");
+                    }
+                }
+                case "DELETE" -> {
+                    if (query.containsKey("uploadId")) {
+                        uploads.remove(query.get("uploadId"));
+                    } else {
+                        objects.remove(key);
+                    }
+                    reply(exchange, 204, null);
+                }
+                default -> reply(exchange, 405, error("MethodNotAllowed"));
+            }
+        }
+    }
+
+    // HTTP 에서는 SDK 가 본문을 aws-chunked 로 보냄 ("크기(16진수);chunk-signature=...\r\n데이터\r\n" 반복, 크기 0 으로 종료)
+    private static byte[] body(HttpExchange exchange) throws IOException {
+        byte[] raw = exchange.getRequestBody().readAllBytes();
+        String sha256 = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+        if (sha256 == null || !sha256.startsWith("STREAMING-")) return raw;
+
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        int pos = 0;
+        while (true) {
+            int lineEnd = indexOfCrlf(raw, pos);
+            String header = new String(raw, pos, lineEnd - pos, StandardCharsets.US_ASCII);
+            int size = Integer.parseInt(header.substring(0, header.indexOf(';')), 16);
+            if (size == 0) return decoded.toByteArray();
+            decoded.write(raw, lineEnd + 2, size);
+            pos = lineEnd + 2 + size + 2;
+        }
+    }
+
+    private static int indexOfCrlf(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length - 1; i++) {
+            if (bytes[i] == '\r' && bytes[i + 1] == '\n') return i;
+        }
+        throw new IllegalArgumentException("잘못된 aws-chunked 본문");
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) return query;
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            query.put(name, value);
+        }
+        return query;
+    }
+
+    private static String error(String code) {
+        return "<Error><Code>" + code + "</Code><Message>" + code + "</Message></Error>";
+    }
+
+    private static void reply(HttpExchange exchange, int status, String xml) throws IOException {
+        if (xml == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        byte[] bytes = xml.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String md5(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
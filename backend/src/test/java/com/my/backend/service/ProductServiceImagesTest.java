@@ -0,0 +1,141 @@
+package com.my.backend.service;
+
+import com.my.backend.dto.ImageDto;
+import com.my.backend.entity.Product;
+import com.my.backend.entity.Users;
+import com.my.backend.enums.ImageType;
+import com.my.backend.enums.ProductType;
+import com.my.backend.enums.Role;
+import com.my.backend.repository.BidRepository;
+import com.my.backend.repository.BookMarkRepository;
+import com.my.backend.repository.ImageRepository;
+import com.my.backend.repository.PaymentRepository;
+import com.my.backend.repository.ProductRepository;
+import com.my.backend.repository.ProductViewLogRepository;
+import com.my.backend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+
+import static com.my.backend.service.S3UploaderTest.file;
+import static com.my.backend.service.S3UploaderTest.randomBytes;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 상품 이미지 세트: 로컬 S3 호환 서버로 동시 업로드 → 전송이 모두 끝난 뒤 이미지 행 저장
+class ProductServiceImagesTest {
+
+    private static final Long PRODUCT_ID = 10L;
+    private static final Long SELLER_ID = 1L;
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final ImageRepository imageRepository = mock(ImageRepository.class);
+
+    private LocalS3Server s3;
+    private ProductService productService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        s3 = LocalS3Server.start();
+        productService = new ProductService(
+                productRepository,
+                mock(BidRepository.class),
+                userRepository,
+                mock(PaymentRepository.class),
+                mock(BookMarkRepository.class),
+                imageRepository,
+                mock(EntityManager.class),
+                mock(ProductViewLogRepository.class),
+                mock(ProductLocationIndex.class),
+                mock(SellerRatingIndex.class),
+                s3.uploader());
+
+        Users seller = Users.builder().userId(SELLER_ID).role(Role.USER).build();
+        Product product = Product.builder().productId(PRODUCT_ID).seller(seller).productType(ProductType.USED).build();
+        when(productRepository.findById(PRODUCT_ID)).thenReturn(Optional.of(product));
+        when(userRepository.findById(SELLER_ID)).thenReturn(Optional.of(seller));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(Users.builder().userId(2L).role(Role.USER).build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3.stop();
+    }
+
+    @Test
+    void 업로드가_끝난_뒤_입력_순서대로_이미지_저장() throws IOException {
+        when(imageRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<ImageDto> images = productService.uploadProductImages(PRODUCT_ID,
+                List.of(file("1.jpg", randomBytes(2_000_000)), file("2.jpg", randomBytes(10_000)), file("3.jpg", randomBytes(10_000))),
+                "uploads/product", SELLER_ID).join();
+
+        assertThat(images).extracting(ImageDto::getImagePath)
+                .satisfiesExactly(
+                        path -> assertThat(path).endsWith("_1.jpg"),
+                        path -> assertThat(path).endsWith("_2.jpg"),
+                        path -> assertThat(path).endsWith("_3.jpg"));
+        assertThat(images).allSatisfy(image -> {
+            assertThat(image.getRefId()).isEqualTo(PRODUCT_ID);
+            assertThat(image.getImageType()).isEqualTo(ImageType.PRODUCT);
+            assertThat(image.getProductType()).isEqualTo(ProductType.USED);
+        });
+        // 저장된 행의 URL 은 모두 실제로 올라간 객체
+        assertThat(s3.keys()).hasSize(3);
+        images.forEach(image -> assertThat(s3.keys()).contains(s3KeyOf(image.getImagePath())));
+    }
+
+    @Test
+    void 업로드가_실패하면_이미지를_저장하지_않음() {
+        s3.failUploadsContaining("broken");
+
+        assertThatThrownBy(() -> productService.uploadProductImages(PRODUCT_ID,
+                List.of(file("ok.jpg", randomBytes(10_000)), file("broken.jpg", randomBytes(10_000))),
+                "uploads/product", SELLER_ID).join())
+                .isInstanceOf(CompletionException.class);
+
+        verify(imageRepository, never()).saveAll(anyList());
+        assertThat(s3.keys()).isEmpty();
+    }
+
+    @Test
+    void 저장이_실패하면_올라간_파일_정리() {
+        when(imageRepository.saveAll(anyList())).thenThrow(new IllegalStateException("DB 오류"));
+
+        assertThatThrownBy(() -> productService.uploadProductImages(PRODUCT_ID,
+                List.of(file("1.jpg", randomBytes(10_000)), file("2.jpg", randomBytes(10_000))),
+                "uploads/product", SELLER_ID).join())
+                .isInstanceOf(CompletionException.class)
+                .hasRootCauseMessage("DB 오류");
+
+        assertThat(s3.keys()).isEmpty();
+    }
+
+    @Test
+    void 판매자나_관리자가_아니면_업로드하지_않고_403() {
+        assertThatThrownBy(() -> productService.uploadProductImages(PRODUCT_ID,
+                List.of(file("1.jpg", randomBytes(10_000))), "uploads/product", 2L))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN));
+
+        assertThat(s3.keys()).isEmpty();
+    }
+
+    private static String s3KeyOf(String url) {
+        return url.substring(url.indexOf(LocalS3Server.BUCKET) + LocalS3Server.BUCKET.length() + 1);
+    }
+}
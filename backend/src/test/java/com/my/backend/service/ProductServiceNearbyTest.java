@@ -0,0 +1,62 @@
+package com.my.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+// 주변 상품 조회 입력 검증 (공개 API → NaN/Infinity 로 색인 순회가 끝나지 않으면 안 됨)
+@ExtendWith(MockitoExtension.class)
+@Timeout(value = 1, threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+class ProductServiceNearbyTest {
+
+    @Mock
+    private ProductLocationIndex productLocationIndex;
+
+    @InjectMocks
+    private ProductService productService;
+
+    @Test
+    void 유한하지_않은_좌표는_400() {
+        assertBadRequest(Double.NaN, 127.0, 5);
+        assertBadRequest(37.5, Double.NaN, 5);
+        assertBadRequest(Double.POSITIVE_INFINITY, 127.0, 5);
+        assertBadRequest(37.5, Double.NEGATIVE_INFINITY, 5);
+    }
+
+    @Test
+    void 유한하지_않은_반경은_400() {
+        assertBadRequest(37.5, 127.0, Double.NaN);
+        assertBadRequest(37.5, 127.0, Double.POSITIVE_INFINITY);
+    }
+
+    @Test
+    void 범위_밖_좌표와_반경은_400() {
+        assertBadRequest(91, 127.0, 5);
+        assertBadRequest(37.5, -181, 5);
+        assertBadRequest(37.5, 127.0, 0);
+    }
+
+    @Test
+    void 유한하지_않은_커서는_400() {
+        assertThatThrownBy(() -> productService.getNearbyProducts(37.5, 127.0, 5, Double.NaN, 1L, 20))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        verifyNoInteractions(productLocationIndex);
+    }
+
+    private void assertBadRequest(double latitude, double longitude, double radiusKm) {
+        assertThatThrownBy(() -> productService.getNearbyProducts(latitude, longitude, radiusKm, null, null, 20))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        verifyNoInteractions(productLocationIndex);
+    }
+}
@@ -0,0 +1,79 @@
+package com.my.backend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 로컬 S3 호환 서버에 실제 SDK(TransferManager) 로 업로드
+class S3UploaderTest {
+
+    private LocalS3Server s3;
+    private S3Uploader uploader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        s3 = LocalS3Server.start();
+        uploader = s3.uploader();
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3.stop();
+    }
+
+    static MockMultipartFile file(String name, byte[] content) {
+        return new MockMultipartFile("files", name, "image/jpeg", content);
+    }
+
+    static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    @Test
+    void 여러_파일을_동시에_올리고_입력_순서대로_URL_반환() throws IOException {
+        byte[] small = randomBytes(10_000);
+        byte[] large = randomBytes(2_500_000); // 1MB part 3개로 멀티파트 전송
+
+        List<String> urls = uploader.uploadAllAsync(
+                List.of(file("a.jpg", small), file("b.jpg", large)), "uploads/product").join();
+
+        assertThat(urls).hasSize(2);
+        assertThat(urls.get(0)).endsWith("_a.jpg");
+        assertThat(urls.get(1)).endsWith("_b.jpg");
+        assertThat(s3.object(uploader.keyOf(urls.get(0)))).isEqualTo(small);
+        assertThat(s3.object(uploader.keyOf(urls.get(1)))).isEqualTo(large);
+        assertThat(s3.completedMultipartUploads()).isEqualTo(1);
+    }
+
+    @Test
+    void 하나라도_실패하면_올라간_파일을_정리하고_실패() {
+        s3.failUploadsContaining("broken");
+
+        assertThatThrownBy(() -> uploader.uploadAllAsync(
+                List.of(file("ok.jpg", randomBytes(10_000)), file("broken.jpg", randomBytes(10_000))),
+                "uploads/product").join())
+                .isInstanceOf(CompletionException.class)
+                .hasMessageContaining("S3 업로드 실패");
+
+        assertThat(s3.keys()).isEmpty();
+    }
+
+    @Test
+    void 단건_업로드는_지정한_파일명_사용() throws IOException {
+        String url = uploader.upload(file("photo.png", randomBytes(1_000)), "uploads/profile", "user_1");
+
+        assertThat(uploader.keyOf(url)).isEqualTo("uploads/profile/test_user_1.png");
+        assertThat(s3.keys()).containsExactly("uploads/profile/test_user_1.png");
+    }
+}
@@ -0,0 +1,105 @@
+package com.my.backend.service;
+
+import com.my.backend.dto.RatingSummaryDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.within;
+
+class SellerRatingIndexTest {
+
+    private final SellerRatingIndex index = new SellerRatingIndex();
+
+    @Test
+    void 평균과_평점별_개수_집계() {
+        index.add(1L, 5, 3);
+        index.add(1L, 4);
+
+        RatingSummaryDto summary = index.summary(1L);
+
+        assertThat(summary.getReviewCount()).isEqualTo(4L);
+        assertThat(summary.getAverageRating()).isCloseTo(4.75, within(1e-9));
+        assertThat(summary.getHistogram()).containsExactly(
+                entry(5, 3L), entry(4, 1L), entry(3, 0L), entry(2, 0L), entry(1, 0L));
+    }
+
+    @Test
+    void 리뷰_없는_유저는_0() {
+        RatingSummaryDto summary = index.summary(9L);
+
+        assertThat(index.average(9L)).isZero();
+        assertThat(summary.getUserId()).isEqualTo(9L);
+        assertThat(summary.getReviewCount()).isZero();
+        assertThat(summary.getHistogram()).hasSize(5);
+    }
+
+    @Test
+    void 범위_밖_평점은_1_5로_보정하고_잘못된_입력은_무시() {
+        index.add(1L, 9);
+        index.add(1L, -3);
+        index.add(1L, null);
+        index.add(null, 5);
+        index.add(1L, 5, 0);
+
+        RatingSummaryDto summary = index.summary(1L);
+
+        assertThat(summary.getReviewCount()).isEqualTo(2L);
+        assertThat(summary.getHistogram().get(5)).isEqualTo(1L);
+        assertThat(summary.getHistogram().get(1)).isEqualTo(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 평균이_기준_이상일_때만_topRatedUsers_포함() {
+        index.add(1L, 5);
+        index.add(2L, 4);
+
+        assertThat(index.topRatedUsers()).containsExactly(1L);
+
+        // 5,4 → 4.5 (기준과 같으면 포함)
+        index.add(1L, 4);
+        assertThat(index.topRatedUsers()).containsExactly(1L);
+
+        index.add(1L, 1);
+        assertThat(index.topRatedUsers()).isEmpty();
+    }
+
+    @Test
+    void replaceAll_DB_집계로_평균과_상위_판매자를_교체() {
+        // 이 노드에서만 반영된 값
+        index.add(1L, 5);
+        index.add(2L, 1);
+
+        // DB 기준: 1L 은 다른 노드의 낮은 평점 포함, 2L 은 높은 평점, 3L 은 새 판매자
+        index.replaceAll(List.of(
+                new Object[]{1L, 5, 1L},
+                new Object[]{1L, 2, 1L},
+                new Object[]{2L, 5, 4L},
+                new Object[]{3L, 5, 2L},
+                new Object[]{null, 5, 1L}));
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.average(1L)).isCloseTo(3.5, within(1e-9));
+        assertThat(index.summary(2L).getReviewCount()).isEqualTo(4L);
+        assertThat(index.topRatedUsers()).containsExactlyInAnyOrder(2L, 3L);
+
+        // 교체 후 이 노드의 새 리뷰는 새 색인에 반영
+        index.add(3L, 1);
+        assertThat(index.average(3L)).isCloseTo(11.0 / 3, within(1e-9));
+        assertThat(index.topRatedUsers()).containsExactly(2L);
+    }
+
+    @Test
+    void clear_전체_초기화() {
+        index.add(1L, 5);
+
+        index.clear();
+
+        assertThat(index.size()).isZero();
+        assertThat(index.topRatedUsers()).isEmpty();
+        assertThat(index.average(1L)).isZero();
+    }
+}
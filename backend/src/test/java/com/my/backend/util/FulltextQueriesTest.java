@@ -0,0 +1,43 @@
+package com.my.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FulltextQueriesTest {
+
+    @Test
+    void booleanQuery_단어마다_필수_구문() {
+        assertThat(FulltextQueries.booleanQuery("니트 원피스")).isEqualTo("+\"니트\" +\"원피스\"");
+        assertThat(FulltextQueries.booleanQuery("  니트\t  원피스 ")).isEqualTo("+\"니트\" +\"원피스\"");
+    }
+
+    @Test
+    void booleanQuery_소문자로_정규화() {
+        assertThat(FulltextQueries.booleanQuery("Nike AIR")).isEqualTo("+\"nike\" +\"air\"");
+    }
+
+    @Test
+    void booleanQuery_따옴표_제거() {
+        assertThat(FulltextQueries.booleanQuery("\"새상품\"")).isEqualTo("+\"새상품\"");
+    }
+
+    @Test
+    void booleanQuery_토큰보다_짧은_단어가_있으면_null() {
+        assertThat(FulltextQueries.booleanQuery("니")).isNull();
+        assertThat(FulltextQueries.booleanQuery("니트 a")).isNull();
+        assertThat(FulltextQueries.booleanQuery("\"a\"")).isNull();
+    }
+
+    @Test
+    void booleanQuery_검색할_단어가_없으면_null() {
+        assertThat(FulltextQueries.booleanQuery(null)).isNull();
+        assertThat(FulltextQueries.booleanQuery("   ")).isNull();
+    }
+
+    @Test
+    void normalize_null_은_빈_문자열() {
+        assertThat(FulltextQueries.normalize(null)).isEmpty();
+        assertThat(FulltextQueries.normalize(" AbC ")).isEqualTo("abc");
+    }
+}
@@ -0,0 +1,82 @@
+package com.my.backend.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoHashTest {
+
+    @Test
+    void encode_알려진_값() {
+        // 위키백과 예시 좌표
+        assertThat(GeoHash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(GeoHash.encode(37.5665, 126.9780, 5)).isEqualTo("wydm9");
+    }
+
+    @Test
+    void bounds_는_원래_좌표를_포함하고_격자_크기와_일치() {
+        double lat = 37.5665, lon = 126.9780;
+        for (int precision = 1; precision <= 9; precision++) {
+            double[] b = GeoHash.bounds(GeoHash.encode(lat, lon, precision));
+
+            assertThat(lat).isBetween(b[0], b[1]);
+            assertThat(lon).isBetween(b[2], b[3]);
+            assertThat(b[1] - b[0]).isCloseTo(GeoHash.cellHeight(precision), within(1e-9));
+            assertThat(b[3] - b[2]).isCloseTo(GeoHash.cellWidth(precision), within(1e-9));
+        }
+    }
+
+    @Test
+    void center_를_다시_인코딩하면_같은_geohash() {
+        String geohash = GeoHash.encode(35.1796, 129.0756, 7);
+        double[] center = GeoHash.center(geohash);
+
+        assertThat(GeoHash.encode(center[0], center[1], 7)).isEqualTo(geohash);
+    }
+
+    @Test
+    void bounds_잘못된_문자는_예외() {
+        assertThatThrownBy(() -> GeoHash.bounds("wydma"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void covering_범위와_겹치는_격자를_모두_포함() {
+        int precision = 6;
+        double minLat = 37.50, maxLat = 37.53, minLon = 126.95, maxLon = 127.00;
+
+        Set<String> cells = GeoHash.covering(minLat, maxLat, minLon, maxLon, precision);
+
+        // 범위 내 임의 좌표의 격자는 항상 포함
+        for (double lat = minLat; lat <= maxLat; lat += 0.001) {
+            for (double lon = minLon; lon <= maxLon; lon += 0.001) {
+                assertThat(cells).contains(GeoHash.encode(lat, lon, precision));
+            }
+        }
+        // 모든 격자는 범위와 겹침
+        for (String cell : cells) {
+            double[] b = GeoHash.bounds(cell);
+            assertThat(b[0] <= maxLat && b[1] >= minLat && b[2] <= maxLon && b[3] >= minLon).isTrue();
+        }
+    }
+
+    @Test
+    @Timeout(value = 1, threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+    void covering_유한하지_않은_범위는_예외() {
+        assertThatThrownBy(() -> GeoHash.covering(Double.NaN, Double.NaN, 126.9, 127.0, 6))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GeoHash.covering(37.5, 37.6, 126.9, Double.POSITIVE_INFINITY, 6))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void distanceKm_서울_부산() {
+        assertThat(GeoHash.distanceKm(37.5665, 126.9780, 35.1796, 129.0756)).isCloseTo(325, within(5.0));
+        assertThat(GeoHash.distanceKm(37.5, 127.0, 37.5, 127.0)).isZero();
+    }
+}
@@ -0,0 +1,33 @@
+package com.my.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikePatternsTest {
+
+    @Test
+    void prefix_뒤에만_와일드카드() {
+        assertThat(LikePatterns.prefix("  닉네임 ")).isEqualTo("닉네임%");
+    }
+
+    @Test
+    void contains_앞뒤_와일드카드() {
+        assertThat(LikePatterns.contains(" abc ")).isEqualTo("%abc%");
+    }
+
+    @Test
+    void 공백이나_null_은_조건_없음() {
+        assertThat(LikePatterns.prefix(null)).isNull();
+        assertThat(LikePatterns.prefix("   ")).isNull();
+        assertThat(LikePatterns.contains(null)).isNull();
+        assertThat(LikePatterns.contains("")).isNull();
+    }
+
+    @Test
+    void 와일드카드와_escape_문자는_문자_그대로() {
+        assertThat(LikePatterns.escape("50%_할인!")).isEqualTo("50!%!_할인!!");
+        assertThat(LikePatterns.prefix("a_b")).isEqualTo("a!_b%");
+        assertThat(LikePatterns.contains("%")).isEqualTo("%!%%");
+    }
+}
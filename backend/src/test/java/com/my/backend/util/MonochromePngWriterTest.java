@@ -0,0 +1,50 @@
+package com.my.backend.util;
+
+import com.google.zxing.common.BitMatrix;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MonochromePngWriterTest {
+
+    @Test
+    void 디코딩한_픽셀이_BitMatrix_와_일치() throws IOException {
+        // 너비 11 → 행마다 2바이트, 마지막 바이트 일부만 사용
+        BitMatrix matrix = new BitMatrix(11, 5);
+        matrix.set(0, 0);
+        matrix.set(7, 1);
+        matrix.set(8, 2);
+        matrix.set(10, 4);
+        matrix.setRegion(2, 3, 4, 1);
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(MonochromePngWriter.write(matrix)));
+
+        assertThat(image.getWidth()).isEqualTo(11);
+        assertThat(image.getHeight()).isEqualTo(5);
+        for (int y = 0; y < matrix.getHeight(); y++) {
+            for (int x = 0; x < matrix.getWidth(); x++) {
+                int rgb = image.getRGB(x, y) & 0xFFFFFF;
+                assertThat(rgb)
+                        .as("(%d, %d)", x, y)
+                        .isEqualTo(matrix.get(x, y) ? 0x000000 : 0xFFFFFF);
+            }
+        }
+    }
+
+    @Test
+    void PNG_시그니처와_1비트_그레이스케일_헤더() throws IOException {
+        byte[] png = MonochromePngWriter.write(new BitMatrix(3, 2));
+
+        assertThat(png).startsWith((byte) 0x89, (byte) 'P', (byte) 'N', (byte) 'G', (byte) '\r', (byte) '\n', (byte) 0x1A, (byte) '\n');
+        // IHDR 데이터: 8(시그니처) + 4(길이) + 4(타입) 이후 width, height, bit depth, color type
+        assertThat(new String(png, 12, 4, StandardCharsets.US_ASCII)).isEqualTo("IHDR");
+        assertThat(png[24]).isEqualTo((byte) 1);
+        assertThat(png[25]).isEqualTo((byte) 0);
+    }
+}
@@ -1073,6 +1073,55 @@ export async function uploadImageToS3(file: File, dir?: string, customName?: str
   return data.url;
 }
 
+// S3 이미지 여러 장 동시 업로드 (입력 순서대로 URL 반환, DB 등록 없음)
+export async function uploadImagesToS3(files: File[], dir?: string): Promise<string[]> {
+  if (files.length === 0) return [];
+  const formData = new FormData();
+  files.forEach((file) => formData.append("files", file));
+
+  const token = localStorage.getItem("token");
+  const response = await fetch(`${API_BASE_URL}${SPRING_API}/files/s3-upload/batch?dir=${dir || ""}`, {
+    method: "POST",
+    headers: {
+      Authorization: `Bearer ${token}`,
+    },
+    body: formData,
+  });
+
+  if (!response.ok) throw new Error("이미지 업로드 실패");
+
+  const data = await response.json();
+  return data.urls;
+}
+
+// 상품 이미지 세트 업로드 + DB 등록 (서버에서 동시 전송 후 입력 순서대로 등록)
+export async function uploadProductImages(
+  productId: number,
+  files: File[],
+  dir: "product" | "product_detail" = "product"
+): Promise<TYPE.Image[]> {
+  if (files.length === 0) return [];
+  const formData = new FormData();
+  files.forEach((file) => formData.append("files", file));
+
+  const token = localStorage.getItem("token");
+  const response = await fetch(`${API_BASE_URL}${SPRING_API}/products/${productId}/images?dir=${dir}`, {
+    method: "POST",
+    headers: {
+      Authorization: `Bearer ${token}`,
+    },
+    body: formData,
+  });
+
+  if (!response.ok) {
+    const errorText = await response.text();
+    console.error("상품 이미지 업로드 실패:", errorText);
+    throw new Error("상품 이미지 업로드 실패");
+  }
+
+  return response.json();
+}
+
 // 🔹 공통 함수 (private 처럼 사용)
 async function saveImageToDatabase(
   refId: number,
@@ -1176,46 +1225,24 @@ export async function registerProductWithImages(
 
 
 
-  // 2. 메인 이미지 업로드 및 DB 등록 (product 폴더)
-  for (let i = 0; i < images.length; i++) {
-    const file = images[i];
-    console.log(`메인 이미지 ${i + 1}/${images.length} 처리 중:`, file.name);
-
-    try {
-      // 파일명: product_{id}_{index}
-      const customName = `product_${product.productId}_${i}`;
-      const s3Url = await uploadImageToS3(file, "product", customName);
-      console.log(`S3 업로드 성공:`, s3Url);
-
-      await registerProductImage(product.productId, s3Url, productData.productType);
-      console.log(`DB 저장 완료`);
-    } catch (err) {
-      console.error(`메인 이미지 ${i + 1} 처리 실패:`, err);
-      // 하나라도 실패하면 전체 실패로 간주할지, 계속 진행할지 결정해야 함. 일단 throw.
-      throw err;
-    }
+  // 2. 메인 이미지 업로드 및 DB 등록 (product 폴더, 서버에서 동시 전송)
+  try {
+    await uploadProductImages(product.productId, images, "product");
+    console.log(`메인 이미지 ${images.length}건 등록 완료`);
+  } catch (err) {
+    console.error("메인 이미지 처리 실패:", err);
+    throw err;
   }
 
-  // 3. 상세(배너) 이미지 업로드 및 URL 수집
-  const bannerUrls: string[] = [];
-  for (let i = 0; i < bannerImages.length; i++) {
-    const file = bannerImages[i];
-    console.log(`상세 이미지 ${i + 1}/${bannerImages.length} 처리 중:`, file.name);
-
-    try {
-      // 파일명: product_{id}_detail_{index}
-      const customName = `product_${product.productId}_detail_${i}`;
-      const s3Url = await uploadImageToS3(file, "product_detail", customName);
-      console.log(`S3 상세 이미지 업로드 성공:`, s3Url);
-
-      bannerUrls.push(s3Url);
-
-      // (선택) ImageRepository에도 저장 (기존 로직 유지)
-      await registerProductImage(product.productId, s3Url, productData.productType);
-    } catch (err) {
-      console.error(`상세 이미지 ${i + 1} 처리 실패:`, err);
-      throw err;
-    }
+  // 3. 상세(배너) 이미지 업로드 및 URL 수집 (ImageRepository 에도 저장 - 기존 로직 유지)
+  let bannerUrls: string[] = [];
+  try {
+    const bannerRows = await uploadProductImages(product.productId, bannerImages, "product_detail");
+    bannerUrls = bannerRows.map((image) => image.imagePath);
+    console.log(`상세 이미지 ${bannerUrls.length}건 등록 완료`);
+  } catch (err) {
+    console.error("상세 이미지 처리 실패:", err);
+    throw err;
   }
 
   // 4. 상품 정보 업데이트 (productBanners 저장)
@@ -1248,19 +1275,25 @@ export async function updateProductWithImages(
   bannerImages: (File | string)[]
 ): Promise<TYPE.Product> {
 
-  // 1. 메인 이미지 처리
-  const finalImages: Partial<TYPE.Image>[] = [];
+  // 1. 새 파일은 메인/배너 각각 한 번에 동시 업로드 (DB 등록은 최종 업데이트에서)
+  const newImageUrls = await uploadImagesToS3(
+    images.filter((item): item is File => item instanceof File),
+    "product"
+  );
+  const newBannerUrls = await uploadImagesToS3(
+    bannerImages.filter((item): item is File => item instanceof File),
+    "product_detail"
+  );
 
-  for (let i = 0; i < images.length; i++) {
-    const item = images[i];
+  // 2. 메인 이미지 처리 (원래 순서 유지)
+  const finalImages: Partial<TYPE.Image>[] = [];
+  let nextImage = 0;
+  for (const item of images) {
     if (item instanceof File) {
-      console.log(`[Update] 새 메인 이미지 업로드 중 (${i + 1}/${images.length})`);
-      const customName = `product_${productId}_${Date.now()}_${i}`;
-      const s3Url = await uploadImageToS3(item, "product", customName);
       // 새 이미지는 ID 없음 -> DB에서 Insert 됨
       finalImages.push({
         refId: productId,
-        imagePath: s3Url,
+        imagePath: newImageUrls[nextImage++],
         imageType: IMAGE_TYPE.PRODUCT,
         productType: productData.productType, // Ensure productType is passed if needed
       });
@@ -1270,16 +1303,12 @@ export async function updateProductWithImages(
     }
   }
 
-  // 2. 배너(상세) 이미지 처리
+  // 3. 배너(상세) 이미지 처리 (원래 순서 유지)
   const finalBanners: string[] = [];
-
-  for (let i = 0; i < bannerImages.length; i++) {
-    const item = bannerImages[i];
+  let nextBanner = 0;
+  for (const item of bannerImages) {
     if (item instanceof File) {
-      console.log(`[Update] 새 배너 이미지 업로드 중 (${i + 1}/${bannerImages.length})`);
-      const customName = `product_${productId}_detail_${Date.now()}_${i}`;
-      const s3Url = await uploadImageToS3(item, "product_detail", customName);
-      finalBanners.push(s3Url);
+      finalBanners.push(newBannerUrls[nextBanner++]);
     } else {
       // 기존 URL 유지
       // item이 객체일 수도 있고 문자열일 수도 있음 (useProductForm 구현에 따라 다름)
@@ -1292,7 +1321,7 @@ export async function updateProductWithImages(
     }
   }
 
-  // 3. 최종 업데이트 호출
+  // 4. 최종 업데이트 호출
   // images와 productBanners를 포함하여 업데이트 요청
   const payload = {
     ...productData,